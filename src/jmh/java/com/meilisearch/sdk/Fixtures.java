@@ -0,0 +1,89 @@
+package com.meilisearch.sdk;
+
+/** JSON payloads shared by the benchmarks, shaped like Meilisearch responses */
+final class Fixtures {
+    private Fixtures() {}
+
+    /** Typed document of the benchmarks */
+    public static class Movie {
+        public int id;
+        public String title;
+        public String overview;
+        public String release_date;
+        public String[] genres;
+        public double rating;
+
+        public Movie() {}
+    }
+
+    static String movie(int id) {
+        return "{\"id\":"
+                + id
+                + ",\"title\":\"Movie "
+                + id
+                + "\",\"overview\":\"A movie about benchmarks, serialization and the number "
+                + id
+                + ", with enough text to look like a real overview.\""
+                + ",\"release_date\":\"2024-01-01\",\"genres\":[\"Drama\",\"Comedy\"]"
+                + ",\"rating\":7.5}";
+    }
+
+    static String movies(int count) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) builder.append(',');
+            builder.append(movie(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    static String searchResult(int hits) {
+        return "{\"hits\":"
+                + movies(hits)
+                + ",\"query\":\"movie\",\"processingTimeMs\":1,\"limit\":"
+                + hits
+                + ",\"offset\":0,\"estimatedTotalHits\":10000}";
+    }
+
+    static String documents(int count) {
+        return "{\"results\":"
+                + movies(count)
+                + ",\"offset\":0,\"limit\":"
+                + count
+                + ",\"total\":10000}";
+    }
+
+    static String taskInfo(int uid) {
+        return "{\"taskUid\":"
+                + uid
+                + ",\"indexUid\":\"movies\",\"status\":\"enqueued\""
+                + ",\"type\":\"documentAdditionOrUpdate\""
+                + ",\"enqueuedAt\":\"2024-01-01T00:00:00.000Z\"}";
+    }
+
+    static String task(int uid) {
+        return "{\"uid\":"
+                + uid
+                + ",\"indexUid\":\"movies\",\"status\":\"succeeded\""
+                + ",\"type\":\"documentAdditionOrUpdate\",\"canceledBy\":null"
+                + ",\"details\":{\"receivedDocuments\":1000,\"indexedDocuments\":1000}"
+                + ",\"error\":null,\"duration\":\"PT0.5S\""
+                + ",\"enqueuedAt\":\"2024-01-01T00:00:00.000Z\""
+                + ",\"startedAt\":\"2024-01-01T00:00:00.100Z\""
+                + ",\"finishedAt\":\"2024-01-01T00:00:00.600Z\"}";
+    }
+
+    static String settings() {
+        return "{\"displayedAttributes\":[\"*\"],\"searchableAttributes\":[\"title\",\"overview\"]"
+                + ",\"filterableAttributes\":[\"genres\",\"release_date\"]"
+                + ",\"sortableAttributes\":[\"rating\"]"
+                + ",\"rankingRules\":[\"words\",\"typo\",\"proximity\",\"attribute\",\"sort\""
+                + ",\"exactness\"],\"stopWords\":[\"the\",\"a\",\"of\"]"
+                + ",\"synonyms\":{\"movie\":[\"film\"],\"film\":[\"movie\"]}"
+                + ",\"distinctAttribute\":null"
+                + ",\"typoTolerance\":{\"enabled\":true,\"minWordSizeForTypos\":{\"oneTypo\":5"
+                + ",\"twoTypos\":9},\"disableOnWords\":[],\"disableOnAttributes\":[]}"
+                + ",\"faceting\":{\"maxValuesPerFacet\":100}"
+                + ",\"pagination\":{\"maxTotalHits\":1000}}";
+    }
+}
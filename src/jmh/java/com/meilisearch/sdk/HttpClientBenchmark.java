@@ -0,0 +1,107 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.json.JacksonJsonHandler;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.DocumentsQuery;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.Searchable;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Full request round trips through the SDK against an in-process MockWebServer, measuring request
+ * construction, the HTTP stack and response decoding together
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpClientBenchmark {
+    @Param({"gson", "jackson"})
+    public String handler;
+
+    private MockWebServer server;
+    private Index index;
+    private SearchRequest searchRequest;
+    private DocumentsQuery documentsQuery;
+    private String documents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String searchResult = Fixtures.searchResult(20);
+        String documentsResult = Fixtures.documents(100);
+        String taskInfo = Fixtures.taskInfo(1);
+
+        server = new MockWebServer();
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request) {
+                        String path = request.getPath();
+                        if (path.endsWith("/search")) return json(searchResult);
+                        if ("GET".equals(request.getMethod())) return json(documentsResult);
+                        return json(taskInfo).setResponseCode(202);
+                    }
+                });
+        server.start();
+
+        JsonHandler jsonHandler =
+                handler.equals("jackson") ? new JacksonJsonHandler() : new GsonJsonHandler();
+        String hostUrl = "http://" + server.getHostName() + ":" + server.getPort();
+        Config config = new Config(hostUrl, "masterKey", jsonHandler);
+        index = new Client(config).index("movies");
+        searchRequest = SearchRequest.builder().q("movie").limit(20).build();
+        documentsQuery = new DocumentsQuery().setLimit(100);
+        documents = Fixtures.movies(100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    @Benchmark
+    public Searchable search() {
+        return index.search(searchRequest);
+    }
+
+    @Benchmark
+    public String rawSearch() {
+        return index.rawSearch(searchRequest);
+    }
+
+    @Benchmark
+    public Results<Fixtures.Movie> getDocuments() {
+        return index.getDocuments(documentsQuery, Fixtures.Movie.class);
+    }
+
+    @Benchmark
+    public TaskInfo addDocuments() {
+        return index.addDocuments(documents);
+    }
+}
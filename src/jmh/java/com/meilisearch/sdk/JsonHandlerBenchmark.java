@@ -0,0 +1,103 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.json.JacksonJsonHandler;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Encoding and decoding of the response models with each JsonHandler */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonHandlerBenchmark {
+    @Param({"gson", "jackson"})
+    public String handler;
+
+    @Param({"20", "1000"})
+    public int documents;
+
+    private JsonHandler jsonHandler;
+    private String searchResultJson;
+    private byte[] searchResultBytes;
+    private String documentsJson;
+    private String taskJson;
+    private String taskInfoJson;
+    private String settingsJson;
+    private Fixtures.Movie[] movies;
+    private Settings settings;
+
+    @Setup
+    public void setUp() {
+        jsonHandler = handler.equals("jackson") ? new JacksonJsonHandler() : new GsonJsonHandler();
+        searchResultJson = Fixtures.searchResult(documents);
+        searchResultBytes = searchResultJson.getBytes(StandardCharsets.UTF_8);
+        documentsJson = Fixtures.documents(documents);
+        taskJson = Fixtures.task(1);
+        taskInfoJson = Fixtures.taskInfo(1);
+        settingsJson = Fixtures.settings();
+        movies = jsonHandler.decode(Fixtures.movies(documents), Fixtures.Movie[].class);
+        settings = jsonHandler.decode(settingsJson, Settings.class);
+    }
+
+    @Benchmark
+    public SearchResult decodeSearchResult() {
+        return jsonHandler.decode(searchResultJson, SearchResult.class);
+    }
+
+    @Benchmark
+    public SearchResult decodeSearchResultFromStream() {
+        return jsonHandler.decode(
+                new ByteArrayInputStream(searchResultBytes), SearchResult.class);
+    }
+
+    @Benchmark
+    public Results<?> decodeTypedDocuments() {
+        return jsonHandler.decode(documentsJson, Results.class, Fixtures.Movie.class);
+    }
+
+    @Benchmark
+    public String encodeTypedDocuments() {
+        return jsonHandler.encode(movies);
+    }
+
+    @Benchmark
+    public Task decodeTask() {
+        return jsonHandler.decode(taskJson, Task.class);
+    }
+
+    @Benchmark
+    public TaskInfo decodeTaskInfo() {
+        return jsonHandler.decode(taskInfoJson, TaskInfo.class);
+    }
+
+    @Benchmark
+    public Settings decodeSettings() {
+        return jsonHandler.decode(settingsJson, Settings.class);
+    }
+
+    @Benchmark
+    public String encodeSettings() {
+        return jsonHandler.encode(settings);
+    }
+}
@@ -0,0 +1,91 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.DocumentsQuery;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Construction of search payloads, URLs and document batches, without any I/O */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuildingBenchmark {
+    private String documents;
+    private DocumentsQuery documentsQuery;
+    private String[] statuses;
+
+    @Setup
+    public void setUp() {
+        documents = Fixtures.movies(10_000);
+        documentsQuery =
+                new DocumentsQuery()
+                        .setLimit(100)
+                        .setOffset(200)
+                        .setFields(new String[] {"id", "title", "genres"});
+        statuses = new String[] {"enqueued", "processing"};
+    }
+
+    @Benchmark
+    public String searchRequestToString() {
+        return SearchRequest.builder()
+                .q("star wars")
+                .offset(20)
+                .limit(20)
+                .filter(new String[] {"genres = Drama", "rating > 5"})
+                .attributesToRetrieve(new String[] {"id", "title", "overview"})
+                .attributesToHighlight(new String[] {"title"})
+                .sort(new String[] {"rating:desc"})
+                .facets(new String[] {"genres"})
+                .build()
+                .toString();
+    }
+
+    @Benchmark
+    public String documentsUrl() {
+        return new URLBuilder("/indexes")
+                .addSubroute("movies")
+                .addSubroute("documents")
+                .addQuery(documentsQuery.toQuery())
+                .getURL();
+    }
+
+    /** Run with the gc profiler, gc.alloc.rate.norm should stay under 2 KB per URL */
+    @Benchmark
+    public String tasksUrl() {
+        return new URLBuilder("/tasks")
+                .addParameter("limit", 20)
+                .addParameter("from", 1234)
+                .addParameter("statuses", statuses)
+                .addParameter("indexUids", new String[] {"movies"})
+                .getURL();
+    }
+
+    @Benchmark
+    public void splitBatches(Blackhole blackhole) {
+        DocumentBatches batches =
+                new DocumentBatches(
+                        new JsonDocumentIterator(new StringReader(documents)),
+                        new BatchOptions().setMaxDocuments(1000),
+                        null);
+        while (batches.hasNext()) {
+            List<byte[]> batch = batches.nextBatch();
+            blackhole.consume(batch);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.meilisearch.sdk;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.annotations.SerializedName;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Derives the attributes to retrieve from a document class, so that Meilisearch only returns the
+ * attributes the class can hold
+ *
+ * <p>The attributes are the names of the non-static, non-transient fields of the class and its
+ * superclasses. A field renamed with Gson {@code @SerializedName} or Jackson {@code @JsonProperty}
+ * contributes its serialized name, or both names when they differ, and a field annotated with
+ * Jackson {@code @JsonIgnore} is skipped. The attributes are computed once per class.
+ */
+final class AttributeProjection {
+    private static final String[] NONE = new String[0];
+    private static final boolean JACKSON_ANNOTATIONS =
+            isPresent("com.fasterxml.jackson.annotation.JsonProperty");
+    private static final Map<Class<?>, String[]> ATTRIBUTES = new ConcurrentHashMap<>();
+
+    private AttributeProjection() {}
+
+    /**
+     * Gets the attributes to retrieve for a document class
+     *
+     * @param documentClass Class the documents are decoded into
+     * @return attributes of the class, or null if the class does not restrict the attributes, as
+     *     for maps, JDK types or classes without fields
+     */
+    static String[] of(Class<?> documentClass) {
+        String[] attributes =
+                ATTRIBUTES.computeIfAbsent(documentClass, AttributeProjection::derive);
+        return attributes.length == 0 ? null : attributes.clone();
+    }
+
+    private static String[] derive(Class<?> documentClass) {
+        if (documentClass.isPrimitive()
+                || documentClass.isArray()
+                || documentClass.isInterface()
+                || documentClass.getName().startsWith("java.")) {
+            return NONE;
+        }
+
+        Set<String> attributes = new LinkedHashSet<>();
+        for (Class<?> type = documentClass;
+                type != null && type != Object.class;
+                type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)
+                        || Modifier.isTransient(modifiers)
+                        || field.isSynthetic()) continue;
+                addNames(field, attributes);
+            }
+        }
+        return attributes.toArray(NONE);
+    }
+
+    private static void addNames(Field field, Set<String> attributes) {
+        if (JACKSON_ANNOTATIONS && JacksonNames.isIgnored(field)) return;
+        SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        attributes.add(serializedName != null ? serializedName.value() : field.getName());
+        if (JACKSON_ANNOTATIONS) {
+            String jacksonName = JacksonNames.name(field);
+            if (jacksonName != null) attributes.add(jacksonName);
+        }
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, AttributeProjection.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /** Jackson annotations are an optional dependency, only loaded when present */
+    private static final class JacksonNames {
+        private static boolean isIgnored(Field field) {
+            JsonIgnore ignore = field.getAnnotation(JsonIgnore.class);
+            return ignore != null && ignore.value();
+        }
+
+        private static String name(Field field) {
+            JsonProperty property = field.getAnnotation(JsonProperty.class);
+            return property == null || property.value().isEmpty() ? null : property.value();
+        }
+    }
+}
@@ -3,8 +3,6 @@
  */
 package com.meilisearch.sdk;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.json.JsonHandler;
 import com.meilisearch.sdk.model.CancelTasksQuery;
@@ -14,6 +12,8 @@ import com.meilisearch.sdk.model.Key;
 import com.meilisearch.sdk.model.KeyUpdate;
 import com.meilisearch.sdk.model.KeysQuery;
 import com.meilisearch.sdk.model.MultiSearchResult;
+import com.meilisearch.sdk.model.ReindexOptions;
+import com.meilisearch.sdk.model.ReindexReport;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.Stats;
 import com.meilisearch.sdk.model.SwapIndexesParams;
@@ -21,11 +21,14 @@ import com.meilisearch.sdk.model.Task;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TasksQuery;
 import com.meilisearch.sdk.model.TasksResults;
-import java.util.Date;
+import com.meilisearch.sdk.model.TypedMultiSearchResult;
+import java.io.Reader;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.TimeZone;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /** Meilisearch client */
 public class Client {
@@ -206,6 +209,50 @@ public class Client {
         return config.httpClient.post("/swap-indexes", param, TaskInfo.class);
     }
 
+    /**
+     * Rebuilds the documents of an index without downtime: the documents are indexed in a shadow
+     * index created with the settings of the index, which is swapped with the index once complete
+     *
+     * <p>Searches keep being served by the index until the swap. The index is created if missing,
+     * and the previous documents are deleted after the swap unless {@link
+     * ReindexOptions#setDeletePreviousIndex(boolean)} is disabled. A failed reindex keeps the
+     * shadow index and can be resumed from the last checkpoint reported to the progress listener,
+     * see {@link ReindexOptions#setResumeFrom(long)}.
+     *
+     * @param uid Unique identifier of the index to rebuild
+     * @param documents Documents of the index, encoded with the configured JsonHandler
+     * @param options Shadow index, batches, checkpoints and validation of the reindex
+     * @return report of the completed reindex
+     * @throws MeilisearchException if a step failed, the index is left untouched unless the swap
+     *     was enqueued
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/indexes#swap-indexes">API
+     *     specification</a>
+     */
+    public ReindexReport reindex(String uid, Iterator<?> documents, ReindexOptions options)
+            throws MeilisearchException {
+        return new Reindex(this.config, uid, options)
+                .run(documents, this.config.jsonHandler::encode);
+    }
+
+    /**
+     * Rebuilds the documents of an index without downtime from a JSON array or NDJSON payload read
+     * incrementally, see {@link #reindex(String, Iterator, ReindexOptions)}
+     *
+     * @param uid Unique identifier of the index to rebuild
+     * @param documents JSON array or NDJSON payload, consumed but not closed
+     * @param options Shadow index, batches, checkpoints and validation of the reindex
+     * @return report of the completed reindex
+     * @throws MeilisearchException if a step failed, the index is left untouched unless the swap
+     *     was enqueued
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/indexes#swap-indexes">API
+     *     specification</a>
+     */
+    public ReindexReport reindex(String uid, Reader documents, ReindexOptions options)
+            throws MeilisearchException {
+        return new Reindex(this.config, uid, options)
+                .run(new JsonDocumentIterator(documents), String.class::cast);
+    }
+
     /**
      * Triggers the creation of a Meilisearch dump.
      *
@@ -291,6 +338,18 @@ public class Client {
         return this.tasksHandler.getTask(uid);
     }
 
+    /**
+     * Retrieves a task with the specified uid without blocking the calling thread
+     *
+     * @param uid Identifier of the requested Task
+     * @return future completed with the Task instance
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#get-one-task">API
+     *     specification</a>
+     */
+    public CompletableFuture<Task> getTaskAsync(int uid) {
+        return this.tasksHandler.getTaskAsync(uid);
+    }
+
     /**
      * Retrieves list of tasks
      *
@@ -352,6 +411,40 @@ public class Client {
         this.tasksHandler.waitForTask(uid);
     }
 
+    /**
+     * Waits for a task to be processed without blocking the calling thread
+     *
+     * @param uid Identifier of the requested Task
+     * @return future completed with the processed Task, cancel it to stop waiting
+     */
+    public CompletableFuture<Task> waitForTaskAsync(int uid) {
+        return this.tasksHandler.waitForTaskAsync(uid);
+    }
+
+    /**
+     * Waits for several tasks to be processed, their status being fetched with shared requests
+     *
+     * @param uids Identifiers of the requested Tasks
+     * @return processed Tasks, in the order of the identifiers
+     * @throws MeilisearchException if an error occurs or if timeout is reached
+     */
+    public List<Task> waitForTasks(Collection<Integer> uids) throws MeilisearchException {
+        return this.tasksHandler.waitForTasks(uids, 5000);
+    }
+
+    /**
+     * Waits for several tasks to be processed, their status being fetched with shared requests
+     *
+     * @param uids Identifiers of the requested Tasks
+     * @param timeoutInMs number of milliseconds before throwing an Exception, for all tasks
+     * @return processed Tasks, in the order of the identifiers
+     * @throws MeilisearchException if an error occurs or if timeout is reached
+     */
+    public List<Task> waitForTasks(Collection<Integer> uids, int timeoutInMs)
+            throws MeilisearchException {
+        return this.tasksHandler.waitForTasks(uids, timeoutInMs);
+    }
+
     /**
      * Retrieves the key with the specified uid
      *
@@ -447,10 +540,40 @@ public class Client {
                 "/multi-search", search, Results.class, MultiSearchResult.class);
     }
 
+    /**
+     * Performs multiple searches in one request, decoding the hits of every query into a class
+     *
+     * @param <T> Type of the documents of the searched indexes
+     * @param search queries to perform
+     * @param targetClass Class the hits are decoded into
+     * @return results of the queries, in the order of the queries
+     * @throws MeilisearchException if an error occurs
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/multi_search">API
+     *     specification</a>
+     */
+    public <T> TypedMultiSearchResult<T> multiSearch(
+            MultiSearchRequest search, Class<T> targetClass) throws MeilisearchException {
+        return this.config.httpClient.<MultiSearchRequest, TypedMultiSearchResult>post(
+                "/multi-search", search, TypedMultiSearchResult.class, targetClass);
+    }
+
     public void experimentalFeatures(Map<String, Boolean> features) {
         this.config.httpClient.patch("/experimental-features", features, Void.class);
     }
 
+    /**
+     * Creates a tenant token minter signing tokens with the API key of the client, and reusing
+     * the tokens signed for the same rules until they come close to their expiry
+     *
+     * @param ttlMs lifetime of newly signed tokens, in milliseconds, returned tokens remain valid
+     *     for at least ttlMs - bucketMs
+     * @param bucketMs granularity of the expiry of the tokens, in milliseconds, smaller than ttlMs
+     * @return TenantTokenMinter instance, to be closed once no longer used
+     */
+    public TenantTokenMinter createTenantTokenMinter(long ttlMs, long bucketMs) {
+        return new TenantTokenMinter(this.config.apiKey, ttlMs, bucketMs);
+    }
+
     public String generateTenantToken(String apiKeyUid, Map<String, Object> searchRules)
             throws MeilisearchException {
         return this.generateTenantToken(apiKeyUid, searchRules, new TenantTokenOptions());
@@ -475,52 +598,13 @@ public class Client {
     public String generateTenantToken(
             String apiKeyUid, Map<String, Object> searchRules, TenantTokenOptions options)
             throws MeilisearchException {
-        // Validate all fields
-        Date now = new Date();
         String secret;
-
-        if (options.getApiKey() == null || options.getApiKey() == "") {
+        if (options.getApiKey() == null || options.getApiKey().isEmpty()) {
             secret = this.config.apiKey;
         } else {
             secret = options.getApiKey();
         }
-        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
-        if (options.getExpiresAt() != null && now.after((Date) options.getExpiresAt())) {
-            throw new MeilisearchException("The date expiresAt should be in the future.");
-        }
-        if (secret == null || secret == "" || secret.length() <= 8) {
-            throw new MeilisearchException(
-                    "An api key is required in the client or should be passed as an argument and this key cannot be the master key.");
-        }
-        if (searchRules == null) {
-            throw new MeilisearchException(
-                    "The searchRules field is mandatory and should be defined.");
-        }
-        if (apiKeyUid == "" || apiKeyUid == null || !isValidUUID(apiKeyUid)) {
-            throw new MeilisearchException(
-                    "The uid used for the token generation must exist and comply to uuid4 format");
-        }
-
-        // Encrypt the key
-        Algorithm algorithm = Algorithm.HMAC256(secret);
-
-        // Create JWT
-        String jwtToken =
-                JWT.create()
-                        .withClaim("searchRules", searchRules)
-                        .withClaim("apiKeyUid", apiKeyUid)
-                        .withExpiresAt(options.getExpiresAt())
-                        .sign(algorithm);
-
-        return jwtToken;
-    }
-
-    private Boolean isValidUUID(String apiKeyUid) {
-        try {
-            UUID uuid = UUID.fromString(apiKeyUid);
-        } catch (IllegalArgumentException exception) {
-            return false;
-        }
-        return true;
+        TenantTokens.validate(apiKeyUid, searchRules, secret, options.getExpiresAt());
+        return TenantTokens.sign(apiKeyUid, searchRules, secret, options.getExpiresAt());
     }
 }
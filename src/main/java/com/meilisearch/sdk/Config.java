@@ -1,12 +1,19 @@
 package com.meilisearch.sdk;
 
+import com.meilisearch.sdk.http.HostPool;
+import com.meilisearch.sdk.http.RequestCompression;
+import com.meilisearch.sdk.http.RetryPolicy;
+import com.meilisearch.sdk.http.TransportSettings;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.metrics.MetricsListener;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,8 +25,41 @@ public class Config {
     protected final String apiKey;
     protected final HttpClient httpClient;
     protected final Map<String, String> headers;
+    protected final TransportSettings transportSettings;
     protected JsonHandler jsonHandler;
 
+    /** Compression of request bodies, disabled when null */
+    protected RequestCompression requestCompression;
+
+    /** Retries of requests failing with a transient error, disabled when null */
+    protected RetryPolicy retryPolicy;
+
+    /** Listener receiving the metrics of every request, disabled when null */
+    protected MetricsListener metricsListener;
+
+    /** Cache of search responses, disabled when null */
+    protected SearchCache searchCache;
+
+    /** Batcher coalescing concurrent searches into multi-search requests, disabled when null */
+    protected SearchBatcher searchBatcher;
+
+    /** Cache of the settings of indexes, disabled when null */
+    protected SettingsCache settingsCache;
+
+    /** Replicas serving searches and document fetches, every request goes to hostUrl when null */
+    @Setter(AccessLevel.NONE)
+    protected HostPool readHosts;
+
+    /**
+     * Derives the attributes retrieved by typed searches and document fetches from the target
+     * class when the request does not set them
+     */
+    protected boolean attributeProjection;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private TaskTracker taskTracker;
+
     /**
      * Creates a configuration without an API key
      *
@@ -70,13 +110,86 @@ public class Config {
      * @param clientAgents List of customized agents to be passed to User-Agent header.
      */
     public Config(String hostUrl, String apiKey, JsonHandler jsonHandler, String[] clientAgents) {
+        this(hostUrl, apiKey, jsonHandler, clientAgents, TransportSettings.defaults());
+    }
+
+    /**
+     * Creates a configuration with an API key and custom transport settings
+     *
+     * @param hostUrl URL of the Meilisearch instance
+     * @param apiKey API key to pass to the header of requests sent to Meilisearch
+     * @param transportSettings Connection pool, dispatcher and timeout settings of the HTTP client
+     */
+    public Config(String hostUrl, String apiKey, TransportSettings transportSettings) {
+        this(hostUrl, apiKey, new GsonJsonHandler(), new String[0], transportSettings);
+    }
+
+    /**
+     * Creates a configuration with an API key and custom transport settings
+     *
+     * @param hostUrl URL of the Meilisearch instance
+     * @param apiKey API key to pass to the header of requests sent to Meilisearch
+     * @param jsonHandler JsonHandler to parse or write JSON
+     * @param clientAgents List of customized agents to be passed to User-Agent header.
+     * @param transportSettings Connection pool, dispatcher and timeout settings of the HTTP client
+     */
+    public Config(
+            String hostUrl,
+            String apiKey,
+            JsonHandler jsonHandler,
+            String[] clientAgents,
+            TransportSettings transportSettings) {
         this.hostUrl = hostUrl;
         this.apiKey = apiKey;
         this.headers = configHeaders(clientAgents);
         this.jsonHandler = jsonHandler;
+        this.transportSettings =
+                transportSettings == null ? TransportSettings.defaults() : transportSettings;
         this.httpClient = new HttpClient(this);
     }
 
+    /**
+     * Gets the task tracker shared by every handler using this configuration, created on first use
+     *
+     * @return shared TaskTracker
+     */
+    synchronized TaskTracker taskTracker() {
+        if (taskTracker == null) {
+            taskTracker = new TaskTracker(new TasksHandler(this));
+        }
+        return taskTracker;
+    }
+
+    /**
+     * Sets the replicas serving searches and document fetches, and starts probing their health
+     *
+     * <p>Writes, tasks, settings and every other request are still sent to hostUrl. The health
+     * checks of the replaced pool are stopped.
+     *
+     * @param readHosts Pool of replicas, sharing the API key of this configuration, or null to send
+     *     every request to hostUrl
+     */
+    public synchronized void setReadHosts(HostPool readHosts) {
+        HostPool previous = this.readHosts;
+        if (previous != null && previous != readHosts) previous.stopHealthChecks();
+        this.readHosts = readHosts;
+        if (readHosts == null) return;
+        Map<String, InstanceHandler> probes = new ConcurrentHashMap<>();
+        readHosts.startHealthChecks(
+                url ->
+                        probes.computeIfAbsent(
+                                        url,
+                                        replica ->
+                                                new InstanceHandler(
+                                                        new Config(
+                                                                replica,
+                                                                apiKey,
+                                                                jsonHandler,
+                                                                new String[0],
+                                                                transportSettings)))
+                                .isHealthy());
+    }
+
     /**
      * Method for returning the concatenated Bearer header with apiKey
      *
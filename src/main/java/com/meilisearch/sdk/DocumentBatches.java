@@ -0,0 +1,100 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.request.StreamingContent;
+import com.meilisearch.sdk.http.request.StreamingContents;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Cuts encoded documents into batches bounded by document count and payload size, sending one
+ * batch on each call to {@link #next()}
+ *
+ * <p>Only the batch being built is held in memory, the source is consumed as batches are sent.
+ */
+class DocumentBatches implements Iterator<TaskInfo> {
+    private final Iterator<String> documents;
+    private final int maxDocuments;
+    private final long maxBytes;
+    private final Function<StreamingContent, TaskInfo> sender;
+    private byte[] pending;
+
+    DocumentBatches(
+            Iterator<String> documents,
+            BatchOptions options,
+            Function<StreamingContent, TaskInfo> sender) {
+        this.documents = documents;
+        this.maxDocuments =
+                options.getMaxDocuments() > 0 ? options.getMaxDocuments() : Integer.MAX_VALUE;
+        this.maxBytes = options.getMaxBytes() > 0 ? options.getMaxBytes() : Long.MAX_VALUE;
+        this.sender = sender;
+    }
+
+    /**
+     * Lazily encodes documents with the given JsonHandler
+     *
+     * @param documents documents to encode
+     * @param jsonHandler JsonHandler used to encode each document
+     * @return iterator over the encoded documents
+     */
+    static Iterator<String> encode(Iterator<?> documents, JsonHandler jsonHandler) {
+        return new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                return documents.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return jsonHandler.encode(documents.next());
+            }
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pending != null || documents.hasNext();
+    }
+
+    @Override
+    public TaskInfo next() {
+        return sender.apply(StreamingContents.encodedJsonArray(nextBatch()));
+    }
+
+    /**
+     * Collects the next batch of documents, a document overflowing the size limit is kept for the
+     * next batch
+     *
+     * @return encoded documents of the batch
+     */
+    List<byte[]> nextBatch() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        List<byte[]> batch = new ArrayList<>();
+        long size = 2; // enclosing brackets
+        if (pending != null) {
+            batch.add(pending);
+            size += pending.length;
+            pending = null;
+        }
+        while (batch.size() < maxDocuments && documents.hasNext()) {
+            byte[] document = documents.next().getBytes(StandardCharsets.UTF_8);
+            long added = batch.isEmpty() ? document.length : document.length + 1L;
+            if (!batch.isEmpty() && size + added > maxBytes) {
+                pending = document;
+                break;
+            }
+            batch.add(document);
+            size += added;
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,255 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.DocumentsQuery;
+import com.meilisearch.sdk.model.ExportOptions;
+import com.meilisearch.sdk.model.ExportReport;
+import com.meilisearch.sdk.model.RawDocuments;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports the documents of an index to NDJSON files, fetching partitions of the documents
+ * concurrently on a pool of {@link ExportOptions#getParallelism()} threads
+ *
+ * <p>Each partition is fetched page by page, and the documents of each page are copied to the
+ * files as sent by Meilisearch, without being decoded. Pages written to a shared file are written
+ * whole, so the lines of concurrent partitions never interleave.
+ */
+class DocumentExport {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String uid;
+    private final ExportOptions options;
+    private final Function<DocumentsQuery, byte[]> fetcher;
+    private final AtomicLong documents = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private List<Path> files;
+    private int partitionCount;
+    private long started;
+
+    /**
+     * @param uid Index identifier, prefix of the file names
+     * @param options Partitions, parallelism and output of the export
+     * @param fetcher fetches the raw response of a page of documents
+     */
+    DocumentExport(String uid, ExportOptions options, Function<DocumentsQuery, byte[]> fetcher) {
+        this.uid = uid;
+        this.options = options;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Exports the documents and waits for every partition to be written
+     *
+     * @return report of the completed export
+     * @throws MeilisearchException if a page could not be fetched or written, no more pages are
+     *     fetched after the first failure and the files are left incomplete
+     */
+    ExportReport export() throws MeilisearchException {
+        started = System.nanoTime();
+        List<Partition> partitions = partitions();
+        partitionCount = partitions.size();
+        files = new ArrayList<>();
+        createDirectories(options.getDirectory());
+
+        if (options.isFilePerPartition()) {
+            for (int i = 0; i < partitionCount; i++) {
+                files.add(file(String.format("%s-%04d", uid, i)));
+            }
+        } else {
+            files.add(file(uid));
+        }
+        files = Collections.unmodifiableList(files);
+        OutputStream shared = options.isFilePerPartition() ? null : open(files.get(0));
+
+        int threads = Math.max(1, Math.min(options.getParallelism(), partitionCount));
+        ExecutorService pool =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-export-" + uid);
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            List<Future<?>> tasks = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                Partition partition = partitions.get(i);
+                Path file = options.isFilePerPartition() ? files.get(i) : null;
+                OutputStream out = shared;
+                tasks.add(pool.submit(() -> exportPartition(partition, file, out)));
+            }
+            for (Future<?> task : tasks) {
+                await(task);
+            }
+        } finally {
+            pool.shutdownNow();
+            if (shared != null) close(shared);
+        }
+        if (failure.get() != null) throw asMeilisearchException(failure.get());
+        return report();
+    }
+
+    private void exportPartition(Partition partition, Path file, OutputStream shared) {
+        OutputStream out = shared != null ? shared : open(file);
+        try {
+            long offset = partition.start;
+            while (failure.get() == null && offset < partition.end) {
+                int limit = (int) Math.min(options.getPageSize(), partition.end - offset);
+                byte[] response = fetcher.apply(query(partition, offset, limit));
+                RawDocuments page = new RawDocuments(response);
+                long written;
+                if (shared != null) {
+                    synchronized (shared) {
+                        written = page.writeNdjson(shared);
+                    }
+                } else {
+                    written = page.writeNdjson(out);
+                }
+                documents.addAndGet(page.size());
+                bytes.addAndGet(written);
+                if (page.size() < limit) break;
+                offset += limit;
+                notifyProgress();
+            }
+            if (failure.get() == null) {
+                completed.incrementAndGet();
+                notifyProgress();
+            }
+        } catch (IOException | RuntimeException e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            if (shared == null) close(out);
+        }
+    }
+
+    /** Splits the documents into the filter partitions, or offset ranges covering the total */
+    private List<Partition> partitions() {
+        List<Partition> partitions = new ArrayList<>();
+        if (options.getFilters() != null && !options.getFilters().isEmpty()) {
+            for (String filter : options.getFilters()) {
+                partitions.add(new Partition(filter, 0, Long.MAX_VALUE));
+            }
+            return partitions;
+        }
+
+        long total = new RawDocuments(fetcher.apply(new DocumentsQuery().setLimit(0))).getTotal();
+        int count = Math.max(1, options.getPartitions());
+        long size = Math.max(1, (total + count - 1) / count);
+        for (long start = 0; start < total; start += size) {
+            // the last range is left open for documents added during the export
+            long end = start + size >= total ? Long.MAX_VALUE : start + size;
+            partitions.add(new Partition(null, start, end));
+        }
+        if (partitions.isEmpty()) partitions.add(new Partition(null, 0, Long.MAX_VALUE));
+        return partitions;
+    }
+
+    private DocumentsQuery query(Partition partition, long offset, int limit) {
+        return new DocumentsQuery()
+                .setOffset((int) offset)
+                .setLimit(limit)
+                .setFields(options.getFields())
+                .setFilter(partition.filter == null ? null : new String[] {partition.filter});
+    }
+
+    private void notifyProgress() {
+        if (options.getProgressListener() != null) {
+            options.getProgressListener().accept(report());
+        }
+    }
+
+    private ExportReport report() {
+        return new ExportReport(
+                files,
+                partitionCount,
+                completed.get(),
+                documents.get(),
+                bytes.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private Path file(String name) {
+        return options.getDirectory().resolve(name + (options.isGzip() ? ".ndjson.gz" : ".ndjson"));
+    }
+
+    private OutputStream open(Path file) {
+        try {
+            OutputStream out = Files.newOutputStream(file);
+            if (options.isGzip()) return new GZIPOutputStream(out, BUFFER_SIZE);
+            return new BufferedOutputStream(out, BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    private void close(OutputStream out) {
+        try {
+            out.close();
+        } catch (IOException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private static void createDirectories(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    private void await(Future<?> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e.getCause());
+        }
+    }
+
+    private static MeilisearchException asMeilisearchException(Throwable e) {
+        return e instanceof MeilisearchException
+                ? (MeilisearchException) e
+                : new MeilisearchException(e);
+    }
+
+    /** Documents matching a filter, or all documents, between two offsets */
+    private static final class Partition {
+        private final String filter;
+        private final long start;
+        private final long end;
+
+        private Partition(String filter, long start, long end) {
+            this.filter = filter;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.DocumentsQuery;
+import com.meilisearch.sdk.model.Results;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Iterates over the documents of an index page by page, requesting the next pages while the
+ * documents of the current page are consumed
+ *
+ * <p>The first page is requested alone to learn the total number of documents, then up to {@code
+ * prefetch} pages are kept in flight, not past the total. Memory is bounded to the current page
+ * and the pages in flight whatever the size of the index. The iteration ends on the first page
+ * holding fewer documents than the page size.
+ */
+class DocumentPages<T> implements Iterator<T> {
+    static final int DEFAULT_PAGE_SIZE = 1000;
+    static final int DEFAULT_PREFETCH = 2;
+
+    private final DocumentsQuery query;
+    private final Function<DocumentsQuery, CompletableFuture<Results<T>>> fetcher;
+    private final int pageSize;
+    private final int prefetch;
+    private final ArrayDeque<CompletableFuture<Results<T>>> inFlight = new ArrayDeque<>();
+    private int nextOffset;
+    private int total = -1;
+    private boolean exhausted;
+    private T[] page;
+    private int position;
+
+    /**
+     * @param query query of the documents, its offset is the first document and its limit the page
+     *     size
+     * @param prefetch maximum number of pages requested ahead of the current page
+     * @param fetcher requests a page of documents without blocking
+     */
+    DocumentPages(
+            DocumentsQuery query,
+            int prefetch,
+            Function<DocumentsQuery, CompletableFuture<Results<T>>> fetcher) {
+        this.query = query;
+        this.fetcher = fetcher;
+        this.pageSize = query.getLimit() > 0 ? query.getLimit() : DEFAULT_PAGE_SIZE;
+        this.prefetch = Math.max(1, prefetch);
+        this.nextOffset = Math.max(0, query.getOffset());
+        request();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (page == null || position == page.length) {
+            if (inFlight.isEmpty()) return false;
+            Results<T> results = await(inFlight.poll());
+            page = results.getResults();
+            position = 0;
+            total = results.getTotal();
+            if (page == null || page.length < pageSize) {
+                exhausted = true;
+                inFlight.clear();
+            }
+            fill();
+            if (page == null) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        T document = page[position];
+        page[position++] = null;
+        return document;
+    }
+
+    private void fill() {
+        // a full page past a stale total still requests the next page
+        while (!exhausted
+                && inFlight.size() < prefetch
+                && (nextOffset < total || inFlight.isEmpty())) {
+            request();
+        }
+    }
+
+    private void request() {
+        DocumentsQuery pageQuery =
+                new DocumentsQuery()
+                        .setOffset(nextOffset)
+                        .setLimit(pageSize)
+                        .setFields(query.getFields())
+                        .setFilter(query.getFilter());
+        inFlight.add(fetcher.apply(pageQuery));
+        nextOffset += pageSize;
+    }
+
+    private static <R> R await(CompletableFuture<R> future) throws MeilisearchException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof MeilisearchException
+                    ? (MeilisearchException) e.getCause()
+                    : new MeilisearchException(e.getCause());
+        }
+    }
+}
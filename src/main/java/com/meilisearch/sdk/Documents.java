@@ -2,12 +2,19 @@ package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.http.request.StreamingContent;
+import com.meilisearch.sdk.model.BatchOptions;
 import com.meilisearch.sdk.model.DocumentQuery;
 import com.meilisearch.sdk.model.DocumentsQuery;
+import com.meilisearch.sdk.model.ExportOptions;
+import com.meilisearch.sdk.model.ExportReport;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.TaskInfo;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Class covering the Meilisearch Document API
@@ -16,6 +23,7 @@ import java.util.List;
  */
 class Documents {
     private final HttpClient httpClient;
+    private final Config config;
 
     /**
      * Creates and sets up an instance of Documents to simplify Meilisearch API calls to manage
@@ -24,7 +32,12 @@ class Documents {
      * @param config Meilisearch configuration
      */
     protected Documents(Config config) {
-        this.httpClient = config.httpClient;
+        this(config, config.httpClient);
+    }
+
+    Documents(Config config, HttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.config = config;
     }
 
     /**
@@ -39,7 +52,7 @@ class Documents {
      */
     <T> T getDocument(String uid, String identifier, Class<T> targetClass)
             throws MeilisearchException {
-        return httpClient.<T>get(documentPath(uid, identifier).getURL(), targetClass);
+        return httpClient.<T>get(IndexRoutes.of(uid).document(identifier), targetClass);
     }
 
     /**
@@ -55,7 +68,7 @@ class Documents {
     <T> T getDocument(String uid, String identifier, DocumentQuery param, Class<T> targetClass)
             throws MeilisearchException {
         return httpClient.<T>get(
-                documentPath(uid, identifier).addQuery(param.toQuery()).getURL(), targetClass);
+                IndexRoutes.of(uid).document(identifier) + param.toQuery(), targetClass);
     }
 
     /**
@@ -67,7 +80,7 @@ class Documents {
      * @throws MeilisearchException if client request causes an error
      */
     String getRawDocument(String uid, String identifier) throws MeilisearchException {
-        return httpClient.<String>get(documentPath(uid, identifier).getURL(), String.class);
+        return httpClient.<String>get(IndexRoutes.of(uid).document(identifier), String.class);
     }
 
     /**
@@ -82,7 +95,7 @@ class Documents {
     String getRawDocument(String uid, String identifier, DocumentQuery param)
             throws MeilisearchException {
         return httpClient.<String>get(
-                documentPath(uid, identifier).addQuery(param.toQuery()).getURL(), String.class);
+                IndexRoutes.of(uid).document(identifier) + param.toQuery(), String.class);
     }
 
     /**
@@ -95,7 +108,10 @@ class Documents {
      * @throws MeilisearchException if the client request causes an error
      */
     <T> Results<T> getDocuments(String uid, Class<T> targetClass) throws MeilisearchException {
-        return httpClient.<Results>get(documentPath(uid).getURL(), Results.class, targetClass);
+        if (config.attributeProjection) {
+            return getDocuments(uid, new DocumentsQuery(), targetClass);
+        }
+        return httpClient.<Results>get(IndexRoutes.of(uid).documents, Results.class, targetClass);
     }
 
     /**
@@ -110,15 +126,16 @@ class Documents {
      */
     <T> Results<T> getDocuments(String uid, DocumentsQuery param, Class<T> targetClass)
             throws MeilisearchException {
+        param = project(param, targetClass);
         if (param.getFilter() != null) {
             return httpClient.post(
-                    documentPathWithFetch(uid).getURL(),
+                    IndexRoutes.of(uid).documentsFetch,
                     param.toString(),
                     Results.class,
                     targetClass);
         }
         return httpClient.<Results>get(
-                documentPath(uid).addQuery(param.toQuery()).getURL(), Results.class, targetClass);
+                IndexRoutes.of(uid).documents + param.toQuery(), Results.class, targetClass);
     }
 
     /**
@@ -129,7 +146,7 @@ class Documents {
      * @throws MeilisearchException if an error occurs
      */
     String getRawDocuments(String uid) throws MeilisearchException {
-        return httpClient.get(documentPath(uid).getURL(), String.class);
+        return httpClient.get(IndexRoutes.of(uid).documents, String.class);
     }
 
     /**
@@ -143,10 +160,40 @@ class Documents {
     String getRawDocuments(String uid, DocumentsQuery param) throws MeilisearchException {
         if (param.getFilter() != null) {
             return httpClient.post(
-                    documentPathWithFetch(uid).getURL(), param.toString(), String.class);
+                    IndexRoutes.of(uid).documentsFetch, param.toString(), String.class);
         }
         return httpClient.<String>get(
-                documentPath(uid).addQuery(param.toQuery()).getURL(), String.class);
+                IndexRoutes.of(uid).documents + param.toQuery(), String.class);
+    }
+
+    /**
+     * Retrieves a page of documents from the specified index as the raw bytes of the response
+     *
+     * @param uid Partial index identifier for the requested documents
+     * @param param accepted by the documents route
+     * @return UTF-8 encoded Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     */
+    byte[] getRawDocumentPage(String uid, DocumentsQuery param) throws MeilisearchException {
+        if (param.getFilter() != null) {
+            return httpClient.post(
+                    IndexRoutes.of(uid).documentsFetch, param.toString(), byte[].class);
+        }
+        return httpClient.<byte[]>get(
+                IndexRoutes.of(uid).documents + param.toQuery(), byte[].class);
+    }
+
+    /**
+     * Exports the documents of the specified index to NDJSON files, fetching partitions of the
+     * documents concurrently
+     *
+     * @param uid Partial index identifier for the exported documents
+     * @param options Partitions, parallelism and output of the export
+     * @return report of the completed export
+     * @throws MeilisearchException if a page could not be fetched or written
+     */
+    ExportReport exportDocuments(String uid, ExportOptions options) throws MeilisearchException {
+        return new DocumentExport(uid, options, page -> getRawDocumentPage(uid, page)).export();
     }
 
     /**
@@ -171,6 +218,24 @@ class Documents {
         return httpClient.post(urlb.getURL(), document, TaskInfo.class);
     }
 
+    /**
+     * Adds/Replaces documents at the specified index uid, streaming the payload to the request body
+     *
+     * @param uid Partial index identifier for the document
+     * @param documents content writing the documents to add
+     * @param primaryKey PrimaryKey of the document
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocuments(String uid, StreamingContent documents, String primaryKey)
+            throws MeilisearchException {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        return httpClient.post(urlb.getURL(), documents, TaskInfo.class);
+    }
+
     /**
      * Replaces a document at the specified index uid
      *
@@ -192,6 +257,223 @@ class Documents {
         return httpClient.put(urlb.getURL(), document, TaskInfo.class);
     }
 
+    /**
+     * Retrieves the documents from the specified index without blocking the calling thread
+     *
+     * @param <T> Type of documents returned
+     * @param uid Partial index identifier for the requested documents
+     * @param param accepted by the get documents route
+     * @param targetClass Class of documents returned
+     * @return future completed with the Results containing the requested documents
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<Results<T>> getDocumentsAsync(
+            String uid, DocumentsQuery param, Class<T> targetClass) {
+        param = project(param, targetClass);
+        CompletableFuture<Results> results;
+        if (param.getFilter() != null) {
+            results =
+                    httpClient.postAsync(
+                            IndexRoutes.of(uid).documentsFetch,
+                            param.toString(),
+                            Results.class,
+                            targetClass);
+        } else {
+            results =
+                    httpClient.getAsync(
+                            IndexRoutes.of(uid).documents + param.toQuery(),
+                            Results.class,
+                            targetClass);
+        }
+        return results.thenApply(page -> (Results<T>) page);
+    }
+
+    /**
+     * Iterates over the documents of the specified index, requesting the next pages in the
+     * background
+     *
+     * @param <T> Type of documents returned
+     * @param uid Partial index identifier for the requested documents
+     * @param param accepted by the get documents route, its limit is the page size
+     * @param targetClass Class of documents returned
+     * @param prefetch maximum number of pages requested ahead of the current page
+     * @return iterator over the documents
+     */
+    <T> Iterator<T> iterateDocuments(
+            String uid, DocumentsQuery param, Class<T> targetClass, int prefetch) {
+        return new DocumentPages<>(
+                param, prefetch, page -> getDocumentsAsync(uid, page, targetClass));
+    }
+
+    /**
+     * Adds/Replaces a document at the specified index uid without blocking the calling thread
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to add
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> addDocumentsAsync(
+            String uid, String document, String primaryKey, String csvDelimiter) {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        if (csvDelimiter != null) {
+            urlb.addParameter("csvDelimiter", csvDelimiter);
+        }
+        return httpClient.postAsync(urlb.getURL(), document, TaskInfo.class);
+    }
+
+    /**
+     * Replaces a document at the specified index uid without blocking the calling thread
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to replace the existing document
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String uid, String document, String primaryKey, String csvDelimiter) {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        if (csvDelimiter != null) {
+            urlb.addParameter("csvDelimiter", csvDelimiter);
+        }
+        return httpClient.putAsync(urlb.getURL(), document, TaskInfo.class);
+    }
+
+    /**
+     * Adds/Replaces documents at the specified index uid, streaming the payload to the request
+     * body without blocking the calling thread
+     *
+     * @param uid Partial index identifier for the document
+     * @param documents content writing the documents to add
+     * @param primaryKey PrimaryKey of the document
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> addDocumentsAsync(
+            String uid, StreamingContent documents, String primaryKey) {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        return httpClient.postAsync(urlb.getURL(), documents, TaskInfo.class);
+    }
+
+    /**
+     * Replaces documents at the specified index uid, streaming the payload to the request body
+     * without blocking the calling thread
+     *
+     * @param uid Partial index identifier for the document
+     * @param documents content writing the documents to update
+     * @param primaryKey PrimaryKey of the document
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String uid, StreamingContent documents, String primaryKey) {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        return httpClient.putAsync(urlb.getURL(), documents, TaskInfo.class);
+    }
+
+    /**
+     * Replaces documents at the specified index uid, streaming the payload to the request body
+     *
+     * @param uid Partial index identifier for the document
+     * @param documents content writing the documents to update
+     * @param primaryKey PrimaryKey of the document
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo updateDocuments(String uid, StreamingContent documents, String primaryKey)
+            throws MeilisearchException {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        return httpClient.put(urlb.getURL(), documents, TaskInfo.class);
+    }
+
+    /**
+     * Adds/Replaces encoded documents at the specified index uid, one batch per iteration
+     *
+     * @param uid Partial index identifier for the documents
+     * @param documents JSON encoded documents, consumed as batches are sent
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return iterator sending the next batch on each call to next()
+     */
+    Iterator<TaskInfo> addDocumentsInBatches(
+            String uid, Iterator<String> documents, BatchOptions options) {
+        return new DocumentBatches(
+                documents, options, batch -> addDocuments(uid, batch, options.getPrimaryKey()));
+    }
+
+    /**
+     * Updates encoded documents at the specified index uid, one batch per iteration
+     *
+     * @param uid Partial index identifier for the documents
+     * @param documents JSON encoded documents, consumed as batches are sent
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return iterator sending the next batch on each call to next()
+     */
+    Iterator<TaskInfo> updateDocumentsInBatches(
+            String uid, Iterator<String> documents, BatchOptions options) {
+        return new DocumentBatches(
+                documents, options, batch -> updateDocuments(uid, batch, options.getPrimaryKey()));
+    }
+
+    /**
+     * Adds/Replaces documents at the specified index uid in batches encoded and uploaded in
+     * parallel
+     *
+     * @param uid Partial index identifier for the documents
+     * @param documents documents to add, consumed on the calling thread
+     * @param encoder encodes a document to JSON
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if a batch could not be encoded or sent
+     */
+    List<TaskInfo> addDocumentsInParallel(
+            String uid,
+            Iterator<?> documents,
+            Function<Object, String> encoder,
+            BatchOptions options)
+            throws MeilisearchException {
+        return new ParallelDocumentBatches(
+                        options,
+                        batch -> addDocumentsAsync(uid, batch, options.getPrimaryKey()))
+                .send(documents, encoder);
+    }
+
+    /**
+     * Updates documents at the specified index uid in batches encoded and uploaded in parallel
+     *
+     * @param uid Partial index identifier for the documents
+     * @param documents documents to update, consumed on the calling thread
+     * @param encoder encodes a document to JSON
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if a batch could not be encoded or sent
+     */
+    List<TaskInfo> updateDocumentsInParallel(
+            String uid,
+            Iterator<?> documents,
+            Function<Object, String> encoder,
+            BatchOptions options)
+            throws MeilisearchException {
+        return new ParallelDocumentBatches(
+                        options,
+                        batch -> updateDocumentsAsync(uid, batch, options.getPrimaryKey()))
+                .send(documents, encoder);
+    }
+
     /**
      * Deletes the document from the specified index uid with the specified identifier
      *
@@ -201,7 +483,8 @@ class Documents {
      * @throws MeilisearchException if the client request causes an error
      */
     TaskInfo deleteDocument(String uid, String identifier) throws MeilisearchException {
-        return httpClient.<TaskInfo>delete(documentPath(uid, identifier).getURL(), TaskInfo.class);
+        return httpClient.<TaskInfo>delete(
+                IndexRoutes.of(uid).document(identifier), TaskInfo.class);
     }
 
     /**
@@ -244,24 +527,26 @@ class Documents {
      * @throws MeilisearchException if the client request causes an error
      */
     TaskInfo deleteAllDocuments(String uid) throws MeilisearchException {
-        return httpClient.<TaskInfo>delete(documentPath(uid).getURL(), TaskInfo.class);
+        return httpClient.<TaskInfo>delete(IndexRoutes.of(uid).documents, TaskInfo.class);
     }
 
-    /** Creates an URLBuilder for the constant route documents. */
-    private URLBuilder documentPath(String uid) {
-        return new URLBuilder().addSubroute("indexes").addSubroute(uid).addSubroute("documents");
-    }
-
-    private URLBuilder documentPathWithFetch(String uid) {
-        return documentPath(uid).addSubroute("fetch");
+    /**
+     * Gets a copy of the query retrieving the fields of the target class, when enabled in the
+     * configuration and the query does not set the fields
+     */
+    private DocumentsQuery project(DocumentsQuery param, Class<?> targetClass) {
+        if (!config.attributeProjection || param.getFields() != null) return param;
+        String[] fields = AttributeProjection.of(targetClass);
+        if (fields == null) return param;
+        return new DocumentsQuery()
+                .setOffset(param.getOffset())
+                .setLimit(param.getLimit())
+                .setFilter(param.getFilter())
+                .setFields(fields);
     }
 
     /** Creates an URLBuilder for the constant route documents */
-    private URLBuilder documentPath(String uid, String identifier) {
-        return new URLBuilder()
-                .addSubroute("indexes")
-                .addSubroute(uid)
-                .addSubroute("documents")
-                .addSubroute(identifier);
+    private URLBuilder documentPath(String uid) {
+        return new URLBuilder(IndexRoutes.of(uid).documents);
     }
 }
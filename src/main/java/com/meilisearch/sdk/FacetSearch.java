@@ -38,6 +38,10 @@ public class FacetSearch {
     }
 
     FacetSearchable facetSearch(String uid, FacetSearchRequest fsr) throws MeilisearchException {
-        return httpClient.jsonHandler.decode(rawSearch(uid, fsr), FacetSearchResult.class);
+        String requestQuery = "/indexes/" + uid + "/facet-search";
+        if (fsr.getFacetName() == null) {
+            throw new MeilisearchException("Facet name is required for a facet search");
+        }
+        return httpClient.post(requestQuery, fsr.toString(), FacetSearchResult.class);
     }
 }
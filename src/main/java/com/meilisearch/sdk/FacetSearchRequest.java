@@ -8,7 +8,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
-import org.json.JSONObject;
 
 /** Facet search request query string builder */
 @Builder
@@ -57,20 +56,16 @@ public class FacetSearchRequest {
      */
     @Override
     public String toString() {
-        JSONObject jsonObject =
-                new JSONObject()
-                        .put("facetName", this.facetName)
-                        .put("facetQuery", this.facetQuery)
-                        .put("q", this.q)
-                        .put(
-                                "matchingStrategy",
-                                this.matchingStrategy == null
-                                        ? null
-                                        : this.matchingStrategy.toString())
-                        .putOpt("attributesToSearchOn", this.attributesToSearchOn)
-                        .putOpt("filter", this.filter)
-                        .putOpt("filter", this.filterArray);
-
-        return jsonObject.toString();
+        return new JsonBodyWriter()
+                .field("facetName", this.facetName)
+                .field("facetQuery", this.facetQuery)
+                .field("q", this.q)
+                .field(
+                        "matchingStrategy",
+                        this.matchingStrategy == null ? null : this.matchingStrategy.toString())
+                .field("attributesToSearchOn", this.attributesToSearchOn)
+                .field("filter", this.filterArray == null ? this.filter : null)
+                .field("filter", this.filterArray)
+                .build();
     }
 }
@@ -1,7 +1,5 @@
 package com.meilisearch.sdk;
 
-import org.json.JSONObject;
-
 public class FederationOptions {
 
     private Double weight;
@@ -18,7 +16,6 @@ public class FederationOptions {
      */
     @Override
     public String toString() {
-        JSONObject jsonObject = new JSONObject().put("weight", this.weight);
-        return jsonObject.toString();
+        return new JsonBodyWriter().field("weight", this.weight).build();
     }
 }
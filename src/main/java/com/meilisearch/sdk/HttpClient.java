@@ -2,24 +2,32 @@ package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.APIError;
 import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.http.CustomOkHttpClient;
 import com.meilisearch.sdk.http.request.BasicRequest;
 import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
-import com.meilisearch.sdk.http.response.BasicResponse;
+import com.meilisearch.sdk.http.request.StreamingContent;
 import com.meilisearch.sdk.http.response.HttpResponse;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.metrics.MetricsListener;
+import com.meilisearch.sdk.metrics.Route;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /** HTTP client used for API calls to Meilisearch */
 public class HttpClient {
     private final CustomOkHttpClient client;
     private final BasicRequest request;
-    private final BasicResponse response;
     private final Map<String, String> headers;
+    private final Config config;
     protected final JsonHandler jsonHandler;
 
     /**
@@ -29,10 +37,10 @@ public class HttpClient {
      */
     public HttpClient(Config config) {
         this.client = new CustomOkHttpClient(config);
+        this.config = config;
         this.jsonHandler = config.jsonHandler;
         this.headers = config.headers;
         this.request = new BasicRequest(jsonHandler);
-        this.response = new BasicResponse(jsonHandler);
     }
 
     /**
@@ -45,8 +53,8 @@ public class HttpClient {
         this.client = client;
         this.request = request;
         this.headers = Collections.<String, String>emptyMap();
+        this.config = null;
         this.jsonHandler = new GsonJsonHandler();
-        this.response = new BasicResponse(jsonHandler);
     }
 
     /**
@@ -71,15 +79,9 @@ public class HttpClient {
      */
     <T> T get(String api, String param, Class<T> targetClass, Class<?>... parameters)
             throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.GET, api + param, this.headers, null);
-        HttpResponse<T> httpRequest = this.client.get(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass, parameters);
-
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+        HttpRequest requestConfig = create(HttpMethod.GET, api + param, null);
+        return handleResponse(
+                this.client.execute(requestConfig, decoder(targetClass, parameters)));
     }
 
     /**
@@ -92,15 +94,11 @@ public class HttpClient {
      */
     <S, T> T post(String api, S body, Class<T> targetClass, Class<?>... parameters)
             throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.POST, api, this.headers, body);
-        HttpResponse<T> httpRequest = this.client.post(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass, parameters);
-
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+        HttpRequest requestConfig = create(HttpMethod.POST, api, body);
+        return afterWrite(
+                api,
+                handleResponse(
+                        this.client.execute(requestConfig, decoder(targetClass, parameters))));
     }
 
     /**
@@ -112,15 +110,9 @@ public class HttpClient {
      * @throws MeilisearchException if the response is an error
      */
     <S, T> T put(String api, S body, Class<T> targetClass) throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.PUT, api, this.headers, body);
-        HttpResponse<T> httpRequest = this.client.put(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass);
-
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+        HttpRequest requestConfig = create(HttpMethod.PUT, api, body);
+        return afterWrite(
+                api, handleResponse(this.client.execute(requestConfig, decoder(targetClass))));
     }
 
     /**
@@ -132,15 +124,9 @@ public class HttpClient {
      * @throws MeilisearchException if the response is an error
      */
     <S, T> T patch(String api, S body, Class<T> targetClass) throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.PATCH, api, this.headers, body);
-        HttpResponse<T> httpResponse = this.client.patch(requestConfig);
-
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpResponse.getContent(), APIError.class));
-        }
-
-        return response.create(httpResponse, targetClass).getContent();
+        HttpRequest requestConfig = create(HttpMethod.PATCH, api, body);
+        return afterWrite(
+                api, handleResponse(this.client.execute(requestConfig, decoder(targetClass))));
     }
 
     /**
@@ -151,13 +137,161 @@ public class HttpClient {
      * @throws MeilisearchException if the response is an error
      */
     <T> T delete(String api, Class<T> targetClass) throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.DELETE, api, this.headers, null);
-        HttpResponse<T> httpRequest = this.client.delete(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass);
+        HttpRequest requestConfig = create(HttpMethod.DELETE, api, null);
+        return afterWrite(
+                api, handleResponse(this.client.execute(requestConfig, decoder(targetClass))));
+    }
+
+    /**
+     * Asynchronously gets the specified resource from the specified path
+     *
+     * @param api Path to document
+     * @return future completed with the document that was requested
+     */
+    <T> CompletableFuture<T> getAsync(String api, Class<T> targetClass, Class<?>... parameters) {
+        HttpRequest requestConfig = create(HttpMethod.GET, api, null);
+        return this.client
+                .executeAsync(requestConfig, decoder(targetClass, parameters))
+                .thenApply(this::handleResponse);
+    }
+
+    /**
+     * Asynchronously adds the specified resource to the specified path
+     *
+     * @param api Path to server
+     * @param body Query for search
+     * @return future completed with the results of the request
+     */
+    <S, T> CompletableFuture<T> postAsync(
+            String api, S body, Class<T> targetClass, Class<?>... parameters) {
+        HttpRequest requestConfig = create(HttpMethod.POST, api, body);
+        return this.client
+                .executeAsync(requestConfig, decoder(targetClass, parameters))
+                .thenApply(this::handleResponse)
+                .thenApply(content -> afterWrite(api, content));
+    }
 
+    /**
+     * Asynchronously replaces the specified resource with new data to the specified path
+     *
+     * @param api Path to the requested resource
+     * @param body Replacement data for the requested resource
+     * @return future completed with the updated resource
+     */
+    <S, T> CompletableFuture<T> putAsync(String api, S body, Class<T> targetClass) {
+        HttpRequest requestConfig = create(HttpMethod.PUT, api, body);
+        return this.client
+                .executeAsync(requestConfig, decoder(targetClass))
+                .thenApply(this::handleResponse)
+                .thenApply(content -> afterWrite(api, content));
+    }
+
+    /**
+     * Asynchronously patches the specified resource with new data to the specified path
+     *
+     * @param api Path to server
+     * @param body Query for search
+     * @return future completed with the results of the request
+     */
+    <S, T> CompletableFuture<T> patchAsync(String api, S body, Class<T> targetClass) {
+        HttpRequest requestConfig = create(HttpMethod.PATCH, api, body);
+        return this.client
+                .executeAsync(requestConfig, decoder(targetClass))
+                .thenApply(this::handleResponse)
+                .thenApply(content -> afterWrite(api, content));
+    }
+
+    /**
+     * Asynchronously deletes the specified resource to the specified path
+     *
+     * @param api Path to the requested resource
+     * @return future completed with the deleted resource
+     */
+    <T> CompletableFuture<T> deleteAsync(String api, Class<T> targetClass) {
+        HttpRequest requestConfig = create(HttpMethod.DELETE, api, null);
+        return this.client
+                .executeAsync(requestConfig, decoder(targetClass))
+                .thenApply(this::handleResponse)
+                .thenApply(content -> afterWrite(api, content));
+    }
+
+    /**
+     * Creates a request, reporting the time spent encoding its body to the metrics listener
+     *
+     * @param method HTTP method of the request
+     * @param api Path of the request
+     * @param body Body of the request, encoded to JSON
+     * @return the request
+     */
+    private <S> HttpRequest create(HttpMethod method, String api, S body) {
+        MetricsListener listener = config != null ? config.metricsListener : null;
+        if (listener == null || body == null || body instanceof StreamingContent) {
+            return request.create(method, api, this.headers, body);
+        }
+        long started = System.nanoTime();
+        HttpRequest requestConfig = request.create(method, api, this.headers, body);
+        listener.onEncode(
+                Route.of(method, api),
+                System.nanoTime() - started,
+                requestConfig.getContent().length());
+        return requestConfig;
+    }
+
+    /**
+     * Creates a decoder reading the response stream straight into the target class, byte[]
+     * keeping the raw bytes of the response
+     *
+     * @param targetClass Class of the decoded content
+     * @param parameters type parameters of the target class, if it is generic
+     * @return decoder for the response body stream
+     */
+    private <T> Function<InputStream, T> decoder(Class<T> targetClass, Class<?>... parameters) {
+        if (targetClass == byte[].class) return body -> targetClass.cast(readBytes(body));
+        return body -> jsonHandler.decode(body, targetClass, parameters);
+    }
+
+    private static byte[] readBytes(InputStream body) throws MeilisearchException {
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return content.toByteArray();
+        } catch (IOException e) {
+            throw new MeilisearchCommunicationException(e);
+        }
+    }
+
+    /**
+     * Notifies the search and settings caches of a successful write request
+     *
+     * @param api Path of the write request
+     * @param content decoded response content
+     * @return the response content
+     */
+    private <T> T afterWrite(String api, T content) {
+        if (config != null && config.searchCache != null) {
+            config.searchCache.onWrite(api, content, config.taskTracker());
+        }
+        if (config != null && config.settingsCache != null) {
+            config.settingsCache.onWrite(api, content, config.taskTracker());
+        }
+        return content;
+    }
+
+    /**
+     * Gets the content of a response, throwing a MeilisearchApiException for error status codes
+     *
+     * @param httpResponse response returned by the underlying client
+     * @return decoded response content
+     * @throws MeilisearchException if the response is an error
+     */
+    private <T> T handleResponse(HttpResponse<T> httpResponse) throws MeilisearchException {
         if (httpResponse.getStatusCode() >= 400) {
             throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
+                    jsonHandler.decode(httpResponse.getContent(), APIError.class));
         }
         return httpResponse.getContent();
     }
@@ -2,14 +2,28 @@ package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.http.request.StreamingContents;
 import com.meilisearch.sdk.model.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.Getter;
 import lombok.ToString;
-import org.json.JSONArray;
 
 /** Meilisearch index */
 @ToString
@@ -133,6 +147,89 @@ public class Index implements Serializable {
         return this.documents.getDocuments(this.uid, param, targetClass);
     }
 
+    /**
+     * Gets documents at the specified index without blocking the calling thread
+     *
+     * @param <T> Type of documents returned
+     * @param param accept by the documents route
+     * @param targetClass Class of documents returned
+     * @return future completed with the Results containing the requested documents
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/documents#get-documents">API
+     *     specification</a>
+     */
+    public <T> CompletableFuture<Results<T>> getDocumentsAsync(
+            DocumentsQuery param, Class<T> targetClass) {
+        return this.documents.getDocumentsAsync(this.uid, param, targetClass);
+    }
+
+    /**
+     * Iterates over the documents of the index, fetching them page by page
+     *
+     * <p>The offset of the query is the first document returned and its limit the size of the
+     * pages, 1000 when not set. The next pages are requested while the documents of the current
+     * page are consumed, with up to two pages in flight. Documents are fetched through {@code
+     * /documents/fetch} when the query has a filter.
+     *
+     * @param <T> Type of documents returned
+     * @param param accept by the documents route
+     * @param targetClass Class of documents returned
+     * @return iterator over the documents, throwing a MeilisearchException if a page fails
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/documents#get-documents">API
+     *     specification</a>
+     */
+    public <T> Iterator<T> iterateDocuments(DocumentsQuery param, Class<T> targetClass) {
+        return iterateDocuments(param, targetClass, DocumentPages.DEFAULT_PREFETCH);
+    }
+
+    /**
+     * Iterates over the documents of the index, fetching them page by page
+     *
+     * @param <T> Type of documents returned
+     * @param param accept by the documents route
+     * @param targetClass Class of documents returned
+     * @param prefetch maximum number of pages requested ahead of the current page
+     * @return iterator over the documents, throwing a MeilisearchException if a page fails
+     * @see #iterateDocuments(DocumentsQuery, Class)
+     */
+    public <T> Iterator<T> iterateDocuments(
+            DocumentsQuery param, Class<T> targetClass, int prefetch) {
+        return this.documents.iterateDocuments(this.uid, param, targetClass, prefetch);
+    }
+
+    /**
+     * Streams the documents of the index, fetching them page by page
+     *
+     * @param <T> Type of documents returned
+     * @param param accept by the documents route
+     * @param targetClass Class of documents returned
+     * @return sequential stream of the documents
+     * @see #iterateDocuments(DocumentsQuery, Class)
+     */
+    public <T> Stream<T> streamDocuments(DocumentsQuery param, Class<T> targetClass) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        iterateDocuments(param, targetClass), Spliterator.ORDERED),
+                false);
+    }
+
+    /**
+     * Exports the documents of the index to NDJSON files, fetching partitions of the documents
+     * concurrently and copying them to the files without decoding them
+     *
+     * <p>Filter partitions on a filterable attribute, see {@link ExportOptions#rangeFilters}, are
+     * faster on large indexes than offset partitions, whose requests get slower as the offset
+     * grows.
+     *
+     * @param options Partitions, parallelism and output of the export
+     * @return report of the completed export, with the written files
+     * @throws MeilisearchException if a page could not be fetched or written
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/documents#get-documents">API
+     *     specification</a>
+     */
+    public ExportReport exportDocuments(ExportOptions options) throws MeilisearchException {
+        return this.documents.exportDocuments(this.uid, options);
+    }
+
     /**
      * Gets documents as String at the specified index
      *
@@ -204,6 +301,110 @@ public class Index implements Serializable {
         return this.documents.addDocuments(this.uid, document, primaryKey, csvDelimiter);
     }
 
+    /**
+     * Adds/Replaces documents in the index, encoding them one at a time straight to the request
+     * body instead of building the whole JSON payload in memory
+     *
+     * @param documents Documents to add, encoded with the configured JsonHandler
+     * @param primaryKey PrimaryKey of the documents to add, may be null
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocuments(Iterable<?> documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid,
+                StreamingContents.jsonArray(documents, this.config.jsonHandler),
+                primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, encoding them one at a time straight to the request
+     * body instead of building the whole JSON payload in memory
+     *
+     * @param <T> Type of the documents
+     * @param documents Documents to add, the stream is consumed by the request
+     * @param primaryKey PrimaryKey of the documents to add, may be null
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public <T> TaskInfo addDocuments(Stream<T> documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid,
+                StreamingContents.jsonArray(documents, this.config.jsonHandler),
+                primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, copying an encoded payload to the request body
+     *
+     * @param documents JSON, NDJSON or CSV payload, consumed but not closed by the request
+     * @param format Format of the payload
+     * @param primaryKey PrimaryKey of the documents to add, may be null
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocuments(InputStream documents, DocumentsFormat format, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, StreamingContents.of(documents, format), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, copying an encoded file to the request body
+     *
+     * @param documents File holding a JSON, NDJSON or CSV payload
+     * @param format Format of the payload
+     * @param primaryKey PrimaryKey of the documents to add, may be null
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocuments(Path documents, DocumentsFormat format, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, StreamingContents.of(documents, format), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index without blocking the calling thread
+     *
+     * @param document Document to add in JSON string format
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> addDocumentsAsync(String document) {
+        return this.documents.addDocumentsAsync(this.uid, document, null, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index without blocking the calling thread
+     *
+     * @param document Document to add in JSON string format
+     * @param primaryKey PrimaryKey of the document to add
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> addDocumentsAsync(String document, String primaryKey) {
+        return this.documents.addDocumentsAsync(this.uid, document, primaryKey, null);
+    }
+
     /**
      * Adds/Replaces documents in the index in batches
      *
@@ -218,23 +419,13 @@ public class Index implements Serializable {
      */
     public TaskInfo[] addDocumentsInBatches(String document, Integer batchSize, String primaryKey)
             throws MeilisearchException {
-
-        JSONArray jsonDocumentsArray = new JSONArray(document);
-        JSONArray jsonSubArray = new JSONArray();
-        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
-
-        batchSize =
-                jsonDocumentsArray.length() < batchSize ? jsonDocumentsArray.length() : batchSize;
-
-        for (int i = 0; i < jsonDocumentsArray.length(); i += batchSize) {
-            for (int j = 0; j < batchSize && j + i < jsonDocumentsArray.length(); j++) {
-                jsonSubArray.put(j, jsonDocumentsArray.get(i + j));
-            }
-            arrayResponses.add(
-                    this.documents.addDocuments(
-                            this.uid, jsonSubArray.toString(), primaryKey, null));
-        }
-        return arrayResponses.toArray(new TaskInfo[arrayResponses.size()]);
+        BatchOptions options =
+                new BatchOptions()
+                        .setMaxDocuments(batchSize)
+                        .setMaxBytes(0)
+                        .setPrimaryKey(primaryKey);
+        return this.addDocumentsInBatches(new StringReader(document), options)
+                .toArray(new TaskInfo[0]);
     }
 
     /**
@@ -251,6 +442,149 @@ public class Index implements Serializable {
         return this.addDocumentsInBatches(document, 1000, null);
     }
 
+    /**
+     * Adds/Replaces documents in the index in batches, reading a JSON array or NDJSON payload
+     * incrementally so that only the batch being sent is held in memory
+     *
+     * <p>Batches are sent one at a time, each once the previous one is enqueued, and the method
+     * returns once every batch is enqueued.
+     *
+     * @param documents JSON array or NDJSON payload, consumed but not closed
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return TaskInfo of each batch, in sending order
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> addDocumentsInBatches(Reader documents, BatchOptions options)
+            throws MeilisearchException {
+        return sendBatches(
+                this.documents.addDocumentsInBatches(
+                        this.uid, new JsonDocumentIterator(documents), options));
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, reading a JSON array or NDJSON file
+     * incrementally so that only the batch being sent is held in memory
+     *
+     * <p>Batches are sent one at a time, each once the previous one is enqueued, and the method
+     * returns once every batch is enqueued.
+     *
+     * @param documents UTF-8 encoded JSON array or NDJSON file
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return TaskInfo of each batch, in sending order
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> addDocumentsInBatches(Path documents, BatchOptions options)
+            throws MeilisearchException {
+        Reader reader = openReader(documents);
+        try {
+            return addDocumentsInBatches(reader, options);
+        } finally {
+            closeReader(reader);
+        }
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches, encoding documents one at a time with the
+     * configured JsonHandler as batches are built
+     *
+     * <p>Batches are sent one at a time, each once the previous one is enqueued, and the method
+     * returns once every batch is enqueued.
+     *
+     * @param documents Documents to send, consumed as batches are sent
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return TaskInfo of each batch, in sending order
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> addDocumentsInBatches(Iterator<?> documents, BatchOptions options)
+            throws MeilisearchException {
+        return sendBatches(
+                this.documents.addDocumentsInBatches(
+                        this.uid,
+                        DocumentBatches.encode(documents, this.config.jsonHandler),
+                        options));
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches encoded and uploaded concurrently, with at
+     * most {@link BatchOptions#getMaxInFlight()} chunks of documents in flight
+     *
+     * <p>Chunks of documents are uploaded concurrently, so Meilisearch may enqueue them out of the
+     * order of the documents: a document appearing several times in the source may keep any of its
+     * versions unless maxInFlight is 1.
+     *
+     * @param documents Documents to send, encoded with the configured JsonHandler
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> addDocumentsInParallel(Iterator<?> documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.documents.addDocumentsInParallel(
+                this.uid, documents, this.config.jsonHandler::encode, options);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches uploaded concurrently, reading a JSON array
+     * or NDJSON payload incrementally with at most {@link BatchOptions#getMaxInFlight()} chunks of
+     * documents in flight
+     *
+     * <p>Chunks of documents are uploaded concurrently, so Meilisearch may enqueue them out of the
+     * order of the documents: a document appearing several times in the source may keep any of its
+     * versions unless maxInFlight is 1.
+     *
+     * @param documents JSON array or NDJSON payload, consumed but not closed
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> addDocumentsInParallel(Reader documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.documents.addDocumentsInParallel(
+                this.uid, new JsonDocumentIterator(documents), String.class::cast, options);
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches uploaded concurrently, reading a JSON array
+     * or NDJSON file incrementally with at most {@link BatchOptions#getMaxInFlight()} chunks of
+     * documents in flight
+     *
+     * <p>Chunks of documents are uploaded concurrently, so Meilisearch may enqueue them out of the
+     * order of the documents: a document appearing several times in the source may keep any of its
+     * versions unless maxInFlight is 1.
+     *
+     * @param documents UTF-8 encoded JSON array or NDJSON file
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> addDocumentsInParallel(Path documents, BatchOptions options)
+            throws MeilisearchException {
+        Reader reader = openReader(documents);
+        try {
+            return addDocumentsInParallel(reader, options);
+        } finally {
+            closeReader(reader);
+        }
+    }
+
     /**
      * Updates documents in the index
      *
@@ -298,6 +632,72 @@ public class Index implements Serializable {
         return this.documents.updateDocuments(this.uid, document, primaryKey, csvDelimiter);
     }
 
+    /**
+     * Updates documents in the index, encoding them one at a time straight to the request body
+     * instead of building the whole JSON payload in memory
+     *
+     * @param documents Documents to update, encoded with the configured JsonHandler
+     * @param primaryKey PrimaryKey of the documents, may be null
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo updateDocuments(Iterable<?> documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid,
+                StreamingContents.jsonArray(documents, this.config.jsonHandler),
+                primaryKey);
+    }
+
+    /**
+     * Updates documents in the index, copying an encoded payload to the request body
+     *
+     * @param documents JSON, NDJSON or CSV payload, consumed but not closed by the request
+     * @param format Format of the payload
+     * @param primaryKey PrimaryKey of the documents, may be null
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo updateDocuments(
+            InputStream documents, DocumentsFormat format, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid, StreamingContents.of(documents, format), primaryKey);
+    }
+
+    /**
+     * Updates documents in the index without blocking the calling thread
+     *
+     * @param document Document to update in JSON string format
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateDocumentsAsync(String document) {
+        return this.documents.updateDocumentsAsync(this.uid, document, null, null);
+    }
+
+    /**
+     * Updates documents in the index without blocking the calling thread
+     *
+     * @param document Document to update in JSON string format
+     * @param primaryKey PrimaryKey of the document
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateDocumentsAsync(String document, String primaryKey) {
+        return this.documents.updateDocumentsAsync(this.uid, document, primaryKey, null);
+    }
+
     /**
      * Updates documents in index in batches
      *
@@ -312,23 +712,13 @@ public class Index implements Serializable {
      */
     public TaskInfo[] updateDocumentsInBatches(
             String document, Integer batchSize, String primaryKey) throws MeilisearchException {
-
-        JSONArray jsonDocumentsArray = new JSONArray(document);
-        JSONArray jsonSubArray = new JSONArray();
-        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
-
-        batchSize =
-                jsonDocumentsArray.length() < batchSize ? jsonDocumentsArray.length() : batchSize;
-
-        for (int i = 0; i < jsonDocumentsArray.length(); i += batchSize) {
-            for (int j = 0; j < batchSize && j + i < jsonDocumentsArray.length(); j++) {
-                jsonSubArray.put(j, jsonDocumentsArray.get(i + j));
-            }
-            arrayResponses.add(
-                    this.documents.updateDocuments(
-                            this.uid, jsonSubArray.toString(), primaryKey, null));
-        }
-        return arrayResponses.toArray(new TaskInfo[arrayResponses.size()]);
+        BatchOptions options =
+                new BatchOptions()
+                        .setMaxDocuments(batchSize)
+                        .setMaxBytes(0)
+                        .setPrimaryKey(primaryKey);
+        return this.updateDocumentsInBatches(new StringReader(document), options)
+                .toArray(new TaskInfo[0]);
     }
 
     /**
@@ -345,6 +735,171 @@ public class Index implements Serializable {
         return this.updateDocumentsInBatches(document, 1000, null);
     }
 
+    /**
+     * Updates documents in the index in batches, reading a JSON array or NDJSON payload
+     * incrementally so that only the batch being sent is held in memory
+     *
+     * <p>Batches are sent one at a time, each once the previous one is enqueued, and the method
+     * returns once every batch is enqueued.
+     *
+     * @param documents JSON array or NDJSON payload, consumed but not closed
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return TaskInfo of each batch, in sending order
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> updateDocumentsInBatches(Reader documents, BatchOptions options)
+            throws MeilisearchException {
+        return sendBatches(
+                this.documents.updateDocumentsInBatches(
+                        this.uid, new JsonDocumentIterator(documents), options));
+    }
+
+    /**
+     * Updates documents in the index in batches, reading a JSON array or NDJSON file
+     * incrementally so that only the batch being sent is held in memory
+     *
+     * <p>Batches are sent one at a time, each once the previous one is enqueued, and the method
+     * returns once every batch is enqueued.
+     *
+     * @param documents UTF-8 encoded JSON array or NDJSON file
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return TaskInfo of each batch, in sending order
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> updateDocumentsInBatches(Path documents, BatchOptions options)
+            throws MeilisearchException {
+        Reader reader = openReader(documents);
+        try {
+            return updateDocumentsInBatches(reader, options);
+        } finally {
+            closeReader(reader);
+        }
+    }
+
+    /**
+     * Updates documents in the index in batches, encoding documents one at a time with the
+     * configured JsonHandler as batches are built
+     *
+     * <p>Batches are sent one at a time, each once the previous one is enqueued, and the method
+     * returns once every batch is enqueued.
+     *
+     * @param documents Documents to send, consumed as batches are sent
+     * @param options Limits of each batch and primaryKey of the documents
+     * @return TaskInfo of each batch, in sending order
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> updateDocumentsInBatches(Iterator<?> documents, BatchOptions options)
+            throws MeilisearchException {
+        return sendBatches(
+                this.documents.updateDocumentsInBatches(
+                        this.uid,
+                        DocumentBatches.encode(documents, this.config.jsonHandler),
+                        options));
+    }
+
+    /**
+     * Updates documents in the index in batches encoded and uploaded concurrently, with at most
+     * {@link BatchOptions#getMaxInFlight()} chunks of documents in flight
+     *
+     * <p>Chunks of documents are uploaded concurrently, so Meilisearch may enqueue them out of the
+     * order of the documents: a document appearing several times in the source may keep any of its
+     * versions unless maxInFlight is 1.
+     *
+     * @param documents Documents to send, encoded with the configured JsonHandler
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> updateDocumentsInParallel(Iterator<?> documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.documents.updateDocumentsInParallel(
+                this.uid, documents, this.config.jsonHandler::encode, options);
+    }
+
+    /**
+     * Updates documents in the index in batches uploaded concurrently, reading a JSON array or
+     * NDJSON payload incrementally with at most {@link BatchOptions#getMaxInFlight()} chunks of
+     * documents in flight
+     *
+     * <p>Chunks of documents are uploaded concurrently, so Meilisearch may enqueue them out of the
+     * order of the documents: a document appearing several times in the source may keep any of its
+     * versions unless maxInFlight is 1.
+     *
+     * @param documents JSON array or NDJSON payload, consumed but not closed
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> updateDocumentsInParallel(Reader documents, BatchOptions options)
+            throws MeilisearchException {
+        return this.documents.updateDocumentsInParallel(
+                this.uid, new JsonDocumentIterator(documents), String.class::cast, options);
+    }
+
+    /**
+     * Updates documents in the index in batches uploaded concurrently, reading a JSON array or
+     * NDJSON file incrementally with at most {@link BatchOptions#getMaxInFlight()} chunks of
+     * documents in flight
+     *
+     * <p>Chunks of documents are uploaded concurrently, so Meilisearch may enqueue them out of the
+     * order of the documents: a document appearing several times in the source may keep any of its
+     * versions unless maxInFlight is 1.
+     *
+     * @param documents UTF-8 encoded JSON array or NDJSON file
+     * @param options Limits of each batch, parallelism and primaryKey of the documents
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public List<TaskInfo> updateDocumentsInParallel(Path documents, BatchOptions options)
+            throws MeilisearchException {
+        Reader reader = openReader(documents);
+        try {
+            return updateDocumentsInParallel(reader, options);
+        } finally {
+            closeReader(reader);
+        }
+    }
+
+    private static List<TaskInfo> sendBatches(Iterator<TaskInfo> batches) {
+        List<TaskInfo> taskInfos = new ArrayList<>();
+        batches.forEachRemaining(taskInfos::add);
+        return taskInfos;
+    }
+
+    private static Reader openReader(Path documents) {
+        try {
+            return Files.newBufferedReader(documents, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    private static void closeReader(Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
     /**
      * Deletes a document from the index
      *
@@ -431,6 +986,78 @@ public class Index implements Serializable {
         return this.search.search(this.uid, searchRequest);
     }
 
+    /**
+     * Searches documents in the index without blocking the calling thread
+     *
+     * <p>The request is sent on the HTTP client dispatcher and the returned future is completed
+     * from its callback thread, so callers should avoid blocking inside dependent stages.
+     *
+     * @param searchRequest SearchRequest SearchRequest
+     * @return future completed with the Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/search#search-in-an-index-with-post">API
+     *     specification</a>
+     */
+    public CompletableFuture<Searchable> searchAsync(SearchRequest searchRequest) {
+        return this.search.searchAsync(this.uid, searchRequest);
+    }
+
+    /**
+     * Searches documents in the index, decoding the hits into a class
+     *
+     * <p>The fields Meilisearch adds to the hits, such as {@code _formatted}, {@code
+     * _rankingScore} and {@code _matchesPosition}, are exposed on each {@link SearchHit} instead of
+     * the document. When attribute projection is enabled in the configuration and the request does
+     * not set attributesToRetrieve, only the attributes of the target class are retrieved.
+     *
+     * @param <T> Type of the documents of the index
+     * @param searchRequest SearchRequest SearchRequest
+     * @param targetClass Class the hits are decoded into
+     * @return Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/search#search-in-an-index-with-post">API
+     *     specification</a>
+     */
+    public <T> TypedSearchResult<T> search(SearchRequest searchRequest, Class<T> targetClass)
+            throws MeilisearchException {
+        return this.search.search(this.uid, searchRequest, targetClass);
+    }
+
+    /**
+     * Searches documents in the index without blocking the calling thread, decoding the hits into a
+     * class
+     *
+     * @param <T> Type of the documents of the index
+     * @param searchRequest SearchRequest SearchRequest
+     * @param targetClass Class the hits are decoded into
+     * @return future completed with the Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/search#search-in-an-index-with-post">API
+     *     specification</a>
+     */
+    public <T> CompletableFuture<TypedSearchResult<T>> searchAsync(
+            SearchRequest searchRequest, Class<T> targetClass) {
+        return this.search.searchAsync(this.uid, searchRequest, targetClass);
+    }
+
+    /**
+     * Searches documents in the index, keeping the raw response and decoding the hits lazily
+     *
+     * <p>Only the fields read through {@link HitView} are decoded, which avoids materializing the
+     * documents when a few fields of each hit are used.
+     *
+     * @param searchRequest SearchRequest SearchRequest
+     * @return Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/search#search-in-an-index-with-post">API
+     *     specification</a>
+     */
+    public LazySearchResult lazySearch(SearchRequest searchRequest) throws MeilisearchException {
+        return this.search.lazySearch(this.uid, searchRequest);
+    }
+
     /**
      * Performs a Facet Search in the index
      *
@@ -490,6 +1117,27 @@ public class Index implements Serializable {
         return this.settingsHandler.updateSettings(this.uid, settings);
     }
 
+    /**
+     * Updates only the settings of the index that differ from the desired settings, so that
+     * applying unchanged settings does not trigger a reindex
+     *
+     * <p>Fields left null in the desired settings are not managed. The order of the values is only
+     * compared for the ranking rules, the searchable attributes and the localized attributes,
+     * every other list is compared as a set. Embedders are merged by name, only the desired ones
+     * being compared, and an embedder setting an API key is always updated as Meilisearch only
+     * returns API keys redacted.
+     *
+     * @param settings the object that contains the desired settings
+     * @return TaskInfo instance of the update, or null if the index already has the desired
+     *     settings
+     * @throws MeilisearchException if an error occurs
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/settings#update-settings">API
+     *     specification</a>
+     */
+    public TaskInfo reconcileSettings(Settings settings) throws MeilisearchException {
+        return this.settingsHandler.reconcileSettings(this.uid, settings);
+    }
+
     /**
      * Resets the settings of the index
      *
@@ -502,6 +1150,40 @@ public class Index implements Serializable {
         return this.settingsHandler.resetSettings(this.uid);
     }
 
+    /**
+     * Gets the settings of the index without blocking the calling thread
+     *
+     * @return future completed with the settings of the index
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/settings#get-settings">API
+     *     specification</a>
+     */
+    public CompletableFuture<Settings> getSettingsAsync() {
+        return this.settingsHandler.getSettingsAsync(this.uid);
+    }
+
+    /**
+     * Updates the settings of the index without blocking the calling thread
+     *
+     * @param settings the object that contains the data with the new settings
+     * @return future completed with the TaskInfo instance
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/settings#update-settings">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateSettingsAsync(Settings settings) {
+        return this.settingsHandler.updateSettingsAsync(this.uid, settings);
+    }
+
+    /**
+     * Resets the settings of the index without blocking the calling thread
+     *
+     * @return future completed with the TaskInfo instance
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/settings#reset-settings">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> resetSettingsAsync() {
+        return this.settingsHandler.resetSettingsAsync(this.uid);
+    }
+
     /**
      * Gets the ranking rules settings of the index
      *
@@ -1139,6 +1821,18 @@ public class Index implements Serializable {
         return this.tasksHandler.getTask(taskId);
     }
 
+    /**
+     * Retrieves an index task by its uid without blocking the calling thread
+     *
+     * @param taskId Identifier of the requested index task
+     * @return future completed with the Task instance
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#get-one-task">API
+     *     specification</a>
+     */
+    public CompletableFuture<Task> getTaskAsync(int taskId) {
+        return this.tasksHandler.getTaskAsync(taskId);
+    }
+
     /**
      * Retrieves list of tasks of the index
      *
@@ -1191,6 +1885,46 @@ public class Index implements Serializable {
         this.tasksHandler.waitForTask(taskId, timeoutInMs, intervalInMs);
     }
 
+    /**
+     * Waits for a task to be processed without blocking the calling thread
+     *
+     * @param taskId Identifier of the requested Task
+     * @return future completed with the processed Task, cancel it to stop waiting
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#task-status">API
+     *     specification</a>
+     */
+    public CompletableFuture<Task> waitForTaskAsync(int taskId) {
+        return this.tasksHandler.waitForTaskAsync(taskId);
+    }
+
+    /**
+     * Waits for several tasks to be processed, their status being fetched with shared requests
+     *
+     * @param taskIds Identifiers of the requested Tasks
+     * @return processed Tasks, in the order of the identifiers
+     * @throws MeilisearchException if an error occurs or if timeout is reached
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#task-status">API
+     *     specification</a>
+     */
+    public List<Task> waitForTasks(Collection<Integer> taskIds) throws MeilisearchException {
+        return this.tasksHandler.waitForTasks(taskIds, 5000);
+    }
+
+    /**
+     * Waits for several tasks to be processed, their status being fetched with shared requests
+     *
+     * @param taskIds Identifiers of the requested Tasks
+     * @param timeoutInMs number of milliseconds before throwing an Exception, for all tasks
+     * @return processed Tasks, in the order of the identifiers
+     * @throws MeilisearchException if an error occurs or if timeout is reached
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#task-status">API
+     *     specification</a>
+     */
+    public List<Task> waitForTasks(Collection<Integer> taskIds, int timeoutInMs)
+            throws MeilisearchException {
+        return this.tasksHandler.waitForTasks(taskIds, timeoutInMs);
+    }
+
     /**
      * Fetches the primary key of the index in the Meilisearch instance
      *
@@ -0,0 +1,135 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.request.PathSegments;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side cache of responses of indexes, invalidated when a write on an index is sent through
+ * a client sharing the configuration, and again when the enqueued task is processed
+ *
+ * <p>Invalidations are numbered, and the number of the last invalidation of each index is kept so
+ * that a response is not cached if its index was invalidated while it was requested. The numbers
+ * of the indexes are dropped when an index is deleted or the indexes are swapped, and once more
+ * than {@link #MAX_TRACKED_INDEXES} indexes are tracked, by moving every stamp past them.
+ */
+abstract class IndexCache {
+    static final int MAX_TRACKED_INDEXES = 1024;
+
+    /** Source of the expiry of the entries, {@link System#nanoTime()} outside of tests */
+    final LongSupplier nanoTime;
+
+    // guarded by this
+    private final Map<String, Long> indexInvalidations = new HashMap<>();
+    private long invalidations;
+    private long allInvalidated;
+
+    IndexCache(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Gets a stamp to pass when caching the response of an index, so that a response racing with
+     * an invalidation of its index is not cached
+     *
+     * @param indexUid Index identifier
+     * @return current invalidation stamp of the index
+     */
+    synchronized long stamp(String indexUid) {
+        return Math.max(allInvalidated, indexInvalidations.getOrDefault(indexUid, 0L));
+    }
+
+    /**
+     * Invalidates the cached responses of an index
+     *
+     * @param indexUid Index identifier
+     */
+    public synchronized void invalidate(String indexUid) {
+        indexInvalidations.put(indexUid, ++invalidations);
+        if (indexInvalidations.size() > MAX_TRACKED_INDEXES) forgetIndexes();
+        evict(indexUid);
+    }
+
+    /** Invalidates the cached responses of every index */
+    public synchronized void invalidateAll() {
+        forgetIndexes();
+        evictAll();
+    }
+
+    /**
+     * Invalidates the cached responses of a deleted or updated index, and drops the number of its
+     * last invalidation
+     *
+     * @param indexUid Index identifier
+     */
+    synchronized void forget(String indexUid) {
+        forgetIndexes();
+        evict(indexUid);
+    }
+
+    /**
+     * Moves the stamp of every index past the last invalidation of each index, so that their
+     * numbers are no longer needed. Responses of other indexes requested meanwhile are not cached.
+     */
+    private void forgetIndexes() {
+        allInvalidated = ++invalidations;
+        indexInvalidations.clear();
+    }
+
+    /**
+     * Gets the number of indexes whose last invalidation is tracked
+     *
+     * @return number of tracked indexes
+     */
+    synchronized int trackedIndexes() {
+        return indexInvalidations.size();
+    }
+
+    /**
+     * Invalidates the indexes written by a request sent to Meilisearch
+     *
+     * @param path path of the request, it is a write if the method is not GET
+     * @param response decoded response of the request
+     * @param tracker tracker used to invalidate again once the enqueued task is processed
+     */
+    void onWrite(String path, Object response, TaskTracker tracker) {
+        PathSegments segments = PathSegments.of(path);
+        String indexUid = segments.indexUid();
+        Runnable invalidation;
+        if (segments.is(0, "swap-indexes")) {
+            invalidation = this::invalidateAll;
+        } else if (indexUid != null && segments.size() == 2) {
+            invalidation = () -> forget(indexUid);
+        } else if (indexUid != null && isWrite(segments)) {
+            invalidation = () -> invalidate(indexUid);
+        } else {
+            return;
+        }
+
+        invalidation.run();
+        if (response instanceof TaskInfo) {
+            tracker.track(((TaskInfo) response).getTaskUid(), TaskTracker.DEFAULT_MAX_INTERVAL_MS)
+                    .whenComplete((task, e) -> invalidation.run());
+        }
+    }
+
+    /**
+     * Checks whether a write changes the cached responses of its index
+     *
+     * @param segments segments of a path below {@code /indexes/{indexUid}}
+     * @return true if the responses of the index must be invalidated
+     */
+    abstract boolean isWrite(PathSegments segments);
+
+    /**
+     * Removes the cached responses of an index, called holding the lock of the cache
+     *
+     * @param indexUid Index identifier
+     */
+    abstract void evict(String indexUid);
+
+    /** Removes every cached response, called holding the lock of the cache */
+    abstract void evictAll();
+}
@@ -0,0 +1,58 @@
+package com.meilisearch.sdk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Paths of the routes of an index, built once per index instead of on every request */
+final class IndexRoutes {
+    private static final int MAX_INDEXES = 1024;
+    private static final Map<String, IndexRoutes> ROUTES = new ConcurrentHashMap<>();
+
+    final String search;
+    final String documents;
+    final String documentsFetch;
+    final String settings;
+    private final Map<String, String> settingPaths = new ConcurrentHashMap<>();
+
+    private IndexRoutes(String uid) {
+        String index = "/indexes/" + uid;
+        this.search = index + "/search";
+        this.documents = index + "/documents";
+        this.documentsFetch = documents + "/fetch";
+        this.settings = index + "/settings";
+    }
+
+    /**
+     * Gets the routes of an index
+     *
+     * @param uid Index identifier
+     * @return routes of the index
+     */
+    static IndexRoutes of(String uid) {
+        IndexRoutes routes = ROUTES.get(uid);
+        if (routes != null) return routes;
+        // applications are not expected to use many indexes, the cache is only bounded for safety
+        if (ROUTES.size() >= MAX_INDEXES) ROUTES.clear();
+        return ROUTES.computeIfAbsent(uid, IndexRoutes::new);
+    }
+
+    /**
+     * Gets the path of a document
+     *
+     * @param identifier Identifier of the document
+     * @return path of the document
+     */
+    String document(String identifier) {
+        return documents + '/' + identifier;
+    }
+
+    /**
+     * Gets the path of a setting
+     *
+     * @param name Name of the setting route, such as ranking-rules
+     * @return path of the setting
+     */
+    String setting(String name) {
+        return settingPaths.computeIfAbsent(name, key -> settings + '/' + key);
+    }
+}
@@ -3,7 +3,6 @@ package com.meilisearch.sdk;
 import com.meilisearch.sdk.model.MatchingStrategy;
 import lombok.*;
 import lombok.experimental.Accessors;
-import org.json.JSONObject;
 
 @Builder
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
@@ -72,42 +71,36 @@ public class IndexSearchRequest {
      */
     @Override
     public String toString() {
-        JSONObject jsonObject =
-                new JSONObject()
-                        .put("q", this.q)
-                        .put("offset", this.offset)
-                        .put("limit", this.limit)
-                        .put("attributesToRetrieve", this.attributesToRetrieve)
-                        .put("cropLength", this.cropLength)
-                        .put("cropMarker", this.cropMarker)
-                        .put("highlightPreTag", this.highlightPreTag)
-                        .put("highlightPostTag", this.highlightPostTag)
-                        .put(
-                                "matchingStrategy",
-                                this.matchingStrategy == null
-                                        ? null
-                                        : this.matchingStrategy.toString())
-                        .put("showMatchesPosition", this.showMatchesPosition)
-                        .put("facets", this.facets)
-                        .put("sort", this.sort)
-                        .put("page", this.page)
-                        .put("hitsPerPage", this.hitsPerPage)
-                        .put(
-                                "federationOptions",
-                                this.federationOptions != null
-                                        ? this.federationOptions.toString()
-                                        : null)
-                        .putOpt("attributesToCrop", this.attributesToCrop)
-                        .putOpt("attributesToHighlight", this.attributesToHighlight)
-                        .putOpt("filter", this.filter)
-                        .putOpt("filter", this.filterArray)
-                        .putOpt("showRankingScore", this.showRankingScore)
-                        .putOpt("showRankingScoreDetails", this.showRankingScoreDetails)
-                        .putOpt("rankingScoreThreshold", this.rankingScoreThreshold)
-                        .putOpt("attributesToSearchOn", this.attributesToSearchOn)
-                        .putOpt("locales", this.locales)
-                        .putOpt("distinct", this.distinct);
-
-        return jsonObject.toString();
+        return new JsonBodyWriter()
+                .field("q", this.q)
+                .field("offset", this.offset)
+                .field("limit", this.limit)
+                .field("attributesToRetrieve", this.attributesToRetrieve)
+                .field("attributesToCrop", this.attributesToCrop)
+                .field("cropLength", this.cropLength)
+                .field("cropMarker", this.cropMarker)
+                .field("highlightPreTag", this.highlightPreTag)
+                .field("highlightPostTag", this.highlightPostTag)
+                .field(
+                        "matchingStrategy",
+                        this.matchingStrategy == null ? null : this.matchingStrategy.toString())
+                .field("attributesToHighlight", this.attributesToHighlight)
+                .field("attributesToSearchOn", this.attributesToSearchOn)
+                .field("filter", this.filterArray == null ? this.filter : null)
+                .field("filter", this.filterArray)
+                .field("showMatchesPosition", this.showMatchesPosition)
+                .field("facets", this.facets)
+                .field("sort", this.sort)
+                .field("page", this.page)
+                .field("hitsPerPage", this.hitsPerPage)
+                .field("showRankingScore", this.showRankingScore)
+                .field("showRankingScoreDetails", this.showRankingScoreDetails)
+                .field("rankingScoreThreshold", this.rankingScoreThreshold)
+                .field("locales", this.locales)
+                .field("distinct", this.distinct)
+                .rawField(
+                        "federationOptions",
+                        this.federationOptions == null ? null : this.federationOptions.toString())
+                .build();
     }
 }
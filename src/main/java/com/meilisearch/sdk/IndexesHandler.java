@@ -22,7 +22,11 @@ class IndexesHandler {
      * @param config Meilisearch configuration
      */
     protected IndexesHandler(Config config) {
-        this.httpClient = config.httpClient;
+        this(config.httpClient);
+    }
+
+    IndexesHandler(HttpClient httpClient) {
+        this.httpClient = httpClient;
     }
 
     /**
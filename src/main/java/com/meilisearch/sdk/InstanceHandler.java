@@ -14,7 +14,11 @@ public class InstanceHandler {
      * @param config Meilisearch configuration
      */
     protected InstanceHandler(Config config) {
-        this.httpClient = config.httpClient;
+        this(config.httpClient);
+    }
+
+    InstanceHandler(HttpClient httpClient) {
+        this.httpClient = httpClient;
     }
 
     /**
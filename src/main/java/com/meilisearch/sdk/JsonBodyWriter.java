@@ -0,0 +1,114 @@
+package com.meilisearch.sdk;
+
+import com.google.gson.stream.JsonWriter;
+import com.meilisearch.sdk.exceptions.JsonEncodingException;
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Writes the JSON object of a request body field by field, without building an intermediate tree
+ *
+ * <p>Null fields are omitted and fields are written in the order they are added.
+ */
+final class JsonBodyWriter {
+    private final StringWriter buffer = new StringWriter(256);
+    private final JsonWriter writer = new JsonWriter(buffer);
+
+    JsonBodyWriter() {
+        try {
+            writer.beginObject();
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    JsonBodyWriter field(String name, String value) {
+        try {
+            if (value != null) writer.name(name).value(value);
+            return this;
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    JsonBodyWriter field(String name, Number value) {
+        try {
+            if (value != null) writer.name(name).value(value);
+            return this;
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    JsonBodyWriter field(String name, Boolean value) {
+        try {
+            if (value != null) writer.name(name).value(value);
+            return this;
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    JsonBodyWriter field(String name, String[] values) {
+        try {
+            if (values != null) writeArray(writer.name(name), values);
+            return this;
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    JsonBodyWriter field(String name, String[][] values) {
+        try {
+            if (values == null) return this;
+            writer.name(name).beginArray();
+            for (String[] value : values) {
+                if (value == null) writer.nullValue();
+                else writeArray(writer, value);
+            }
+            writer.endArray();
+            return this;
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    /**
+     * Writes a field holding an already encoded JSON value
+     *
+     * @param name field name
+     * @param json encoded JSON value, the field is omitted if null
+     * @return this writer
+     */
+    JsonBodyWriter rawField(String name, String json) {
+        try {
+            if (json != null) writer.name(name).jsonValue(json);
+            return this;
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    /**
+     * Closes the object and returns the encoded body
+     *
+     * @return JSON string of the written fields
+     */
+    String build() {
+        try {
+            writer.endObject();
+            writer.close();
+            return buffer.toString();
+        } catch (IOException e) {
+            throw new JsonEncodingException(e);
+        }
+    }
+
+    private static void writeArray(JsonWriter writer, String[] values) throws IOException {
+        writer.beginArray();
+        for (String value : values) {
+            writer.value(value);
+        }
+        writer.endArray();
+    }
+}
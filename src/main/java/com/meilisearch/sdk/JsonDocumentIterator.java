@@ -0,0 +1,128 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the raw JSON text of the documents of a JSON array or of an NDJSON payload, read
+ * incrementally from a Reader
+ *
+ * <p>Documents are only delimited, not parsed, so only one document is held in memory at a time.
+ */
+class JsonDocumentIterator implements Iterator<String> {
+    private final Reader reader;
+    private final StringBuilder document = new StringBuilder();
+    private boolean started;
+    private boolean inArray;
+    private boolean done;
+    private String next;
+
+    JsonDocumentIterator(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readDocument();
+        }
+        return next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String current = next;
+        next = null;
+        return current;
+    }
+
+    private String readDocument() {
+        int c = skipWhitespace();
+        if (!started) {
+            started = true;
+            if (c == '[') {
+                inArray = true;
+                c = skipWhitespace();
+                if (c == ']') {
+                    done = true;
+                    return null;
+                }
+            }
+        } else if (inArray) {
+            if (c == ']') {
+                done = true;
+                return null;
+            }
+            if (c == -1) {
+                throw new JsonDecodingException("Unterminated JSON array of documents");
+            }
+            if (c != ',') {
+                throw new JsonDecodingException("Expected ',' or ']' between documents");
+            }
+            c = skipWhitespace();
+        }
+
+        if (c == -1) {
+            if (inArray) {
+                throw new JsonDecodingException("Unterminated JSON array of documents");
+            }
+            done = true;
+            return null;
+        }
+        if (c != '{') {
+            throw new JsonDecodingException("Expected a JSON object, found '" + (char) c + "'");
+        }
+
+        document.setLength(0);
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (c != -1) {
+            document.append((char) c);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return document.toString();
+                }
+            }
+            c = read();
+        }
+        throw new JsonDecodingException("Unterminated JSON document");
+    }
+
+    private int skipWhitespace() {
+        int c = read();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            c = read();
+        }
+        return c;
+    }
+
+    private int read() {
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.StreamingContent;
+import com.meilisearch.sdk.http.request.StreamingContents;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Ingests documents in batches concurrently: documents are read on the calling thread in chunks of
+ * {@link BatchOptions#getMaxDocuments()}, encoded on the serialization executor and uploaded
+ * without blocking, with at most {@link BatchOptions#getMaxInFlight()} chunks between reading and
+ * the server response
+ *
+ * <p>The batches of a chunk are uploaded one after the other, but chunks are uploaded
+ * concurrently, so Meilisearch may enqueue them out of the order of the documents. The TaskInfos
+ * are still returned in the order of the documents.
+ *
+ * <p>The calling thread blocks once the in-flight limit is reached, which bounds memory to a few
+ * chunks whatever the size of the source.
+ */
+class ParallelDocumentBatches {
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    private final BatchOptions options;
+    private final Function<StreamingContent, CompletableFuture<TaskInfo>> sender;
+    private final Executor executor;
+
+    ParallelDocumentBatches(
+            BatchOptions options, Function<StreamingContent, CompletableFuture<TaskInfo>> sender) {
+        this.options = options;
+        this.sender = sender;
+        this.executor =
+                options.getSerializationExecutor() != null
+                        ? options.getSerializationExecutor()
+                        : ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Sends all documents and waits for every batch to be enqueued
+     *
+     * @param documents documents to send, consumed on the calling thread
+     * @param encoder encodes a document to JSON, called on the serialization executor
+     * @return TaskInfo of each batch, in the order of the documents
+     * @throws MeilisearchException if a batch could not be encoded or sent, no more chunks are
+     *     started after the first failure
+     */
+    List<TaskInfo> send(Iterator<?> documents, Function<Object, String> encoder)
+            throws MeilisearchException {
+        int chunkSize =
+                options.getMaxDocuments() > 0 ? options.getMaxDocuments() : DEFAULT_CHUNK_SIZE;
+        Semaphore inFlight = new Semaphore(Math.max(1, options.getMaxInFlight()));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<List<TaskInfo>>> chunks = new ArrayList<>();
+
+        while (failure.get() == null && documents.hasNext()) {
+            acquire(inFlight);
+            List<Object> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && documents.hasNext()) {
+                chunk.add(documents.next());
+            }
+            CompletableFuture<List<TaskInfo>> uploaded =
+                    CompletableFuture.supplyAsync(() -> encode(chunk, encoder), executor)
+                            .thenCompose(this::upload)
+                            .whenComplete(
+                                    (taskInfos, e) -> {
+                                        if (e != null) {
+                                            failure.compareAndSet(null, e);
+                                        }
+                                        inFlight.release();
+                                    });
+            chunks.add(uploaded);
+        }
+
+        List<TaskInfo> taskInfos = new ArrayList<>();
+        for (CompletableFuture<List<TaskInfo>> chunk : chunks) {
+            try {
+                taskInfos.addAll(chunk.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof MeilisearchException
+                        ? (MeilisearchException) e.getCause()
+                        : new MeilisearchException(e.getCause());
+            }
+        }
+        return taskInfos;
+    }
+
+    private List<List<byte[]>> encode(List<Object> chunk, Function<Object, String> encoder) {
+        List<String> encoded = new ArrayList<>(chunk.size());
+        for (Object document : chunk) {
+            encoded.add(encoder.apply(document));
+        }
+
+        DocumentBatches batches = new DocumentBatches(encoded.iterator(), options, null);
+        List<List<byte[]>> result = new ArrayList<>();
+        while (batches.hasNext()) {
+            result.add(batches.nextBatch());
+        }
+        return result;
+    }
+
+    private CompletableFuture<List<TaskInfo>> upload(List<List<byte[]>> batches) {
+        List<TaskInfo> taskInfos = new ArrayList<>(batches.size());
+        CompletableFuture<Void> uploads = CompletableFuture.completedFuture(null);
+        for (List<byte[]> batch : batches) {
+            uploads =
+                    uploads.thenCompose(
+                                    previous ->
+                                            sender.apply(StreamingContents.encodedJsonArray(batch)))
+                            .thenAccept(taskInfos::add);
+        }
+        return uploads.thenApply(done -> taskInfos);
+    }
+
+    private static void acquire(Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        }
+    }
+}
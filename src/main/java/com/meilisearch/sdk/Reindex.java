@@ -0,0 +1,307 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Embedders;
+import com.meilisearch.sdk.model.ReindexOptions;
+import com.meilisearch.sdk.model.ReindexReport;
+import com.meilisearch.sdk.model.ReindexReport.Step;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.SwapIndexesParams;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Rebuilds the documents of an index in a shadow index, then swaps both indexes atomically so that
+ * searches never see a partially indexed index
+ *
+ * <p>The shadow index is created with the primary key and a clone of the settings of the index,
+ * overridden by the settings of the reindex options, settings being applied in a single update
+ * before the documents so that they are only indexed once. Documents are uploaded with the parallel
+ * batched ingestion in segments: the tasks of a segment are tracked while the next segment is
+ * uploaded, and a checkpoint is reported once they have succeeded. The number of documents of the
+ * shadow index is then validated, the indexes swapped and the previous documents, left in the
+ * shadow index, deleted.
+ */
+class Reindex {
+    private final HttpClient httpClient;
+    private final String uid;
+    private final String shadowUid;
+    private final ReindexOptions options;
+    private final IndexesHandler indexes;
+    private final SettingsHandler settings;
+    private final TasksHandler tasks;
+    private final Documents documents;
+    private final InstanceHandler instance;
+    private long sent;
+    private long indexed;
+    private long started;
+
+    /**
+     * @param config Meilisearch configuration
+     * @param uid Index identifier
+     * @param options Shadow index, batches, checkpoints and validation of the reindex
+     */
+    Reindex(Config config, String uid, ReindexOptions options) {
+        this(config, config.httpClient, new TasksHandler(config), uid, options);
+    }
+
+    Reindex(
+            Config config,
+            HttpClient httpClient,
+            TasksHandler tasks,
+            String uid,
+            ReindexOptions options) {
+        this.httpClient = httpClient;
+        this.uid = uid;
+        this.options = options;
+        this.shadowUid =
+                options.getShadowUid() != null ? options.getShadowUid() : uid + "_reindex";
+        this.indexes = new IndexesHandler(httpClient);
+        this.settings = new SettingsHandler(config, httpClient);
+        this.tasks = tasks;
+        this.documents = new Documents(config, httpClient);
+        this.instance = new InstanceHandler(httpClient);
+    }
+
+    /**
+     * Runs every step of the reindex, waiting for each to be processed by Meilisearch
+     *
+     * @param source documents of the index, consumed on the calling thread
+     * @param encoder encodes a document to JSON
+     * @return report of the completed reindex
+     * @throws MeilisearchException if a step failed, the index is left untouched if the swap was
+     *     not enqueued and the shadow index is kept so that the reindex can be resumed
+     */
+    ReindexReport run(Iterator<?> source, Function<Object, String> encoder)
+            throws MeilisearchException {
+        started = System.nanoTime();
+        report(Step.CREATING_SHADOW_INDEX);
+        Index live = find(uid);
+        String primaryKey = options.getPrimaryKey();
+        if (primaryKey == null && live != null) primaryKey = live.getPrimaryKey();
+        createShadowIndex(primaryKey);
+
+        report(Step.CLONING_SETTINGS);
+        Settings shadowSettings = options.getSettings();
+        if (live != null) {
+            Settings current = httpClient.get(IndexRoutes.of(uid).settings, Settings.class);
+            shadowSettings = withOverrides(withoutApiKeys(current), options.getSettings());
+        }
+        if (shadowSettings != null) {
+            await(settings.reconcileSettings(shadowUid, shadowSettings));
+        }
+
+        report(Step.INDEXING);
+        index(source, encoder);
+
+        report(Step.VALIDATING);
+        validate();
+
+        report(Step.SWAPPING);
+        if (live == null) await(indexes.createIndex(uid, primaryKey));
+        SwapIndexesParams swap = new SwapIndexesParams().setIndexes(new String[] {uid, shadowUid});
+        await(httpClient.post("/swap-indexes", new SwapIndexesParams[] {swap}, TaskInfo.class));
+
+        report(Step.CLEANING_UP);
+        if (options.isDeletePreviousIndex()) await(indexes.deleteIndex(shadowUid));
+        return report(Step.COMPLETED);
+    }
+
+    private void createShadowIndex(String primaryKey) {
+        boolean exists = find(shadowUid) != null;
+        if (options.getResumeFrom() > 0) {
+            if (!exists) {
+                throw new MeilisearchException(
+                        "Cannot resume the reindex of " + uid + ", " + shadowUid + " is missing");
+            }
+            return;
+        }
+        if (exists) await(indexes.deleteIndex(shadowUid));
+        await(indexes.createIndex(shadowUid, primaryKey));
+    }
+
+    /**
+     * Uploads the documents segment by segment, waiting for the tasks of a segment while the next
+     * one is uploaded
+     */
+    private void index(Iterator<?> source, Function<Object, String> encoder) {
+        while (sent < options.getResumeFrom() && source.hasNext()) {
+            source.next();
+            sent++;
+        }
+        indexed = sent;
+
+        List<Integer> pending = Collections.emptyList();
+        long pendingEnd = sent;
+        while (source.hasNext()) {
+            Segment segment = new Segment(source, Math.max(1, options.getCheckpointDocuments()));
+            List<TaskInfo> enqueued =
+                    documents.addDocumentsInParallel(
+                            shadowUid, segment, encoder, options.getBatchOptions());
+            sent += segment.count;
+
+            awaitAll(pending);
+            indexed = pendingEnd;
+            report(Step.INDEXING);
+
+            pending = new ArrayList<>(enqueued.size());
+            for (TaskInfo taskInfo : enqueued) {
+                pending.add(taskInfo.getTaskUid());
+            }
+            pendingEnd = sent;
+        }
+        awaitAll(pending);
+        indexed = pendingEnd;
+        report(Step.INDEXING);
+    }
+
+    private void validate() {
+        if (!options.isValidateDocumentCount()) return;
+        long expected = options.getExpectedDocuments() >= 0 ? options.getExpectedDocuments() : sent;
+        long actual = instance.getIndexStats(shadowUid).getNumberOfDocuments();
+        if (actual != expected) {
+            throw new MeilisearchException(
+                    shadowUid
+                            + " holds "
+                            + actual
+                            + " documents instead of "
+                            + expected
+                            + ", the indexes were not swapped");
+        }
+    }
+
+    private Index find(String indexUid) {
+        try {
+            return indexes.getIndex(indexUid);
+        } catch (MeilisearchApiException e) {
+            if ("index_not_found".equals(e.getCode())) return null;
+            throw e;
+        }
+    }
+
+    /**
+     * Meilisearch only returns the API keys of embedders redacted, they must not be copied to the
+     * shadow index
+     */
+    private static Settings withoutApiKeys(Settings current) {
+        if (current.getEmbedders() != null) {
+            for (Embedders embedder : current.getEmbedders().values()) {
+                if (embedder != null) embedder.setApiKey(null);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Applies the non-null fields of the reindex settings to the cloned settings, so that the
+     * shadow index is updated once. Embedders are merged by name, an embedder of the reindex
+     * settings replacing the cloned embedder of the same name and a null embedder removing it.
+     */
+    private static Settings withOverrides(Settings cloned, Settings overrides) {
+        if (overrides == null) return cloned;
+        override(overrides.getSynonyms(), cloned::setSynonyms);
+        override(overrides.getStopWords(), cloned::setStopWords);
+        override(overrides.getRankingRules(), cloned::setRankingRules);
+        override(overrides.getFilterableAttributes(), cloned::setFilterableAttributes);
+        override(overrides.getDistinctAttribute(), cloned::setDistinctAttribute);
+        override(overrides.getSearchableAttributes(), cloned::setSearchableAttributes);
+        override(overrides.getDisplayedAttributes(), cloned::setDisplayedAttributes);
+        override(overrides.getSortableAttributes(), cloned::setSortableAttributes);
+        override(overrides.getTypoTolerance(), cloned::setTypoTolerance);
+        override(overrides.getPagination(), cloned::setPagination);
+        override(overrides.getFaceting(), cloned::setFaceting);
+        override(overrides.getDictionary(), cloned::setDictionary);
+        override(overrides.getProximityPrecision(), cloned::setProximityPrecision);
+        override(overrides.getSearchCutoffMs(), cloned::setSearchCutoffMs);
+        override(overrides.getSeparatorTokens(), cloned::setSeparatorTokens);
+        override(overrides.getNonSeparatorTokens(), cloned::setNonSeparatorTokens);
+        override(overrides.getLocalizedAttributes(), cloned::setLocalizedAttributes);
+        if (overrides.getEmbedders() != null) {
+            HashMap<String, Embedders> embedders =
+                    cloned.getEmbedders() != null ? cloned.getEmbedders() : new HashMap<>();
+            for (Map.Entry<String, Embedders> entry : overrides.getEmbedders().entrySet()) {
+                if (entry.getValue() == null) {
+                    embedders.remove(entry.getKey());
+                } else {
+                    embedders.put(entry.getKey(), entry.getValue());
+                }
+            }
+            cloned.setEmbedders(embedders);
+        }
+        return cloned;
+    }
+
+    private static <T> void override(T value, Consumer<T> setter) {
+        if (value != null) setter.accept(value);
+    }
+
+    private void await(TaskInfo taskInfo) {
+        if (taskInfo != null) awaitAll(Collections.singletonList(taskInfo.getTaskUid()));
+    }
+
+    private void awaitAll(List<Integer> taskUids) {
+        if (taskUids.isEmpty()) return;
+        for (Task task : tasks.waitForTasks(taskUids, options.getTaskTimeoutMs())) {
+            if (task.getStatus() != TaskStatus.SUCCEEDED) {
+                String reason = task.getError() != null ? task.getError().getMessage() : "";
+                throw new MeilisearchException(
+                        "Task "
+                                + task.getUid()
+                                + " of the reindex of "
+                                + uid
+                                + " is "
+                                + task.getStatus()
+                                + (reason.isEmpty() ? "" : ": " + reason));
+            }
+        }
+    }
+
+    private ReindexReport report(Step step) {
+        ReindexReport report =
+                new ReindexReport(
+                        step,
+                        uid,
+                        shadowUid,
+                        sent,
+                        indexed,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        if (options.getProgressListener() != null) options.getProgressListener().accept(report);
+        return report;
+    }
+
+    /** Documents of the source up to the next checkpoint */
+    private static final class Segment implements Iterator<Object> {
+        private final Iterator<?> source;
+        private final long limit;
+        private long count;
+
+        private Segment(Iterator<?> source, long limit) {
+            this.source = source;
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return count < limit && source.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            count++;
+            return source.next();
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.LazySearchResult;
 import com.meilisearch.sdk.model.SearchResult;
 import com.meilisearch.sdk.model.SearchResultPaginated;
 import com.meilisearch.sdk.model.Searchable;
+import com.meilisearch.sdk.model.TypedSearchResult;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Class used for searching on Meilisearch indexes
@@ -12,6 +17,7 @@ import com.meilisearch.sdk.model.Searchable;
  */
 public class Search {
     private final HttpClient httpClient;
+    private final Config config;
 
     /**
      * Constructor for the Meilisearch Search object
@@ -20,6 +26,7 @@ public class Search {
      */
     protected Search(Config config) {
         httpClient = config.httpClient;
+        this.config = config;
     }
 
     /**
@@ -31,8 +38,9 @@ public class Search {
      * @throws MeilisearchException Search Exception or Client Error
      */
     String rawSearch(String uid, String q) throws MeilisearchException {
-        String requestQuery = "/indexes/" + uid + "/search";
+        String requestQuery = IndexRoutes.of(uid).search;
         SearchRequest sr = SearchRequest.builder().q(q).build();
+        if (config.searchCache != null) return cachedRawSearch(uid, sr.toString());
         return httpClient.post(requestQuery, sr, String.class);
     }
 
@@ -45,7 +53,8 @@ public class Search {
      * @throws MeilisearchException Search Exception or Client Error
      */
     String rawSearch(String uid, SearchRequest sr) throws MeilisearchException {
-        String requestQuery = "/indexes/" + uid + "/search";
+        String requestQuery = IndexRoutes.of(uid).search;
+        if (config.searchCache != null) return cachedRawSearch(uid, sr.toString());
         return httpClient.post(requestQuery, sr.toString(), String.class);
     }
 
@@ -58,7 +67,13 @@ public class Search {
      * @throws MeilisearchException Search Exception or Client Error
      */
     SearchResult search(String uid, String q) throws MeilisearchException {
-        return httpClient.jsonHandler.decode(rawSearch(uid, q), SearchResult.class);
+        String requestQuery = IndexRoutes.of(uid).search;
+        SearchRequest sr = SearchRequest.builder().q(q).build();
+        if (config.searchCache != null) {
+            return config.jsonHandler.decode(
+                    cachedRawSearch(uid, sr.toString()), SearchResult.class);
+        }
+        return httpClient.post(requestQuery, sr, SearchResult.class);
     }
 
     /**
@@ -70,9 +85,209 @@ public class Search {
      * @throws MeilisearchException Search Exception or Client Error
      */
     Searchable search(String uid, SearchRequest sr) throws MeilisearchException {
+        String requestQuery = IndexRoutes.of(uid).search;
+        if (config.searchBatcher != null) return await(searchAsync(uid, sr));
+        if (config.searchCache != null) {
+            return config.jsonHandler.decode(
+                    cachedRawSearch(uid, sr.toString()), resultClass(sr));
+        }
         if (sr != null && (sr.getPage() != null || sr.getHitsPerPage() != null)) {
-            return httpClient.jsonHandler.decode(rawSearch(uid, sr), SearchResultPaginated.class);
+            return httpClient.post(requestQuery, sr.toString(), SearchResultPaginated.class);
+        }
+        return httpClient.post(requestQuery, sr.toString(), SearchResult.class);
+    }
+
+    /**
+     * Performs a search on a given index with a given query without blocking the calling thread
+     *
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @return future completed with the search results, as raw data
+     */
+    CompletableFuture<String> rawSearchAsync(String uid, SearchRequest sr) {
+        return sendAsync(uid, sr.toString());
+    }
+
+    /**
+     * Performs a search on a given index with a given query without blocking the calling thread
+     *
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @return future completed with the search results
+     */
+    CompletableFuture<Searchable> searchAsync(String uid, SearchRequest sr) {
+        String requestQuery = IndexRoutes.of(uid).search;
+        if (config.searchCache != null || config.searchBatcher != null) {
+            return sendAsync(uid, sr.toString())
+                    .thenApply(raw -> config.jsonHandler.decode(raw, resultClass(sr)));
+        }
+        if (sr != null && (sr.getPage() != null || sr.getHitsPerPage() != null)) {
+            return httpClient
+                    .postAsync(requestQuery, sr.toString(), SearchResultPaginated.class)
+                    .thenApply(Searchable.class::cast);
+        }
+        return httpClient
+                .postAsync(requestQuery, sr.toString(), SearchResult.class)
+                .thenApply(Searchable.class::cast);
+    }
+
+    /**
+     * Performs a search on a given index with a given query, decoding the hits into a class
+     *
+     * @param <T> Type of the documents of the index
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @param targetClass Class the hits are decoded into
+     * @return search results
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    @SuppressWarnings("unchecked")
+    <T> TypedSearchResult<T> search(String uid, SearchRequest sr, Class<T> targetClass)
+            throws MeilisearchException {
+        String requestQuery = IndexRoutes.of(uid).search;
+        if (config.searchBatcher != null) return await(searchAsync(uid, sr, targetClass));
+        String body = typedBody(sr, targetClass);
+        if (config.searchCache != null) {
+            return config.jsonHandler.decode(
+                    cachedRawSearch(uid, body), TypedSearchResult.class, targetClass);
+        }
+        return httpClient.<String, TypedSearchResult>post(
+                requestQuery, body, TypedSearchResult.class, targetClass);
+    }
+
+    /**
+     * Performs a search on a given index with a given query without blocking the calling thread,
+     * decoding the hits into a class
+     *
+     * @param <T> Type of the documents of the index
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @param targetClass Class the hits are decoded into
+     * @return future completed with the search results
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<TypedSearchResult<T>> searchAsync(
+            String uid, SearchRequest sr, Class<T> targetClass) {
+        String requestQuery = IndexRoutes.of(uid).search;
+        String body = typedBody(sr, targetClass);
+        CompletableFuture<TypedSearchResult> results;
+        if (config.searchCache != null || config.searchBatcher != null) {
+            results =
+                    sendAsync(uid, body)
+                            .thenApply(
+                                    raw ->
+                                            config.jsonHandler.decode(
+                                                    raw, TypedSearchResult.class, targetClass));
+        } else {
+            results =
+                    httpClient.postAsync(requestQuery, body, TypedSearchResult.class, targetClass);
+        }
+        return results.thenApply(page -> (TypedSearchResult<T>) page);
+    }
+
+    /**
+     * Performs a search on a given index with a given query, keeping the raw response to decode
+     * the hits lazily
+     *
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @return search results over the raw response
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    LazySearchResult lazySearch(String uid, SearchRequest sr) throws MeilisearchException {
+        String requestQuery = IndexRoutes.of(uid).search;
+        if (config.searchCache != null) {
+            return new LazySearchResult(
+                    cachedRawSearch(uid, sr.toString()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new LazySearchResult(httpClient.post(requestQuery, sr.toString(), byte[].class));
+    }
+
+    /**
+     * Performs a search through the search cache of the configuration
+     *
+     * @param uid Index identifier
+     * @param body JSON body of the search request
+     * @return search results, as raw data
+     * @throws MeilisearchException Search Exception or Client Error
+     */
+    private String cachedRawSearch(String uid, String body) throws MeilisearchException {
+        SearchCache cache = config.searchCache;
+        String cached = cache.get(uid, body);
+        if (cached != null) return cached;
+
+        long stamp = cache.stamp(uid);
+        String response = httpClient.post(IndexRoutes.of(uid).search, body, String.class);
+        cache.put(uid, body, response, stamp);
+        return response;
+    }
+
+    /**
+     * Performs a search through the search cache of the configuration without blocking the calling
+     * thread
+     *
+     * @param uid Index identifier
+     * @param body JSON body of the search request
+     * @return future completed with the search results, as raw data
+     */
+    private CompletableFuture<String> cachedRawSearchAsync(String uid, String body) {
+        SearchCache cache = config.searchCache;
+        String cached = cache.get(uid, body);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        long stamp = cache.stamp(uid);
+        return postAsync(uid, body)
+                .thenApply(
+                        response -> {
+                            cache.put(uid, body, response, stamp);
+                            return response;
+                        });
+    }
+
+    /**
+     * Performs a search without blocking the calling thread, through the search cache and the
+     * search batcher of the configuration when set
+     *
+     * @param uid Index identifier
+     * @param body JSON body of the search request
+     * @return future completed with the search results, as raw data
+     */
+    private CompletableFuture<String> sendAsync(String uid, String body) {
+        if (config.searchCache != null) return cachedRawSearchAsync(uid, body);
+        return postAsync(uid, body);
+    }
+
+    private CompletableFuture<String> postAsync(String uid, String body) {
+        if (config.searchBatcher != null) return config.searchBatcher.search(httpClient, uid, body);
+        return httpClient.postAsync(IndexRoutes.of(uid).search, body, String.class);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws MeilisearchException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof MeilisearchException
+                    ? (MeilisearchException) e.getCause()
+                    : new MeilisearchException(e.getCause());
+        }
+    }
+
+    /**
+     * Gets the JSON body of a typed search, deriving the attributes to retrieve from the target
+     * class when enabled in the configuration and not set in the request
+     */
+    private String typedBody(SearchRequest sr, Class<?> targetClass) {
+        if (!config.attributeProjection || sr.getAttributesToRetrieve() != null) {
+            return sr.toString();
+        }
+        String[] attributes = AttributeProjection.of(targetClass);
+        return attributes == null ? sr.toString() : sr.toJson(attributes);
+    }
+
+    private static Class<? extends Searchable> resultClass(SearchRequest sr) {
+        if (sr.getPage() != null || sr.getHitsPerPage() != null) {
+            return SearchResultPaginated.class;
         }
-        return httpClient.jsonHandler.decode(rawSearch(uid, sr), SearchResult.class);
+        return SearchResult.class;
     }
 }
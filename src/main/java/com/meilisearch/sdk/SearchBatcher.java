@@ -0,0 +1,243 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.RawDocuments;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces searches sent within a short window into a single multi-search request
+ *
+ * <p>The first search of a batch opens a window of {@code windowMs} milliseconds, the searches
+ * sent until it closes are sent together to {@code /multi-search} and each caller receives the
+ * result of its own query. A batch is sent as soon as it holds {@code maxQueries} queries, and a
+ * batch holding a single query is sent as a plain search. As Meilisearch fails a whole
+ * multi-search when one of its queries is invalid, a batch rejected with an {@code
+ * invalid_search_*} error is retried query by query, so that only the callers of invalid queries
+ * receive the error. Every other error is returned to every caller of the batch.
+ *
+ * <p>Batching trades up to {@code windowMs} of latency per search for fewer requests, it pays off
+ * when many searches are sent at the same time, such as when rendering a page. A blocking search
+ * waits for its batch, the searches of a single thread are therefore only batched together when
+ * sent with {@link Index#searchAsync(SearchRequest)}.
+ *
+ * <p>Enable it with {@link Config#setSearchBatcher(SearchBatcher)}.
+ */
+public class SearchBatcher {
+    private final long windowMs;
+    private final int maxQueries;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    // guarded by this
+    private Batch pending;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    /**
+     * Creates a search batcher
+     *
+     * @param windowMs number of milliseconds searches are collected before a batch is sent
+     * @param maxQueries maximum number of queries of a batch
+     */
+    public SearchBatcher(long windowMs, int maxQueries) {
+        this.windowMs = windowMs;
+        this.maxQueries = Math.max(1, maxQueries);
+        this.scheduler =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-search-batcher");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.scheduler.setKeepAliveTime(60, TimeUnit.SECONDS);
+        this.scheduler.allowCoreThreadTimeOut(true);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Adds a search to the pending batch
+     *
+     * @param httpClient HTTP client sending the batch
+     * @param indexUid Index identifier
+     * @param body JSON body of the search request
+     * @return future completed with the raw result of the search
+     */
+    CompletableFuture<String> search(HttpClient httpClient, String indexUid, String body) {
+        Query query = new Query(indexUid, body);
+        List<Batch> ready = new ArrayList<>(2);
+        synchronized (this) {
+            // a batch is sent by a single client, a search from another client closes it
+            if (pending != null && pending.httpClient != httpClient) {
+                ready.add(close(pending));
+            }
+            if (pending == null) {
+                Batch batch = new Batch(httpClient);
+                batch.timer =
+                        scheduler.schedule(() -> flush(batch), windowMs, TimeUnit.MILLISECONDS);
+                pending = batch;
+            }
+            pending.queries.add(query);
+            if (pending.queries.size() >= maxQueries) {
+                ready.add(close(pending));
+            }
+        }
+        for (Batch batch : ready) {
+            send(batch);
+        }
+        return query.result;
+    }
+
+    /**
+     * Gets the number of requests sent for batches
+     *
+     * @return number of requests sent
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * Gets the number of searches sent in batches
+     *
+     * @return number of searches sent
+     */
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if (pending != batch) return;
+            pending = null;
+        }
+        send(batch);
+    }
+
+    // guarded by this
+    private Batch close(Batch batch) {
+        batch.timer.cancel(false);
+        pending = null;
+        return batch;
+    }
+
+    private void send(Batch batch) {
+        batches.increment();
+        queries.add(batch.queries.size());
+        if (batch.queries.size() == 1) {
+            sendAlone(batch.httpClient, batch.queries.get(0));
+            return;
+        }
+
+        batch.httpClient
+                .postAsync("/multi-search", multiSearchBody(batch.queries), byte[].class)
+                .whenComplete(
+                        (response, e) -> {
+                            if (e == null) {
+                                dispatch(batch.queries, response);
+                            } else if (isInvalidQuery(unwrap(e))) {
+                                for (Query query : batch.queries) {
+                                    sendAlone(batch.httpClient, query);
+                                }
+                            } else {
+                                for (Query query : batch.queries) {
+                                    query.result.completeExceptionally(unwrap(e));
+                                }
+                            }
+                        });
+    }
+
+    /**
+     * Checks whether a multi-search was rejected because of one of its queries, other errors such
+     * as an invalid API key, a missing index or an unavailable server failing every query alike
+     */
+    private static boolean isInvalidQuery(Throwable e) {
+        if (!(e instanceof MeilisearchApiException)) return false;
+        MeilisearchApiException apiException = (MeilisearchApiException) e;
+        return "invalid_request".equals(apiException.getType())
+                && apiException.getCode() != null
+                && apiException.getCode().startsWith("invalid_search_");
+    }
+
+    private static void sendAlone(HttpClient httpClient, Query query) {
+        httpClient
+                .postAsync(IndexRoutes.of(query.indexUid).search, query.body, String.class)
+                .whenComplete(
+                        (response, e) -> {
+                            if (e == null) {
+                                query.result.complete(response);
+                            } else {
+                                query.result.completeExceptionally(unwrap(e));
+                            }
+                        });
+    }
+
+    private static void dispatch(List<Query> queries, byte[] response) {
+        try {
+            RawDocuments results = new RawDocuments(response);
+            for (int i = 0; i < queries.size(); i++) {
+                CompletableFuture<String> result = queries.get(i).result;
+                if (i < results.size()) {
+                    result.complete(results.getRaw(i));
+                } else {
+                    String message = "Missing result " + i + " of the multi-search";
+                    result.completeExceptionally(new MeilisearchException(message));
+                }
+            }
+        } catch (RuntimeException e) {
+            for (Query query : queries) {
+                query.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /** Writes the queries of a batch, adding the index uid to the body of each search */
+    private static String multiSearchBody(List<Query> queries) {
+        StringBuilder body = new StringBuilder("{\"queries\":[");
+        for (int i = 0; i < queries.size(); i++) {
+            Query query = queries.get(i);
+            String indexUid = new JsonBodyWriter().field("indexUid", query.indexUid).build();
+            if (i > 0) body.append(',');
+            body.append(indexUid, 0, indexUid.length() - 1);
+            if (query.body.length() > 2) {
+                body.append(',').append(query.body, 1, query.body.length());
+            } else {
+                body.append('}');
+            }
+        }
+        return body.append("]}").toString();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private static final class Batch {
+        private final HttpClient httpClient;
+        private final List<Query> queries = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+
+        private Batch(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+    }
+
+    private static final class Query {
+        private final String indexUid;
+        private final String body;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private Query(String indexUid, String body) {
+            this.indexUid = indexUid;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.request.PathSegments;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side cache of raw search responses, keyed on the index uid and the JSON body of the
+ * search request
+ *
+ * <p>Entries expire after a fixed time to live and the least recently used entries are evicted
+ * once the cache holds more than {@code maxEntries} entries or {@code maxBytes} bytes. The cache of
+ * an index is invalidated when a document or settings write on that index is sent through a client
+ * sharing the configuration, and again when the enqueued task is processed. Writes made by other
+ * clients are only picked up once entries expire.
+ *
+ * <p>Enable it with {@link Config#setSearchCache(SearchCache)}.
+ */
+public class SearchCache extends IndexCache {
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // guarded by this
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a search cache
+     *
+     * @param ttlMs number of milliseconds an entry is served after being cached
+     * @param maxEntries maximum number of cached responses
+     * @param maxBytes maximum size of the cached requests and responses, estimated as two bytes per
+     *     character
+     */
+    public SearchCache(long ttlMs, int maxEntries, long maxBytes) {
+        this(ttlMs, maxEntries, maxBytes, System::nanoTime);
+    }
+
+    SearchCache(long ttlMs, int maxEntries, long maxBytes, LongSupplier nanoTime) {
+        super(nanoTime);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets a cached response
+     *
+     * @param indexUid Index identifier
+     * @param request JSON body of the search request
+     * @return the cached raw response, or null if absent or expired
+     */
+    synchronized String get(String indexUid, String request) {
+        Key key = new Key(indexUid, request);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - nanoTime.getAsLong() > 0) {
+            hits.increment();
+            return entry.response;
+        }
+        if (entry != null) remove(key);
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches a response, unless its index was invalidated since the stamp was taken
+     *
+     * @param indexUid Index identifier
+     * @param request JSON body of the search request
+     * @param response raw search response
+     * @param stamp stamp taken before sending the request
+     */
+    synchronized void put(String indexUid, String request, String response, long stamp) {
+        if (stamp != stamp(indexUid)) return;
+
+        Key key = new Key(indexUid, request);
+        remove(key);
+        Entry entry = new Entry(response, nanoTime.getAsLong() + ttlNanos, weigh(key, response));
+        entries.put(key, entry);
+        bytes += entry.weight;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().weight;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    @Override
+    boolean isWrite(PathSegments segments) {
+        if (segments.is(2, "settings")) return true;
+        // documents/fetch is a read sent as a POST
+        return segments.is(2, "documents") && !segments.is(3, "fetch");
+    }
+
+    @Override
+    void evict(String indexUid) {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().indexUid.equals(indexUid)) {
+                bytes -= entry.getValue().weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    void evictAll() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) bytes -= removed.weight;
+    }
+
+    private static long weigh(Key key, String response) {
+        return 2L * (key.indexUid.length() + key.request.length() + response.length()) + 64;
+    }
+
+    private static final class Key {
+        private final String indexUid;
+        private final String request;
+
+        private Key(String indexUid, String request) {
+            this.indexUid = indexUid;
+            this.request = request;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return indexUid.equals(other.indexUid) && request.equals(other.request);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(indexUid, request);
+        }
+    }
+
+    private static final class Entry {
+        private final String response;
+        private final long expiresAt;
+        private final long weight;
+
+        private Entry(String response, long expiresAt, long weight) {
+            this.response = response;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+    }
+}
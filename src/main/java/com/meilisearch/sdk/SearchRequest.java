@@ -8,7 +8,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
-import org.json.JSONObject;
 
 /** Search request query string builder */
 @Builder
@@ -75,37 +74,43 @@ public class SearchRequest {
      */
     @Override
     public String toString() {
-        JSONObject jsonObject =
-                new JSONObject()
-                        .put("q", this.q)
-                        .put("offset", this.offset)
-                        .put("limit", this.limit)
-                        .put("attributesToRetrieve", this.attributesToRetrieve)
-                        .put("cropLength", this.cropLength)
-                        .put("cropMarker", this.cropMarker)
-                        .put("highlightPreTag", this.highlightPreTag)
-                        .put("highlightPostTag", this.highlightPostTag)
-                        .put(
-                                "matchingStrategy",
-                                this.matchingStrategy == null
-                                        ? null
-                                        : this.matchingStrategy.toString())
-                        .put("showMatchesPosition", this.showMatchesPosition)
-                        .put("facets", this.facets)
-                        .put("sort", this.sort)
-                        .put("page", this.page)
-                        .put("hitsPerPage", this.hitsPerPage)
-                        .putOpt("attributesToCrop", this.attributesToCrop)
-                        .putOpt("attributesToHighlight", this.attributesToHighlight)
-                        .putOpt("attributesToSearchOn", this.attributesToSearchOn)
-                        .putOpt("filter", this.filter)
-                        .putOpt("filter", this.filterArray)
-                        .putOpt("showRankingScore", this.showRankingScore)
-                        .putOpt("showRankingScoreDetails", this.showRankingScoreDetails)
-                        .putOpt("rankingScoreThreshold", this.rankingScoreThreshold)
-                        .putOpt("locales", this.locales)
-                        .putOpt("distinct", this.distinct);
+        return toJson(this.attributesToRetrieve);
+    }
 
-        return jsonObject.toString();
+    /**
+     * Gets the JSON String of the SearchRequest with other attributes to retrieve
+     *
+     * @param attributesToRetrieve attributes to retrieve, replacing the ones of the request
+     * @return JSON String of the SearchRequest query
+     */
+    String toJson(String[] attributesToRetrieve) {
+        return new JsonBodyWriter()
+                .field("q", this.q)
+                .field("offset", this.offset)
+                .field("limit", this.limit)
+                .field("attributesToRetrieve", attributesToRetrieve)
+                .field("attributesToCrop", this.attributesToCrop)
+                .field("cropLength", this.cropLength)
+                .field("cropMarker", this.cropMarker)
+                .field("highlightPreTag", this.highlightPreTag)
+                .field("highlightPostTag", this.highlightPostTag)
+                .field(
+                        "matchingStrategy",
+                        this.matchingStrategy == null ? null : this.matchingStrategy.toString())
+                .field("attributesToHighlight", this.attributesToHighlight)
+                .field("attributesToSearchOn", this.attributesToSearchOn)
+                .field("filter", this.filterArray == null ? this.filter : null)
+                .field("filter", this.filterArray)
+                .field("showMatchesPosition", this.showMatchesPosition)
+                .field("facets", this.facets)
+                .field("sort", this.sort)
+                .field("page", this.page)
+                .field("hitsPerPage", this.hitsPerPage)
+                .field("showRankingScore", this.showRankingScore)
+                .field("showRankingScoreDetails", this.showRankingScoreDetails)
+                .field("rankingScoreThreshold", this.rankingScoreThreshold)
+                .field("locales", this.locales)
+                .field("distinct", this.distinct)
+                .build();
     }
 }
@@ -0,0 +1,109 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.request.PathSegments;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side cache of the settings of indexes, answering every settings getter of an index from
+ * a single fetch of {@code /indexes/{uid}/settings}
+ *
+ * <p>The settings of an index are served for a fixed time to live after being fetched. They are
+ * invalidated when a settings update or reset, or the deletion of the index, is sent through a
+ * client sharing the configuration, and again when the enqueued task is processed. Updates made by
+ * other clients are only picked up once the settings expire.
+ *
+ * <p>The raw response is cached and decoded on every call, so the returned settings can be
+ * modified without altering the cache.
+ *
+ * <p>Enable it with {@link Config#setSettingsCache(SettingsCache)}.
+ */
+public class SettingsCache extends IndexCache {
+    private final long ttlNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a settings cache
+     *
+     * @param ttlMs number of milliseconds the settings of an index are served after being fetched
+     */
+    public SettingsCache(long ttlMs) {
+        this(ttlMs, System::nanoTime);
+    }
+
+    SettingsCache(long ttlMs, LongSupplier nanoTime) {
+        super(nanoTime);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+    }
+
+    /**
+     * Gets the cached settings of an index
+     *
+     * @param indexUid Index identifier
+     * @return the raw settings response, or null if absent or expired
+     */
+    String get(String indexUid) {
+        Entry entry = entries.get(indexUid);
+        if (entry != null && entry.expiresAt - nanoTime.getAsLong() > 0) {
+            hits.increment();
+            return entry.settings;
+        }
+        if (entry != null) entries.remove(indexUid, entry);
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the settings of an index, unless the index was invalidated since the stamp was taken
+     *
+     * @param indexUid Index identifier
+     * @param settings raw settings response
+     * @param stamp stamp taken before sending the request
+     */
+    synchronized void put(String indexUid, String settings, long stamp) {
+        if (stamp != stamp(indexUid)) return;
+        entries.put(indexUid, new Entry(settings, nanoTime.getAsLong() + ttlNanos));
+    }
+
+    @Override
+    boolean isWrite(PathSegments segments) {
+        return segments.is(2, "settings");
+    }
+
+    @Override
+    void evict(String indexUid) {
+        entries.remove(indexUid);
+    }
+
+    @Override
+    void evictAll() {
+        entries.clear();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final String settings;
+        private final long expiresAt;
+
+        private Entry(String settings, long expiresAt) {
+            this.settings = settings;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.model.Embedders;
+import com.meilisearch.sdk.model.Faceting;
+import com.meilisearch.sdk.model.LocalizedAttribute;
+import com.meilisearch.sdk.model.Pagination;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.TypoTolerance;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Semantic comparison of the desired settings of an index with its current settings
+ *
+ * <p>Fields left null in the desired settings are not managed and never compared. The order of
+ * the values of a setting is only significant where Meilisearch applies it: ranking rules,
+ * searchable attributes and localized attribute rules. Every other list, such as filterable
+ * attributes or stop words, is compared as a set.
+ */
+final class SettingsDiff {
+    private SettingsDiff() {}
+
+    /**
+     * Computes the settings to send to bring the index from its current to its desired settings
+     *
+     * @param current Settings of the index
+     * @param desired Settings the index must have
+     * @return settings holding the fields of the desired settings that differ from the current
+     *     ones, or null if the index already has the desired settings
+     */
+    static Settings diff(Settings current, Settings desired) {
+        Settings patch = new Settings();
+        boolean changed = false;
+        if (differ(current.getSynonyms(), desired.getSynonyms())) {
+            patch.setSynonyms(desired.getSynonyms());
+            changed = true;
+        }
+        if (differAsSet(current.getStopWords(), desired.getStopWords())) {
+            patch.setStopWords(desired.getStopWords());
+            changed = true;
+        }
+        if (differInOrder(current.getRankingRules(), desired.getRankingRules())) {
+            patch.setRankingRules(desired.getRankingRules());
+            changed = true;
+        }
+        if (differAsSet(current.getFilterableAttributes(), desired.getFilterableAttributes())) {
+            patch.setFilterableAttributes(desired.getFilterableAttributes());
+            changed = true;
+        }
+        if (differIfSet(desired.getDistinctAttribute(), current.getDistinctAttribute())) {
+            patch.setDistinctAttribute(desired.getDistinctAttribute());
+            changed = true;
+        }
+        if (differInOrder(current.getSearchableAttributes(), desired.getSearchableAttributes())) {
+            patch.setSearchableAttributes(desired.getSearchableAttributes());
+            changed = true;
+        }
+        if (differAsSet(current.getDisplayedAttributes(), desired.getDisplayedAttributes())) {
+            patch.setDisplayedAttributes(desired.getDisplayedAttributes());
+            changed = true;
+        }
+        if (differAsSet(current.getSortableAttributes(), desired.getSortableAttributes())) {
+            patch.setSortableAttributes(desired.getSortableAttributes());
+            changed = true;
+        }
+        if (differ(current.getTypoTolerance(), desired.getTypoTolerance())) {
+            patch.setTypoTolerance(desired.getTypoTolerance());
+            changed = true;
+        }
+        if (differ(current.getPagination(), desired.getPagination())) {
+            patch.setPagination(desired.getPagination());
+            changed = true;
+        }
+        if (differ(current.getFaceting(), desired.getFaceting())) {
+            patch.setFaceting(desired.getFaceting());
+            changed = true;
+        }
+        if (differAsSet(current.getDictionary(), desired.getDictionary())) {
+            patch.setDictionary(desired.getDictionary());
+            changed = true;
+        }
+        if (differIfSet(desired.getProximityPrecision(), current.getProximityPrecision())) {
+            patch.setProximityPrecision(desired.getProximityPrecision());
+            changed = true;
+        }
+        if (differIfSet(desired.getSearchCutoffMs(), current.getSearchCutoffMs())) {
+            patch.setSearchCutoffMs(desired.getSearchCutoffMs());
+            changed = true;
+        }
+        if (differAsSet(current.getSeparatorTokens(), desired.getSeparatorTokens())) {
+            patch.setSeparatorTokens(desired.getSeparatorTokens());
+            changed = true;
+        }
+        if (differAsSet(current.getNonSeparatorTokens(), desired.getNonSeparatorTokens())) {
+            patch.setNonSeparatorTokens(desired.getNonSeparatorTokens());
+            changed = true;
+        }
+        HashMap<String, Embedders> embedders =
+                changedEmbedders(current.getEmbedders(), desired.getEmbedders());
+        if (embedders != null) {
+            patch.setEmbedders(embedders);
+            changed = true;
+        }
+        if (differ(current.getLocalizedAttributes(), desired.getLocalizedAttributes())) {
+            patch.setLocalizedAttributes(desired.getLocalizedAttributes());
+            changed = true;
+        }
+        return changed ? patch : null;
+    }
+
+    private static boolean differInOrder(String[] current, String[] desired) {
+        if (desired == null) return false;
+        return !Arrays.equals(desired, current == null ? new String[0] : current);
+    }
+
+    private static boolean differAsSet(String[] current, String[] desired) {
+        if (desired == null) return false;
+        return !asSet(desired).equals(asSet(current));
+    }
+
+    private static Set<String> asSet(String[] values) {
+        if (values == null) return Collections.emptySet();
+        return new HashSet<>(Arrays.asList(values));
+    }
+
+    /** Synonyms are replaced as a whole, the synonyms of each word are compared as a set */
+    private static boolean differ(Map<String, String[]> current, Map<String, String[]> desired) {
+        if (desired == null) return false;
+        Map<String, String[]> existing =
+                current == null ? Collections.<String, String[]>emptyMap() : current;
+        if (!desired.keySet().equals(existing.keySet())) return true;
+        for (Map.Entry<String, String[]> entry : desired.entrySet()) {
+            if (differAsSet(existing.get(entry.getKey()), entry.getValue())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Values of a map setting are merged into the defaults of Meilisearch, such as the {@code *}
+     * entry of the facet value sorts, so only the desired entries are compared
+     */
+    private static <V> boolean differEntries(Map<String, V> current, Map<String, V> desired) {
+        if (desired == null) return false;
+        for (Map.Entry<String, V> entry : desired.entrySet()) {
+            V value = current == null ? null : current.get(entry.getKey());
+            if (!Objects.equals(entry.getValue(), value)) return true;
+        }
+        return false;
+    }
+
+    private static boolean differ(TypoTolerance current, TypoTolerance desired) {
+        if (desired == null) return false;
+        if (current == null) return true;
+        return desired.isEnabled() != current.isEnabled()
+                || differEntries(current.getMinWordSizeForTypos(), desired.getMinWordSizeForTypos())
+                || differAsSet(current.getDisableOnWords(), desired.getDisableOnWords())
+                || differAsSet(current.getDisableOnAttributes(), desired.getDisableOnAttributes());
+    }
+
+    private static boolean differ(Pagination current, Pagination desired) {
+        if (desired == null) return false;
+        return current == null || desired.getMaxTotalHits() != current.getMaxTotalHits();
+    }
+
+    private static boolean differ(Faceting current, Faceting desired) {
+        if (desired == null) return false;
+        if (current == null) return true;
+        return desired.getMaxValuesPerFacet() != current.getMaxValuesPerFacet()
+                || differEntries(current.getSortFacetValuesBy(), desired.getSortFacetValuesBy());
+    }
+
+    /** Localized attribute rules are applied in order, their patterns and locales are sets */
+    private static boolean differ(LocalizedAttribute[] current, LocalizedAttribute[] desired) {
+        if (desired == null) return false;
+        LocalizedAttribute[] existing = current == null ? new LocalizedAttribute[0] : current;
+        if (desired.length != existing.length) return true;
+        for (int i = 0; i < desired.length; i++) {
+            if (differAsSet(existing[i].getAttributePatterns(), desired[i].getAttributePatterns())
+                    || differAsSet(existing[i].getLocales(), desired[i].getLocales())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Embedders are merged by name: only the desired embedders are compared, a null embedder
+     * removing the existing one. They are compared on the fields set in the desired embedders,
+     * and always differ when they set an API key, which Meilisearch only returns redacted.
+     *
+     * @return the desired embedders that differ, or null if none does
+     */
+    private static HashMap<String, Embedders> changedEmbedders(
+            Map<String, Embedders> current, Map<String, Embedders> desired) {
+        if (desired == null) return null;
+        Map<String, Embedders> existing =
+                current == null ? Collections.<String, Embedders>emptyMap() : current;
+        HashMap<String, Embedders> changed = new HashMap<>();
+        for (Map.Entry<String, Embedders> entry : desired.entrySet()) {
+            if (differ(existing.get(entry.getKey()), entry.getValue())) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return changed.isEmpty() ? null : changed;
+    }
+
+    private static boolean differ(Embedders current, Embedders desired) {
+        if (desired == null || current == null) return desired != current;
+        return desired.getApiKey() != null
+                || differIfSet(desired.getSource(), current.getSource())
+                || differIfSet(desired.getUrl(), current.getUrl())
+                || differIfSet(desired.getModel(), current.getModel())
+                || differIfSet(desired.getDocumentTemplate(), current.getDocumentTemplate())
+                || differIfSet(desired.getDimensions(), current.getDimensions())
+                || differIfSet(desired.getRevision(), current.getRevision())
+                || differInOrder(current.getInputField(), desired.getInputField())
+                || differIfSet(desired.getInputType(), current.getInputType())
+                || differIfSet(desired.getQuery(), current.getQuery());
+    }
+
+    private static boolean differIfSet(Object desired, Object current) {
+        return desired != null && !desired.equals(current);
+    }
+}
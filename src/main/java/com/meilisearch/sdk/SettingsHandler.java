@@ -1,14 +1,15 @@
 package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
-import com.meilisearch.sdk.http.URLBuilder;
 import com.meilisearch.sdk.model.Faceting;
 import com.meilisearch.sdk.model.LocalizedAttribute;
 import com.meilisearch.sdk.model.Pagination;
 import com.meilisearch.sdk.model.Settings;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TypoTolerance;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class covering the Meilisearch Settings API
@@ -18,6 +19,7 @@ import java.util.Map;
  */
 public class SettingsHandler {
     private final HttpClient httpClient;
+    private final Config config;
 
     /**
      * Constructor for the Meilisearch Settings object
@@ -25,7 +27,12 @@ public class SettingsHandler {
      * @param config Meilisearch configuration
      */
     protected SettingsHandler(Config config) {
-        httpClient = config.httpClient;
+        this(config, config.httpClient);
+    }
+
+    SettingsHandler(Config config, HttpClient httpClient) {
+        this.httpClient = httpClient;
+        this.config = config;
     }
 
     /**
@@ -36,7 +43,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     Settings getSettings(String uid) throws MeilisearchException {
-        return httpClient.get(settingsPath(uid).getURL(), Settings.class);
+        if (config.settingsCache != null) return cachedSettings(uid);
+        return httpClient.get(IndexRoutes.of(uid).settings, Settings.class);
     }
 
     /**
@@ -48,7 +56,22 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo updateSettings(String uid, Settings settings) throws MeilisearchException {
-        return httpClient.patch(settingsPath(uid).getURL(), settings, TaskInfo.class);
+        return httpClient.patch(IndexRoutes.of(uid).settings, settings, TaskInfo.class);
+    }
+
+    /**
+     * Updates the settings of the index that differ from the desired settings
+     *
+     * @param uid Index identifier
+     * @param settings the desired settings, null fields are left unchanged
+     * @return TaskInfo instance, or null if the index already has the desired settings
+     * @throws MeilisearchException if an error occurs
+     */
+    TaskInfo reconcileSettings(String uid, Settings settings) throws MeilisearchException {
+        // the settings cache is bypassed, updates of other clients may not have expired yet
+        Settings current = httpClient.get(IndexRoutes.of(uid).settings, Settings.class);
+        Settings patch = SettingsDiff.diff(current, settings);
+        return patch == null ? null : updateSettings(uid, patch);
     }
 
     /**
@@ -59,7 +82,39 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(settingsPath(uid).getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).settings, TaskInfo.class);
+    }
+
+    /**
+     * Gets the settings of the index without blocking the calling thread
+     *
+     * @param uid Index identifier
+     * @return future completed with the settings of a given uid
+     */
+    CompletableFuture<Settings> getSettingsAsync(String uid) {
+        if (config.settingsCache != null) return cachedSettingsAsync(uid);
+        return httpClient.getAsync(IndexRoutes.of(uid).settings, Settings.class);
+    }
+
+    /**
+     * Updates the settings of the index without blocking the calling thread
+     *
+     * @param uid Index identifier
+     * @param settings the data that contains the new settings
+     * @return future completed with the TaskInfo instance
+     */
+    CompletableFuture<TaskInfo> updateSettingsAsync(String uid, Settings settings) {
+        return httpClient.patchAsync(IndexRoutes.of(uid).settings, settings, TaskInfo.class);
+    }
+
+    /**
+     * Resets the settings of the index without blocking the calling thread
+     *
+     * @param uid Index identifier
+     * @return future completed with the TaskInfo instance
+     */
+    CompletableFuture<TaskInfo> resetSettingsAsync(String uid) {
+        return httpClient.deleteAsync(IndexRoutes.of(uid).settings, TaskInfo.class);
     }
 
     /**
@@ -70,8 +125,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getRankingRulesSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("ranking-rules").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getRankingRules();
+        return httpClient.get(IndexRoutes.of(uid).setting("ranking-rules"), String[].class);
     }
 
     /**
@@ -85,7 +140,7 @@ public class SettingsHandler {
     TaskInfo updateRankingRulesSettings(String uid, String[] rankingRules)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("ranking-rules").getURL(),
+                IndexRoutes.of(uid).setting("ranking-rules"),
                 rankingRules == null ? httpClient.jsonHandler.encode(rankingRules) : rankingRules,
                 TaskInfo.class);
     }
@@ -98,8 +153,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetRankingRulesSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("ranking-rules").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("ranking-rules"), TaskInfo.class);
     }
 
     /**
@@ -110,9 +164,13 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     Map<String, String[]> getSynonymsSettings(String uid) throws MeilisearchException {
+        if (config.settingsCache != null) return cachedSettings(uid).getSynonyms();
+        // decoded like the synonyms of the settings, as String[] values
         return httpClient.jsonHandler.decode(
-                httpClient.get(settingsPath(uid).addSubroute("synonyms").getURL(), String.class),
-                Map.class);
+                httpClient.get(IndexRoutes.of(uid).setting("synonyms"), String.class),
+                HashMap.class,
+                String.class,
+                String[].class);
     }
 
     /**
@@ -126,7 +184,7 @@ public class SettingsHandler {
     TaskInfo updateSynonymsSettings(String uid, Map<String, String[]> synonyms)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("synonyms").getURL(),
+                IndexRoutes.of(uid).setting("synonyms"),
                 synonyms == null ? httpClient.jsonHandler.encode(synonyms) : synonyms,
                 TaskInfo.class);
     }
@@ -139,8 +197,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetSynonymsSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("synonyms").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("synonyms"), TaskInfo.class);
     }
 
     /**
@@ -151,7 +208,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getStopWordsSettings(String uid) throws MeilisearchException {
-        return httpClient.get(settingsPath(uid).addSubroute("stop-words").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getStopWords();
+        return httpClient.get(IndexRoutes.of(uid).setting("stop-words"), String[].class);
     }
 
     /**
@@ -164,7 +222,7 @@ public class SettingsHandler {
      */
     TaskInfo updateStopWordsSettings(String uid, String[] stopWords) throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("stop-words").getURL(),
+                IndexRoutes.of(uid).setting("stop-words"),
                 stopWords == null ? httpClient.jsonHandler.encode(stopWords) : stopWords,
                 TaskInfo.class);
     }
@@ -177,8 +235,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetStopWordsSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("stop-words").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("stop-words"), TaskInfo.class);
     }
 
     /**
@@ -189,8 +246,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getSearchableAttributesSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("searchable-attributes").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getSearchableAttributes();
+        return httpClient.get(IndexRoutes.of(uid).setting("searchable-attributes"), String[].class);
     }
 
     /**
@@ -205,7 +262,7 @@ public class SettingsHandler {
     TaskInfo updateSearchableAttributesSettings(String uid, String[] searchableAttributes)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("searchable-attributes").getURL(),
+                IndexRoutes.of(uid).setting("searchable-attributes"),
                 searchableAttributes == null
                         ? httpClient.jsonHandler.encode(searchableAttributes)
                         : searchableAttributes,
@@ -221,7 +278,7 @@ public class SettingsHandler {
      */
     TaskInfo resetSearchableAttributesSettings(String uid) throws MeilisearchException {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("searchable-attributes").getURL(), TaskInfo.class);
+                IndexRoutes.of(uid).setting("searchable-attributes"), TaskInfo.class);
     }
 
     /**
@@ -232,8 +289,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getDisplayedAttributesSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("displayed-attributes").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getDisplayedAttributes();
+        return httpClient.get(IndexRoutes.of(uid).setting("displayed-attributes"), String[].class);
     }
 
     /**
@@ -248,7 +305,7 @@ public class SettingsHandler {
     TaskInfo updateDisplayedAttributesSettings(String uid, String[] displayAttributes)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("displayed-attributes").getURL(),
+                IndexRoutes.of(uid).setting("displayed-attributes"),
                 displayAttributes == null
                         ? httpClient.jsonHandler.encode(displayAttributes)
                         : displayAttributes,
@@ -264,7 +321,7 @@ public class SettingsHandler {
      */
     TaskInfo resetDisplayedAttributesSettings(String uid) throws MeilisearchException {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("displayed-attributes").getURL(), TaskInfo.class);
+                IndexRoutes.of(uid).setting("displayed-attributes"), TaskInfo.class);
     }
 
     /**
@@ -275,9 +332,9 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     LocalizedAttribute[] getLocalizedAttributes(String uid) throws MeilisearchException {
+        if (config.settingsCache != null) return cachedSettings(uid).getLocalizedAttributes();
         return httpClient.get(
-                settingsPath(uid).addSubroute("localized-attributes").getURL(),
-                LocalizedAttribute[].class);
+                IndexRoutes.of(uid).setting("localized-attributes"), LocalizedAttribute[].class);
     }
 
     /**
@@ -292,7 +349,7 @@ public class SettingsHandler {
     TaskInfo updateLocalizedAttributesSettings(String uid, LocalizedAttribute[] localizedAttributes)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("localized-attributes").getURL(),
+                IndexRoutes.of(uid).setting("localized-attributes"),
                 localizedAttributes == null
                         ? httpClient.jsonHandler.encode(localizedAttributes)
                         : localizedAttributes,
@@ -308,7 +365,7 @@ public class SettingsHandler {
      */
     TaskInfo resetLocalizedAttributesSettings(String uid) throws MeilisearchException {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("localized-attributes").getURL(), TaskInfo.class);
+                IndexRoutes.of(uid).setting("localized-attributes"), TaskInfo.class);
     }
 
     /**
@@ -319,8 +376,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getFilterableAttributesSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("filterable-attributes").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getFilterableAttributes();
+        return httpClient.get(IndexRoutes.of(uid).setting("filterable-attributes"), String[].class);
     }
 
     /**
@@ -335,7 +392,7 @@ public class SettingsHandler {
     TaskInfo updateFilterableAttributesSettings(String uid, String[] filterableAttributes)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("filterable-attributes").getURL(),
+                IndexRoutes.of(uid).setting("filterable-attributes"),
                 filterableAttributes == null
                         ? httpClient.jsonHandler.encode(filterableAttributes)
                         : filterableAttributes,
@@ -351,7 +408,7 @@ public class SettingsHandler {
      */
     TaskInfo resetFilterableAttributesSettings(String uid) throws MeilisearchException {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("filterable-attributes").getURL(), TaskInfo.class);
+                IndexRoutes.of(uid).setting("filterable-attributes"), TaskInfo.class);
     }
 
     /**
@@ -362,8 +419,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getSortableAttributesSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("sortable-attributes").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getSortableAttributes();
+        return httpClient.get(IndexRoutes.of(uid).setting("sortable-attributes"), String[].class);
     }
 
     /**
@@ -378,7 +435,7 @@ public class SettingsHandler {
     TaskInfo updateSortableAttributesSettings(String uid, String[] sortableAttributes)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("sortable-attributes").getURL(),
+                IndexRoutes.of(uid).setting("sortable-attributes"),
                 sortableAttributes == null
                         ? httpClient.jsonHandler.encode(sortableAttributes)
                         : sortableAttributes,
@@ -393,7 +450,7 @@ public class SettingsHandler {
      */
     TaskInfo resetSortableAttributesSettings(String uid) throws MeilisearchException {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("sortable-attributes").getURL(), TaskInfo.class);
+                IndexRoutes.of(uid).setting("sortable-attributes"), TaskInfo.class);
     }
 
     /**
@@ -404,9 +461,9 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String getDistinctAttributeSettings(String uid) throws MeilisearchException {
+        if (config.settingsCache != null) return cachedSettings(uid).getDistinctAttribute();
         String response =
-                httpClient.get(
-                        settingsPath(uid).addSubroute("distinct-attribute").getURL(), String.class);
+                httpClient.get(IndexRoutes.of(uid).setting("distinct-attribute"), String.class);
         return response.equals("null") ? null : response.substring(1, response.length() - 1);
     }
 
@@ -421,7 +478,7 @@ public class SettingsHandler {
     TaskInfo updateDistinctAttributeSettings(String uid, String distinctAttribute)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("distinct-attribute").getURL(),
+                IndexRoutes.of(uid).setting("distinct-attribute"),
                 distinctAttribute == null
                         ? httpClient.jsonHandler.encode(distinctAttribute)
                         : "\"" + distinctAttribute + "\"",
@@ -436,8 +493,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetDistinctAttributeSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("distinct-attribute").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("distinct-attribute"), TaskInfo.class);
     }
 
     /**
@@ -448,8 +504,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TypoTolerance getTypoToleranceSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("typo-tolerance").getURL(), TypoTolerance.class);
+        if (config.settingsCache != null) return cachedSettings(uid).getTypoTolerance();
+        return httpClient.get(IndexRoutes.of(uid).setting("typo-tolerance"), TypoTolerance.class);
     }
 
     /**
@@ -463,7 +519,7 @@ public class SettingsHandler {
     TaskInfo updateTypoToleranceSettings(String uid, TypoTolerance typoTolerance)
             throws MeilisearchException {
         return httpClient.patch(
-                settingsPath(uid).addSubroute("typo-tolerance").getURL(),
+                IndexRoutes.of(uid).setting("typo-tolerance"),
                 typoTolerance == null
                         ? httpClient.jsonHandler.encode(typoTolerance)
                         : typoTolerance,
@@ -478,8 +534,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetTypoToleranceSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("typo-tolerance").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("typo-tolerance"), TaskInfo.class);
     }
 
     /**
@@ -490,8 +545,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     Pagination getPaginationSettings(String uid) throws MeilisearchException {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("pagination").getURL(), Pagination.class);
+        if (config.settingsCache != null) return cachedSettings(uid).getPagination();
+        return httpClient.get(IndexRoutes.of(uid).setting("pagination"), Pagination.class);
     }
 
     /**
@@ -505,7 +560,7 @@ public class SettingsHandler {
     TaskInfo updatePaginationSettings(String uid, Pagination pagination)
             throws MeilisearchException {
         return httpClient.patch(
-                settingsPath(uid).addSubroute("pagination").getURL(),
+                IndexRoutes.of(uid).setting("pagination"),
                 pagination == null ? httpClient.jsonHandler.encode(pagination) : pagination,
                 TaskInfo.class);
     }
@@ -518,8 +573,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetPaginationSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("pagination").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("pagination"), TaskInfo.class);
     }
 
     /**
@@ -530,7 +584,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     Faceting getFacetingSettings(String uid) throws MeilisearchException {
-        return httpClient.get(settingsPath(uid).addSubroute("faceting").getURL(), Faceting.class);
+        if (config.settingsCache != null) return cachedSettings(uid).getFaceting();
+        return httpClient.get(IndexRoutes.of(uid).setting("faceting"), Faceting.class);
     }
 
     /**
@@ -543,7 +598,7 @@ public class SettingsHandler {
      */
     TaskInfo updateFacetingSettings(String uid, Faceting faceting) throws MeilisearchException {
         return httpClient.patch(
-                settingsPath(uid).addSubroute("faceting").getURL(),
+                IndexRoutes.of(uid).setting("faceting"),
                 faceting == null ? httpClient.jsonHandler.encode(faceting) : faceting,
                 TaskInfo.class);
     }
@@ -556,8 +611,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetFacetingSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("faceting").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("faceting"), TaskInfo.class);
     }
 
     /**
@@ -568,7 +622,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String[] getDictionarySettings(String uid) throws MeilisearchException {
-        return httpClient.get(settingsPath(uid).addSubroute("dictionary").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getDictionary();
+        return httpClient.get(IndexRoutes.of(uid).setting("dictionary"), String[].class);
     }
 
     /**
@@ -581,7 +636,7 @@ public class SettingsHandler {
      */
     TaskInfo updateDictionarySettings(String uid, String[] dictionary) throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("dictionary").getURL(),
+                IndexRoutes.of(uid).setting("dictionary"),
                 dictionary == null ? httpClient.jsonHandler.encode(dictionary) : dictionary,
                 TaskInfo.class);
     }
@@ -594,8 +649,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetDictionarySettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("dictionary").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("dictionary"), TaskInfo.class);
     }
 
     /**
@@ -606,10 +660,9 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     String getProximityPrecisionSettings(String uid) throws MeilisearchException {
+        if (config.settingsCache != null) return cachedSettings(uid).getProximityPrecision();
         String response =
-                httpClient.get(
-                        settingsPath(uid).addSubroute("proximity-precision").getURL(),
-                        String.class);
+                httpClient.get(IndexRoutes.of(uid).setting("proximity-precision"), String.class);
         return response.substring(1, response.length() - 1);
     }
 
@@ -624,7 +677,7 @@ public class SettingsHandler {
     TaskInfo updateProximityPrecisionSettings(String uid, String proximityPrecision)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("proximity-precision").getURL(),
+                IndexRoutes.of(uid).setting("proximity-precision"),
                 proximityPrecision == null
                         ? httpClient.jsonHandler.encode(proximityPrecision)
                         : "\"" + proximityPrecision + "\"",
@@ -640,12 +693,7 @@ public class SettingsHandler {
      */
     TaskInfo resetProximityPrecisionSettings(String uid) throws MeilisearchException {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("proximity-precision").getURL(), TaskInfo.class);
-    }
-
-    /** Creates an URLBuilder for the constant route settings */
-    private URLBuilder settingsPath(String uid) {
-        return new URLBuilder("/indexes").addSubroute(uid).addSubroute("/settings");
+                IndexRoutes.of(uid).setting("proximity-precision"), TaskInfo.class);
     }
 
     /**
@@ -656,9 +704,9 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     Integer getSearchCutoffMsSettings(String uid) throws MeilisearchException {
+        if (config.settingsCache != null) return cachedSettings(uid).getSearchCutoffMs();
         String response =
-                httpClient.get(
-                        settingsPath(uid).addSubroute("search-cutoff-ms").getURL(), String.class);
+                httpClient.get(IndexRoutes.of(uid).setting("search-cutoff-ms"), String.class);
         return response.equals("null") ? null : Integer.valueOf(response);
     }
 
@@ -673,7 +721,7 @@ public class SettingsHandler {
     TaskInfo updateSearchCutoffMsSettings(String uid, Integer milliseconds)
             throws MeilisearchException {
         return httpClient.put(
-                settingsPath(uid).addSubroute("search-cutoff-ms").getURL(),
+                IndexRoutes.of(uid).setting("search-cutoff-ms"),
                 milliseconds == null ? httpClient.jsonHandler.encode(milliseconds) : milliseconds,
                 TaskInfo.class);
     }
@@ -686,8 +734,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     TaskInfo resetSearchCutoffMsSettings(String uid) throws MeilisearchException {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("search-cutoff-ms").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("search-cutoff-ms"), TaskInfo.class);
     }
 
     /**
@@ -698,8 +745,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     public String[] getSeparatorTokensSettings(String uid) {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("separator-tokens").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getSeparatorTokens();
+        return httpClient.get(IndexRoutes.of(uid).setting("separator-tokens"), String[].class);
     }
 
     /**
@@ -711,7 +758,7 @@ public class SettingsHandler {
      */
     public TaskInfo updateSeparatorTokensSettings(String uid, String[] separatorTokens) {
         return httpClient.put(
-                settingsPath(uid).addSubroute("separator-tokens").getURL(),
+                IndexRoutes.of(uid).setting("separator-tokens"),
                 separatorTokens == null
                         ? httpClient.jsonHandler.encode(separatorTokens)
                         : separatorTokens,
@@ -726,8 +773,7 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     public TaskInfo resetSeparatorTokensSettings(String uid) {
-        return httpClient.delete(
-                settingsPath(uid).addSubroute("separator-tokens").getURL(), TaskInfo.class);
+        return httpClient.delete(IndexRoutes.of(uid).setting("separator-tokens"), TaskInfo.class);
     }
 
     /**
@@ -738,8 +784,8 @@ public class SettingsHandler {
      * @throws MeilisearchException if an error occurs
      */
     public String[] getNonSeparatorTokensSettings(String uid) {
-        return httpClient.get(
-                settingsPath(uid).addSubroute("non-separator-tokens").getURL(), String[].class);
+        if (config.settingsCache != null) return cachedSettings(uid).getNonSeparatorTokens();
+        return httpClient.get(IndexRoutes.of(uid).setting("non-separator-tokens"), String[].class);
     }
 
     /**
@@ -751,7 +797,7 @@ public class SettingsHandler {
      */
     public TaskInfo updateNonSeparatorTokensSettings(String uid, String[] separatorTokens) {
         return httpClient.put(
-                settingsPath(uid).addSubroute("non-separator-tokens").getURL(),
+                IndexRoutes.of(uid).setting("non-separator-tokens"),
                 separatorTokens == null
                         ? httpClient.jsonHandler.encode(separatorTokens)
                         : separatorTokens,
@@ -767,6 +813,49 @@ public class SettingsHandler {
      */
     public TaskInfo resetNonSeparatorTokensSettings(String uid) {
         return httpClient.delete(
-                settingsPath(uid).addSubroute("non-separator-tokens").getURL(), TaskInfo.class);
+                IndexRoutes.of(uid).setting("non-separator-tokens"), TaskInfo.class);
+    }
+
+    /**
+     * Gets the settings of the index through the settings cache of the configuration
+     *
+     * @param uid Index identifier
+     * @return settings of the index, decoded from the cached response
+     * @throws MeilisearchException if an error occurs
+     */
+    private Settings cachedSettings(String uid) throws MeilisearchException {
+        SettingsCache cache = config.settingsCache;
+        String settings = cache.get(uid);
+        if (settings == null) {
+            long stamp = cache.stamp(uid);
+            settings = httpClient.get(IndexRoutes.of(uid).settings, String.class);
+            cache.put(uid, settings, stamp);
+        }
+        return httpClient.jsonHandler.decode(settings, Settings.class);
+    }
+
+    /**
+     * Gets the settings of the index through the settings cache of the configuration without
+     * blocking the calling thread
+     *
+     * @param uid Index identifier
+     * @return future completed with the settings of the index
+     */
+    private CompletableFuture<Settings> cachedSettingsAsync(String uid) {
+        SettingsCache cache = config.settingsCache;
+        String cached = cache.get(uid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(
+                    httpClient.jsonHandler.decode(cached, Settings.class));
+        }
+
+        long stamp = cache.stamp(uid);
+        return httpClient
+                .getAsync(IndexRoutes.of(uid).settings, String.class)
+                .thenApply(
+                        settings -> {
+                            cache.put(uid, settings, stamp);
+                            return httpClient.jsonHandler.decode(settings, Settings.class);
+                        });
     }
 }
@@ -0,0 +1,232 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the completion of tasks with a single poller shared by every waiter of a configuration
+ *
+ * <p>All pending task uids are fetched with one {@code GET /tasks?uids=...} request per poll. The
+ * interval between polls starts at {@link #MIN_INTERVAL_MS} and doubles while no tracked task
+ * finishes, up to the smallest maximum interval requested by the pending waiters and at most
+ * {@link #DEFAULT_MAX_INTERVAL_MS}. It resets when a task finishes or a new task is tracked.
+ *
+ * <p>A task stays tracked until it finishes or every caller tracking it has cancelled its future.
+ * A failed poll is retried with the same backoff, pending tasks only fail once polls have kept
+ * failing for {@link #DEFAULT_MAX_FAILURE_MS}.
+ */
+class TaskTracker {
+    static final int MIN_INTERVAL_MS = 10;
+    static final int DEFAULT_MAX_INTERVAL_MS = 1000;
+    static final long DEFAULT_MAX_FAILURE_MS = 30_000;
+    private static final int MAX_UIDS_PER_REQUEST = 100;
+
+    private final TasksHandler tasksHandler;
+    private final long maxFailureNanos;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Map<Integer, Waiter> pending = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private ScheduledFuture<?> nextPoll;
+    private int intervalMs = MIN_INTERVAL_MS;
+
+    // only accessed by the poll, which runs on the single scheduler thread
+    private boolean failing;
+    private long failingSince;
+
+    TaskTracker(TasksHandler tasksHandler) {
+        this(tasksHandler, DEFAULT_MAX_FAILURE_MS);
+    }
+
+    /**
+     * @param tasksHandler handler fetching the status of the tasks
+     * @param maxFailureMs number of milliseconds polls may keep failing before the pending tasks
+     *     fail
+     */
+    TaskTracker(TasksHandler tasksHandler, long maxFailureMs) {
+        this.tasksHandler = tasksHandler;
+        this.maxFailureNanos = TimeUnit.MILLISECONDS.toNanos(maxFailureMs);
+        this.scheduler =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-task-tracker");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.scheduler.setKeepAliveTime(60, TimeUnit.SECONDS);
+        this.scheduler.allowCoreThreadTimeOut(true);
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Tracks a task until it is succeeded, failed or canceled
+     *
+     * @param taskUid Identifier of the task
+     * @param maxIntervalMs maximum number of milliseconds between two status requests
+     * @return future completed with the finished task, or exceptionally if its status cannot be
+     *     fetched, cancelling it stops tracking the task unless other callers still track it
+     */
+    CompletableFuture<Task> track(int taskUid, int maxIntervalMs) {
+        Waiter waiter =
+                pending.compute(
+                        taskUid,
+                        (uid, existing) -> {
+                            Waiter tracked = existing != null ? existing : new Waiter();
+                            tracked.addCaller(maxIntervalMs);
+                            return tracked;
+                        });
+        pollSoon();
+        // each caller gets its own future, so that cancelling it does not affect other waiters
+        CompletableFuture<Task> future = waiter.future.thenApply(task -> task);
+        future.whenComplete((task, e) -> release(taskUid, waiter, maxIntervalMs));
+        return future;
+    }
+
+    /** Stops tracking a task once its last caller is done with it */
+    private void release(int taskUid, Waiter waiter, int maxIntervalMs) {
+        pending.computeIfPresent(
+                taskUid,
+                (uid, existing) -> {
+                    if (existing != waiter) return existing;
+                    return existing.removeCaller(maxIntervalMs) ? existing : null;
+                });
+    }
+
+    /**
+     * Gets the number of tracked tasks
+     *
+     * @return number of tasks polled
+     */
+    int size() {
+        return pending.size();
+    }
+
+    private synchronized void pollSoon() {
+        intervalMs = MIN_INTERVAL_MS;
+        if (nextPoll != null) {
+            // a running poll cannot be cancelled, it schedules the next one itself
+            if (nextPoll.getDelay(TimeUnit.MILLISECONDS) <= MIN_INTERVAL_MS
+                    || !nextPoll.cancel(false)) return;
+        }
+        nextPoll = scheduler.schedule(this::poll, MIN_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private void poll() {
+        boolean progress;
+        try {
+            progress = fetchPending();
+            failing = false;
+        } catch (RuntimeException e) {
+            if (!failing) {
+                failing = true;
+                failingSince = System.nanoTime();
+            }
+            progress = System.nanoTime() - failingSince >= maxFailureNanos;
+            if (progress) {
+                failing = false;
+                failPending(e);
+            }
+        }
+
+        synchronized (this) {
+            nextPoll = null;
+            if (pending.isEmpty()) {
+                intervalMs = MIN_INTERVAL_MS;
+                return;
+            }
+            int maxIntervalMs = failing ? DEFAULT_MAX_INTERVAL_MS : maxInterval();
+            intervalMs = progress ? MIN_INTERVAL_MS : Math.min(intervalMs * 2, maxIntervalMs);
+            nextPoll = scheduler.schedule(this::poll, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetches the status of every pending task, completing the finished ones
+     *
+     * @return true if at least one task finished
+     */
+    private boolean fetchPending() {
+        List<Integer> uids = new ArrayList<>(pending.keySet());
+        boolean progress = false;
+        for (int from = 0; from < uids.size(); from += MAX_UIDS_PER_REQUEST) {
+            List<Integer> chunk =
+                    uids.subList(from, Math.min(from + MAX_UIDS_PER_REQUEST, uids.size()));
+            TasksQuery query =
+                    new TasksQuery()
+                            .setUids(chunk.stream().mapToInt(Integer::intValue).toArray())
+                            .setLimit(chunk.size());
+            TasksResults results = tasksHandler.getTasks(query);
+
+            Set<Integer> missing = new HashSet<>(chunk);
+            for (Task task : results.getResults()) {
+                missing.remove(task.getUid());
+                if (task.getStatus() == TaskStatus.ENQUEUED
+                        || task.getStatus() == TaskStatus.PROCESSING) continue;
+                Waiter waiter = pending.remove(task.getUid());
+                if (waiter != null) {
+                    waiter.future.complete(task);
+                    progress = true;
+                }
+            }
+            for (Integer uid : missing) {
+                Waiter waiter = pending.remove(uid);
+                if (waiter != null) {
+                    waiter.future.completeExceptionally(
+                            new MeilisearchException("Task " + uid + " not found"));
+                    progress = true;
+                }
+            }
+        }
+        return progress;
+    }
+
+    private void failPending(RuntimeException e) {
+        for (Integer uid : new ArrayList<>(pending.keySet())) {
+            Waiter waiter = pending.remove(uid);
+            if (waiter != null) waiter.future.completeExceptionally(e);
+        }
+    }
+
+    private int maxInterval() {
+        int max = DEFAULT_MAX_INTERVAL_MS;
+        for (Waiter waiter : pending.values()) {
+            max = Math.min(max, waiter.maxIntervalMs);
+        }
+        return Math.max(max, MIN_INTERVAL_MS);
+    }
+
+    /** Waiters are only modified while holding their entry in the pending map */
+    private static class Waiter {
+        private final CompletableFuture<Task> future = new CompletableFuture<>();
+        private final List<Integer> callerIntervalsMs = new ArrayList<>(1);
+        private volatile int maxIntervalMs;
+
+        private void addCaller(int intervalMs) {
+            callerIntervalsMs.add(intervalMs);
+            maxIntervalMs = Collections.min(callerIntervalsMs);
+        }
+
+        /** Removes a caller, returning whether other callers still track the task */
+        private boolean removeCaller(int intervalMs) {
+            callerIntervalsMs.remove((Integer) intervalMs);
+            if (callerIntervalsMs.isEmpty()) return false;
+            maxIntervalMs = Collections.min(callerIntervalsMs);
+            return true;
+        }
+    }
+}
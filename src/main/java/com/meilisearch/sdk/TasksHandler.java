@@ -4,7 +4,13 @@ import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
 import com.meilisearch.sdk.http.URLBuilder;
 import com.meilisearch.sdk.model.*;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Class covering the Meilisearch Task API
@@ -13,6 +19,7 @@ import java.util.Date;
  */
 public class TasksHandler {
     private final HttpClient httpClient;
+    private final Config config;
 
     /**
      * Creates and sets up an instance of Task to simplify MeiliSearch API calls to manage tasks
@@ -21,6 +28,7 @@ public class TasksHandler {
      */
     protected TasksHandler(Config config) {
         this.httpClient = config.httpClient;
+        this.config = config;
     }
 
     /**
@@ -31,10 +39,17 @@ public class TasksHandler {
      * @throws MeilisearchException if client request causes an error
      */
     Task getTask(int taskUid) throws MeilisearchException {
-        URLBuilder urlb = new URLBuilder();
-        urlb.addSubroute("tasks").addSubroute(Integer.toString(taskUid));
-        String urlPath = urlb.getURL();
-        return httpClient.get(urlPath, Task.class);
+        return httpClient.get("/tasks/" + taskUid, Task.class);
+    }
+
+    /**
+     * Retrieves one task with the specified task uid without blocking the calling thread
+     *
+     * @param taskUid Identifier of the requested Task
+     * @return future completed with the Task instance
+     */
+    CompletableFuture<Task> getTaskAsync(int taskUid) {
+        return httpClient.getAsync("/tasks/" + taskUid, Task.class);
     }
 
     /**
@@ -44,7 +59,7 @@ public class TasksHandler {
      * @throws MeilisearchException if client request causes an error
      */
     TasksResults getTasks() throws MeilisearchException {
-        TasksResults result = httpClient.get(tasksPath().getURL(), TasksResults.class);
+        TasksResults result = httpClient.get("/tasks", TasksResults.class);
         return result;
     }
 
@@ -56,8 +71,7 @@ public class TasksHandler {
      * @throws MeilisearchException if client request causes an error
      */
     TasksResults getTasks(TasksQuery param) throws MeilisearchException {
-        TasksResults result =
-                httpClient.get(tasksPath().addQuery(param.toQuery()).getURL(), TasksResults.class);
+        TasksResults result = httpClient.get("/tasks" + param.toQuery(), TasksResults.class);
         return result;
     }
 
@@ -86,8 +100,7 @@ public class TasksHandler {
     TasksResults getTasks(String indexUid, TasksQuery param) throws MeilisearchException {
         param = addIndexUidToQuery(indexUid, param);
 
-        TasksResults result =
-                httpClient.get(tasksPath().addQuery(param.toQuery()).getURL(), TasksResults.class);
+        TasksResults result = httpClient.get("/tasks" + param.toQuery(), TasksResults.class);
         return result;
     }
 
@@ -99,9 +112,7 @@ public class TasksHandler {
      * @throws MeilisearchException if client request causes an error
      */
     TaskInfo cancelTasks(CancelTasksQuery param) throws MeilisearchException {
-        URLBuilder urlb = tasksPath().addSubroute("cancel");
-        TaskInfo result =
-                httpClient.post(urlb.addQuery(param.toQuery()).getURL(), null, TaskInfo.class);
+        TaskInfo result = httpClient.post("/tasks/cancel" + param.toQuery(), null, TaskInfo.class);
         return result;
     }
 
@@ -113,8 +124,7 @@ public class TasksHandler {
      * @throws MeilisearchException if client request causes an error
      */
     TaskInfo deleteTasks(DeleteTasksQuery param) throws MeilisearchException {
-        TaskInfo result =
-                httpClient.delete(tasksPath().addQuery(param.toQuery()).getURL(), TaskInfo.class);
+        TaskInfo result = httpClient.delete("/tasks" + param.toQuery(), TaskInfo.class);
         return result;
     }
 
@@ -131,31 +141,74 @@ public class TasksHandler {
     /**
      * Waits for a task to be processed
      *
+     * <p>The status is polled by the task tracker shared by the configuration, which fetches all
+     * pending tasks with a single request.
+     *
      * @param taskUid Identifier of the Task
      * @param timeoutInMs number of milliseconds before throwing an Exception
-     * @param intervalInMs number of milliseconds before requesting the status again
+     * @param intervalInMs maximum number of milliseconds between two status requests
      * @throws MeilisearchException if timeout is reached
      */
     void waitForTask(int taskUid, int timeoutInMs, int intervalInMs) throws MeilisearchException {
-        Task task;
-        TaskStatus status = null;
-        long startTime = new Date().getTime();
-        long elapsedTime = 0;
-
-        while (status == null
-                || (status.equals(TaskStatus.ENQUEUED) || status.equals(TaskStatus.PROCESSING))) {
-            if (elapsedTime >= timeoutInMs) {
-                throw new MeilisearchTimeoutException();
+        await(config.taskTracker().track(taskUid, intervalInMs), timeoutInMs);
+    }
+
+    /**
+     * Tracks a task until it is processed without blocking the calling thread
+     *
+     * @param taskUid Identifier of the Task
+     * @return future completed with the processed Task, cancel it to stop waiting
+     */
+    CompletableFuture<Task> waitForTaskAsync(int taskUid) {
+        return config.taskTracker().track(taskUid, TaskTracker.DEFAULT_MAX_INTERVAL_MS);
+    }
+
+    /**
+     * Waits for several tasks to be processed, polling all of them with shared requests
+     *
+     * @param taskUids Identifiers of the Tasks
+     * @param timeoutInMs number of milliseconds before throwing an Exception, for all tasks
+     * @return processed Tasks, in the order of the identifiers
+     * @throws MeilisearchException if timeout is reached
+     */
+    List<Task> waitForTasks(Collection<Integer> taskUids, int timeoutInMs)
+            throws MeilisearchException {
+        List<CompletableFuture<Task>> futures = new ArrayList<>(taskUids.size());
+        for (int taskUid : taskUids) {
+            futures.add(config.taskTracker().track(taskUid, TaskTracker.DEFAULT_MAX_INTERVAL_MS));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMs);
+        List<Task> tasks = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<Task> future : futures) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                tasks.add(await(future, Math.max(remainingMs, 0)));
             }
-            task = this.getTask(taskUid);
-            status = task.getStatus();
-            try {
-                Thread.sleep(intervalInMs);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new MeilisearchTimeoutException();
+        } finally {
+            // stops tracking the tasks left unfinished by a timeout or a failure
+            for (CompletableFuture<Task> future : futures) {
+                future.cancel(false);
             }
-            elapsedTime = new Date().getTime() - startTime;
+        }
+        return tasks;
+    }
+
+    private static Task await(CompletableFuture<Task> future, long timeoutInMs)
+            throws MeilisearchException {
+        try {
+            return future.get(timeoutInMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new MeilisearchTimeoutException();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new MeilisearchTimeoutException();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof MeilisearchException
+                    ? (MeilisearchException) e.getCause()
+                    : new MeilisearchException(e.getCause());
         }
     }
 
@@ -0,0 +1,232 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mints tenant tokens, reusing the tokens already signed for the same rules
+ *
+ * <p>Tokens are signed with an expiry rounded up to the next multiple of {@code bucketMs} after
+ * {@code ttlMs}, so that every token requested for the same API key, API key uid and search rules
+ * within a bucket is the same token. A cached token is returned while it remains valid for at least
+ * {@code ttlMs - bucketMs}. Search rules are compared regardless of the order of their keys.
+ *
+ * <p>Tokens in use are signed again in the background before they reach that limit, and tokens
+ * not requested for {@code ttlMs} are discarded. Tokens are signed with a single HMAC signer per
+ * API key.
+ *
+ * <p>Create it with {@link Client#createTenantTokenMinter(long, long)}.
+ */
+public class TenantTokenMinter implements AutoCloseable {
+    private final String defaultApiKey;
+    private final long ttlMs;
+    private final long bucketMs;
+    private final Map<String, Token> tokens = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor refresher;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a token minter
+     *
+     * @param defaultApiKey API key signing tokens when none is given
+     * @param ttlMs lifetime of newly signed tokens, in milliseconds, returned tokens remain valid
+     *     for at least ttlMs - bucketMs
+     * @param bucketMs granularity of the expiry of the tokens, in milliseconds, smaller than ttlMs
+     */
+    TenantTokenMinter(String defaultApiKey, long ttlMs, long bucketMs) {
+        if (bucketMs < 1000 || bucketMs >= ttlMs) {
+            throw new IllegalArgumentException(
+                    "bucketMs must be at least 1000 and smaller than ttlMs");
+        }
+        this.defaultApiKey = defaultApiKey;
+        this.ttlMs = ttlMs;
+        this.bucketMs = bucketMs;
+        this.refresher =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-tenant-tokens");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        long period = Math.max(250, bucketMs / 4);
+        this.refresher.scheduleWithFixedDelay(this::refresh, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets a tenant token signed with the API key of the client
+     *
+     * @param apiKeyUid Uid of the signing API key
+     * @param searchRules Rules enforced at search time
+     * @return tenant token, valid for at least ttlMs - bucketMs
+     * @throws MeilisearchException if a parameter is invalid
+     */
+    public String getToken(String apiKeyUid, Map<String, Object> searchRules)
+            throws MeilisearchException {
+        return getToken(apiKeyUid, searchRules, null);
+    }
+
+    /**
+     * Gets a tenant token
+     *
+     * @param apiKeyUid Uid of the signing API key
+     * @param searchRules Rules enforced at search time
+     * @param apiKey API key signing the token, the API key of the client when null or empty
+     * @return tenant token, valid for at least ttlMs - bucketMs
+     * @throws MeilisearchException if a parameter is invalid
+     */
+    public String getToken(String apiKeyUid, Map<String, Object> searchRules, String apiKey)
+            throws MeilisearchException {
+        String secret = apiKey == null || apiKey.isEmpty() ? defaultApiKey : apiKey;
+        TenantTokens.validate(apiKeyUid, searchRules, secret, null);
+        String key = secret + '\u0000' + apiKeyUid + '\u0000' + canonical(searchRules);
+        long now = System.currentTimeMillis();
+        Token token = tokens.get(key);
+        if (token != null && token.expiresAt - now >= ttlMs - bucketMs) {
+            hits.increment();
+            token.lastUsed = now;
+            return token.value;
+        }
+        misses.increment();
+        token = mint(secret, apiKeyUid, searchRules, now);
+        tokens.put(key, token);
+        return token.value;
+    }
+
+    /**
+     * Gets the number of tokens returned from the cache
+     *
+     * @return number of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of tokens signed while requested
+     *
+     * @return number of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** Stops refreshing tokens in the background and discards the cached tokens */
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+        tokens.clear();
+    }
+
+    private Token mint(String secret, String apiKeyUid, Map<String, Object> rules, long now) {
+        // rounded up to the second, as the expiry of a token is stored in seconds
+        long expiresAt = ((now + ttlMs) / bucketMs + 1) * bucketMs;
+        expiresAt = (expiresAt + 999) / 1000 * 1000;
+        String value = TenantTokens.sign(apiKeyUid, rules, secret, new Date(expiresAt));
+        return new Token(secret, apiKeyUid, new HashMap<>(rules), value, expiresAt, now);
+    }
+
+    /** Signs again the tokens in use halfway through their last bucket of validity */
+    private void refresh() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Token>> entries = tokens.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Token> entry = entries.next();
+            Token token = entry.getValue();
+            if (now - token.lastUsed > ttlMs) {
+                entries.remove();
+            } else if (token.expiresAt - now < ttlMs - bucketMs / 2) {
+                Token refreshed = mint(token.secret, token.apiKeyUid, token.searchRules, now);
+                refreshed.lastUsed = token.lastUsed;
+                tokens.replace(entry.getKey(), token, refreshed);
+            }
+        }
+    }
+
+    /** Writes search rules with sorted keys, so that equal rules give the same cache key */
+    static String canonical(Object value) {
+        StringBuilder out = new StringBuilder();
+        canonical(value, out);
+        return out.toString();
+    }
+
+    private static void canonical(Object value, StringBuilder out) {
+        if (value instanceof Map) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, Object> entry : sortedKeys((Map<?, ?>) value).entrySet()) {
+                if (!first) out.append(',');
+                first = false;
+                canonical(entry.getKey(), out);
+                out.append(':');
+                canonical(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (value instanceof Collection) {
+            out.append('[');
+            boolean first = true;
+            for (Object element : (Collection<?>) value) {
+                if (!first) out.append(',');
+                first = false;
+                canonical(element, out);
+            }
+            out.append(']');
+        } else if (value != null && value.getClass().isArray()) {
+            out.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                if (i > 0) out.append(',');
+                canonical(Array.get(value, i), out);
+            }
+            out.append(']');
+        } else if (value instanceof String) {
+            out.append('"').append(((String) value).replace("\\", "\\\\").replace("\"", "\\\""));
+            out.append('"');
+        } else {
+            out.append(value);
+        }
+    }
+
+    private static Map<String, Object> sortedKeys(Map<?, ?> map) {
+        Map<String, Object> keys = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keys.put(String.valueOf(entry.getKey()), entry.getValue());
+        }
+        return keys;
+    }
+
+    private static final class Token {
+        private final String secret;
+        private final String apiKeyUid;
+        private final Map<String, Object> searchRules;
+        private final String value;
+        private final long expiresAt;
+        private volatile long lastUsed;
+
+        private Token(
+                String secret,
+                String apiKeyUid,
+                Map<String, Object> searchRules,
+                String value,
+                long expiresAt,
+                long lastUsed) {
+            this.secret = secret;
+            this.apiKeyUid = apiKeyUid;
+            this.searchRules = searchRules;
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.meilisearch.sdk;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Validation and signing of tenant tokens, reusing a single signer per API key */
+final class TenantTokens {
+    private static final int MAX_SIGNERS = 1024;
+    private static final Map<String, Algorithm> SIGNERS = new ConcurrentHashMap<>();
+
+    private TenantTokens() {}
+
+    /**
+     * Checks the parameters of a tenant token
+     *
+     * @throws MeilisearchException if a parameter is invalid
+     */
+    static void validate(
+            String apiKeyUid, Map<String, Object> searchRules, String secret, Date expiresAt)
+            throws MeilisearchException {
+        if (expiresAt != null && new Date().after(expiresAt)) {
+            throw new MeilisearchException("The date expiresAt should be in the future.");
+        }
+        if (secret == null || secret.isEmpty() || secret.length() <= 8) {
+            throw new MeilisearchException(
+                    "An api key is required in the client or should be passed as an argument and this key cannot be the master key.");
+        }
+        if (searchRules == null) {
+            throw new MeilisearchException(
+                    "The searchRules field is mandatory and should be defined.");
+        }
+        if (apiKeyUid == null || apiKeyUid.isEmpty() || !isValidUUID(apiKeyUid)) {
+            throw new MeilisearchException(
+                    "The uid used for the token generation must exist and comply to uuid4 format");
+        }
+    }
+
+    /**
+     * Signs a tenant token, the expiry being stored as a number of seconds since the epoch
+     *
+     * @param expiresAt expiry of the token, null for a token without expiry
+     * @return signed token
+     */
+    static String sign(
+            String apiKeyUid, Map<String, Object> searchRules, String secret, Date expiresAt) {
+        return JWT.create()
+                .withClaim("searchRules", searchRules)
+                .withClaim("apiKeyUid", apiKeyUid)
+                .withExpiresAt(expiresAt)
+                .sign(signer(secret));
+    }
+
+    /** Gets the HMAC signer of an API key, building it on first use */
+    private static Algorithm signer(String secret) {
+        Algorithm signer = SIGNERS.get(secret);
+        if (signer != null) return signer;
+        // keys are not expected to be many, the cache is only bounded against misuse
+        if (SIGNERS.size() >= MAX_SIGNERS) SIGNERS.clear();
+        return SIGNERS.computeIfAbsent(secret, Algorithm::HMAC256);
+    }
+
+    private static boolean isValidUUID(String apiKeyUid) {
+        try {
+            UUID.fromString(apiKeyUid);
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+        return true;
+    }
+}
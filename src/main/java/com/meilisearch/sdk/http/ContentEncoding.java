@@ -0,0 +1,61 @@
+package com.meilisearch.sdk.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/** Content encodings supported to compress request bodies */
+public enum ContentEncoding {
+    GZIP("gzip") {
+        @Override
+        OutputStream compress(OutputStream out, int level) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        }
+    },
+    DEFLATE("deflate") {
+        @Override
+        OutputStream compress(OutputStream out, int level) {
+            return new DeflaterOutputStream(out, new Deflater(level), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        def.end();
+                    }
+                }
+            };
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Value of the Content-Encoding header */
+    public final String headerValue;
+
+    ContentEncoding(String headerValue) {
+        this.headerValue = headerValue;
+    }
+
+    /**
+     * Wraps a stream compressing everything written to it, closing the returned stream finishes
+     * the compression and closes the wrapped stream
+     *
+     * @param out stream receiving the compressed bytes
+     * @param level compression level, from 0 to 9 or -1 for the default level
+     * @return compressing stream
+     * @throws IOException if the compression header cannot be written
+     */
+    abstract OutputStream compress(OutputStream out, int level) throws IOException;
+
+    @Override
+    public String toString() {
+        return headerValue;
+    }
+}
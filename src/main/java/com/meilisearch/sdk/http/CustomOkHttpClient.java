@@ -5,21 +5,51 @@ import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
 import com.meilisearch.sdk.http.request.HttpRequest;
+import com.meilisearch.sdk.http.request.StreamingContent;
 import com.meilisearch.sdk.http.response.HttpResponse;
+import com.meilisearch.sdk.metrics.MetricsListener;
+import com.meilisearch.sdk.metrics.RequestEvent;
+import com.meilisearch.sdk.metrics.Route;
+import com.meilisearch.sdk.model.FacetSearchResult;
+import com.meilisearch.sdk.model.LazySearchResult;
+import com.meilisearch.sdk.model.RawDocuments;
+import com.meilisearch.sdk.model.Searchable;
+import com.meilisearch.sdk.model.TypedSearchResult;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.net.ConnectException;
 import java.net.MalformedURLException;
+import java.net.NoRouteToHostException;
 import java.net.SocketTimeoutException;
-import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import okhttp3.*;
+import okio.BufferedSink;
 
 public class CustomOkHttpClient {
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
     private static final RequestBody EMPTY_REQUEST_BODY = RequestBody.create("".getBytes());
+    // guarded by the class, clients are dropped once no configuration uses them
+    private static final Map<TransportSettings, WeakReference<OkHttpClient>> SHARED_CLIENTS =
+            new HashMap<>();
     private final OkHttpClient client;
     protected final Config config;
+    private volatile Retrier retrier;
+    private volatile PresetHeaders presetHeaders;
+    private final Map<String, BaseUrl> baseUrls = new ConcurrentHashMap<>();
 
     public CustomOkHttpClient(Config config, OkHttpClient client) {
         this.config = config;
@@ -28,39 +58,393 @@ public class CustomOkHttpClient {
 
     public CustomOkHttpClient(Config config) {
         this.config = config;
-        this.client = new OkHttpClient();
+        this.client = sharedClient(config.getTransportSettings());
+    }
+
+    /**
+     * Gets the OkHttp client shared by every configuration using the given settings
+     *
+     * <p>Shared clients are only weakly held: once no configuration uses a client, it is garbage
+     * collected, its idle threads and connections expire, and its entry is pruned when the next
+     * client is built.
+     *
+     * @param settings transport settings of the client
+     * @return shared OkHttpClient
+     */
+    static synchronized OkHttpClient sharedClient(TransportSettings settings) {
+        if (settings == null) settings = TransportSettings.defaults();
+        WeakReference<OkHttpClient> shared = SHARED_CLIENTS.get(settings);
+        OkHttpClient client = shared == null ? null : shared.get();
+        if (client == null) {
+            SHARED_CLIENTS.values().removeIf(reference -> reference.get() == null);
+            client = buildClient(settings);
+            SHARED_CLIENTS.put(settings, new WeakReference<>(client));
+        }
+        return client;
+    }
+
+    private static OkHttpClient buildClient(TransportSettings settings) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(settings.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(settings.getMaxRequestsPerHost());
+
+        OkHttpClient.Builder builder =
+                new OkHttpClient.Builder()
+                        .dispatcher(dispatcher)
+                        .connectionPool(
+                                new ConnectionPool(
+                                        settings.getMaxIdleConnections(),
+                                        settings.getKeepAliveDurationMs(),
+                                        TimeUnit.MILLISECONDS))
+                        .connectTimeout(settings.getConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                        .readTimeout(settings.getReadTimeoutMs(), TimeUnit.MILLISECONDS)
+                        .writeTimeout(settings.getWriteTimeoutMs(), TimeUnit.MILLISECONDS)
+                        .callTimeout(settings.getCallTimeoutMs(), TimeUnit.MILLISECONDS);
+
+        if (settings.isHttp2PriorKnowledge()) {
+            builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+        }
+        return builder.build();
     }
 
     public <T> HttpResponse<T> execute(HttpRequest request) throws MeilisearchException {
-        try {
-            Request okRequest = buildRequest(request);
-            Response response = client.newCall(okRequest).execute();
+        return execute(request, null);
+    }
+
+    /**
+     * Executes the request, decoding successful response bodies straight from the response stream
+     * instead of buffering them into a String first
+     *
+     * @param request request to send
+     * @param decoder decodes the body of successful responses, the raw body is kept when null
+     * @return response holding the decoded content, or the raw error body for error status codes
+     * @throws MeilisearchException if the request could not be sent or the body decoded
+     */
+    public <T> HttpResponse<T> execute(HttpRequest request, Function<InputStream, T> decoder)
+            throws MeilisearchException {
+        Retrier retrier = retrier();
+        Recorder recorder = recorder(request);
+        long delayMs = 0;
+        for (int attempt = 1; ; attempt++) {
+            HostPool.Host host = selectHost(request);
+            String hostUrl = hostUrl(host);
+            long started = System.nanoTime();
+            if (retrier != null && !retrier.allow(hostUrl, attempt)) {
+                release(host, started, false);
+                throw circuitOpen(hostUrl);
+            }
+            Request okRequest = null;
+            boolean released = false;
+            try {
+                okRequest = buildRequest(request, hostUrl);
+                Response response = client.newCall(okRequest).execute();
+                long latency = System.nanoTime() - started;
+
+                release(host, started, false);
+                released = true;
+                HttpResponse<T> result = buildResponse(response, decoder, recorder);
+                if (recorder != null) recorder.request(okRequest, attempt, result, latency);
+                if (retrier == null
+                        || !retrier.retry(request, hostUrl, result.getStatusCode(), attempt)) {
+                    return result;
+                }
+            } catch (MalformedURLException e) {
+                release(host, started, false);
+                throw new MeilisearchException(e);
+            } catch (IOException e) {
+                if (!released) release(host, started, isUnreachable(e));
+                if (recorder != null && okRequest != null) {
+                    recorder.request(okRequest, attempt, null, System.nanoTime() - started);
+                }
+                if (retrier == null || !retrier.retry(request, hostUrl, e, attempt)) {
+                    throw toMeilisearchException(e);
+                }
+            }
+            if (recorder != null) recorder.listener.onRetry(recorder.route, attempt);
+            delayMs = retrier.nextDelayMs(delayMs);
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            }
+        }
+    }
+
+    /**
+     * Executes the request without blocking the calling thread. The call is enqueued on the OkHttp
+     * dispatcher and the returned future is completed from its callback thread.
+     *
+     * @param request request to send
+     * @return future completed with the raw response, or exceptionally with a MeilisearchException
+     */
+    public <T> CompletableFuture<HttpResponse<T>> executeAsync(HttpRequest request) {
+        return executeAsync(request, null);
+    }
 
-            return buildResponse(response);
+    /**
+     * Executes the request without blocking the calling thread, decoding successful response
+     * bodies from the response stream on the OkHttp callback thread
+     *
+     * @param request request to send
+     * @param decoder decodes the body of successful responses, the raw body is kept when null
+     * @return future completed with the response, or exceptionally with a MeilisearchException
+     */
+    public <T> CompletableFuture<HttpResponse<T>> executeAsync(
+            HttpRequest request, Function<InputStream, T> decoder) {
+        CompletableFuture<HttpResponse<T>> future = new CompletableFuture<>();
+        executeAsync(request, decoder, retrier(), recorder(request), 1, 0, future);
+        return future;
+    }
+
+    private <T> void executeAsync(
+            HttpRequest request,
+            Function<InputStream, T> decoder,
+            Retrier retrier,
+            Recorder recorder,
+            int attempt,
+            long delayMs,
+            CompletableFuture<HttpResponse<T>> future) {
+        HostPool.Host host = selectHost(request);
+        String hostUrl = hostUrl(host);
+        long started = System.nanoTime();
+        if (retrier != null && !retrier.allow(hostUrl, attempt)) {
+            release(host, started, false);
+            future.completeExceptionally(circuitOpen(hostUrl));
+            return;
+        }
+        Request okRequest;
+        try {
+            okRequest = buildRequest(request, hostUrl);
         } catch (MalformedURLException e) {
-            throw new MeilisearchException(e);
-        } catch (SocketTimeoutException e) {
-            throw new MeilisearchTimeoutException(e);
+            release(host, started, false);
+            future.completeExceptionally(new MeilisearchException(e));
+            return;
         } catch (IOException e) {
-            throw new MeilisearchCommunicationException(e);
+            release(host, started, false);
+            future.completeExceptionally(toMeilisearchException(e));
+            return;
+        }
+
+        Runnable retry =
+                () -> {
+                    if (recorder != null) recorder.listener.onRetry(recorder.route, attempt);
+                    long nextDelayMs = retrier.nextDelayMs(delayMs);
+                    retrier.schedule(
+                            () ->
+                                    executeAsync(
+                                            request,
+                                            decoder,
+                                            retrier,
+                                            recorder,
+                                            attempt + 1,
+                                            nextDelayMs,
+                                            future),
+                            nextDelayMs);
+                };
+        client.newCall(okRequest)
+                .enqueue(
+                        new Callback() {
+                            @Override
+                            public void onFailure(Call call, IOException e) {
+                                release(host, started, isUnreachable(e));
+                                if (recorder != null) {
+                                    long latency = System.nanoTime() - started;
+                                    recorder.request(okRequest, attempt, null, latency);
+                                }
+                                if (retrier != null
+                                        && retrier.retry(request, hostUrl, e, attempt)) {
+                                    retry.run();
+                                } else {
+                                    future.completeExceptionally(toMeilisearchException(e));
+                                }
+                            }
+
+                            @Override
+                            public void onResponse(Call call, Response response) {
+                                long latency = System.nanoTime() - started;
+                                release(host, started, false);
+                                try {
+                                    HttpResponse<T> result =
+                                            buildResponse(response, decoder, recorder);
+                                    if (recorder != null) {
+                                        recorder.request(okRequest, attempt, result, latency);
+                                    }
+                                    if (retrier != null
+                                            && retrier.retry(
+                                                    request,
+                                                    hostUrl,
+                                                    result.getStatusCode(),
+                                                    attempt)) {
+                                        retry.run();
+                                    } else {
+                                        future.complete(result);
+                                    }
+                                } catch (IOException e) {
+                                    future.completeExceptionally(toMeilisearchException(e));
+                                } catch (RuntimeException e) {
+                                    future.completeExceptionally(e);
+                                }
+                            }
+                        });
+    }
+
+    /**
+     * Selects the replica serving a read request when the configuration has read hosts
+     *
+     * @return selected replica, or null to send the request to the host of the configuration
+     */
+    private HostPool.Host selectHost(HttpRequest request) {
+        HostPool readHosts = this.config.getReadHosts();
+        if (readHosts == null || !HostPool.isRead(request.getMethod(), request.getPath())) {
+            return null;
         }
+        return readHosts.select();
     }
 
-    private RequestBody getBodyFromRequest(HttpRequest request) {
-        if (request.hasContent()) return RequestBody.create(request.getContentAsBytes(), JSON);
+    /** Creates the recorder of the metrics of a request, null when metrics are disabled */
+    private Recorder recorder(HttpRequest request) {
+        MetricsListener listener = this.config.getMetricsListener();
+        if (listener == null) return null;
+        return new Recorder(listener, Route.of(request.getMethod(), request.getPath()));
+    }
+
+    private String hostUrl(HostPool.Host host) {
+        return host != null ? host.getUrl() : this.config.getHostUrl();
+    }
+
+    /** Gets the state of the retry policy of the configuration, reset when the policy changes */
+    private Retrier retrier() {
+        RetryPolicy policy = this.config.getRetryPolicy();
+        if (policy == null) return null;
+        Retrier current = this.retrier;
+        if (current == null || current.policy != policy) {
+            current = new Retrier(policy);
+            this.retrier = current;
+        }
+        return current;
+    }
+
+    private static void release(HostPool.Host host, long started, boolean unreachable) {
+        if (host != null) host.release(System.nanoTime() - started, unreachable);
+    }
+
+    /**
+     * Checks whether the connection could not be established, the request never reaching the host
+     *
+     * <p>Timeouts are left to the latency average, only connection failures eject a replica.
+     */
+    static boolean isUnreachable(IOException e) {
+        return e instanceof ConnectException
+                || e instanceof UnknownHostException
+                || e instanceof NoRouteToHostException;
+    }
+
+    private static MeilisearchException circuitOpen(String hostUrl) {
+        return new MeilisearchCommunicationException(
+                "Circuit breaker open for " + hostUrl + ", request not sent");
+    }
+
+    private MeilisearchException toMeilisearchException(IOException e) {
+        if (e instanceof SocketTimeoutException) return new MeilisearchTimeoutException(e);
+        return new MeilisearchCommunicationException(e);
+    }
+
+    /**
+     * Builds the body of the request, compressing it and setting the Content-Encoding header when
+     * request compression is configured
+     */
+    private RequestBody getBodyFromRequest(HttpRequest request, Request.Builder builder)
+            throws IOException {
+        RequestCompression compression = this.config.getRequestCompression();
+        if (request.getStreamingContent() != null) {
+            if (compression != null)
+                builder.header("Content-Encoding", compression.getEncoding().headerValue);
+            return new StreamingRequestBody(request.getStreamingContent(), compression);
+        }
+        if (request.hasContent()) {
+            byte[] content = request.getContentAsBytes();
+            if (compression != null && content.length >= compression.getThresholdBytes()) {
+                content = compress(content, compression);
+                builder.header("Content-Encoding", compression.getEncoding().headerValue);
+            }
+            return RequestBody.create(content, JSON);
+        }
         return EMPTY_REQUEST_BODY;
     }
 
-    private Request buildRequest(HttpRequest request) throws MalformedURLException {
-        URL url = new URL(this.config.getHostUrl() + request.getPath());
+    /**
+     * Resolves the path of a request against the host, parsed once per host
+     *
+     * @param hostUrl URL of the host, possibly with a path prefix
+     * @param path path of the request, with its already encoded query string
+     * @return URL of the request
+     * @throws MalformedURLException if the host is not a valid HTTP URL
+     */
+    private HttpUrl url(String hostUrl, String path) throws MalformedURLException {
+        BaseUrl base = baseUrls.get(hostUrl);
+        if (base == null) {
+            HttpUrl parsed = HttpUrl.parse(hostUrl);
+            if (parsed == null) throw new MalformedURLException("Invalid host URL: " + hostUrl);
+            base = new BaseUrl(parsed);
+            baseUrls.put(hostUrl, base);
+        }
+        int query = path.indexOf('?');
+        String encodedPath = base.prefix + (query < 0 ? path : path.substring(0, query));
+        HttpUrl.Builder builder = base.url.newBuilder();
+        try {
+            builder.encodedPath(encodedPath.isEmpty() ? "/" : encodedPath);
+            builder.encodedQuery(query < 0 ? null : path.substring(query + 1));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedURLException("Invalid path: " + path);
+        }
+        return builder.build();
+    }
+
+    /** Builds the headers sent with the headers of the configuration, reused across requests */
+    private synchronized PresetHeaders presetHeaders(Map<String, String> headers) {
+        PresetHeaders preset = presetHeaders;
+        if (preset != null && preset.matches(headers)) return preset;
+        Headers.Builder builder = new Headers.Builder();
+        if (this.config.getApiKey() != null) {
+            builder.add("Authorization", this.config.getBearerApiKey());
+        }
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+        }
+        preset = new PresetHeaders(headers, builder.build());
+        presetHeaders = preset;
+        return preset;
+    }
+
+    private static byte[] compress(byte[] content, RequestCompression compression)
+            throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (OutputStream out =
+                compression.getEncoding().compress(buffer, compression.getLevel())) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+
+    private Request buildRequest(HttpRequest request, String hostUrl) throws IOException {
         Request.Builder builder = new Request.Builder();
-        builder.url(url);
+        builder.url(url(hostUrl, request.getPath()));
 
-        if (this.config.getApiKey() != null)
-            builder.addHeader("Authorization", this.config.getBearerApiKey());
+        Map<String, String> headers = request.getHeaders();
+        PresetHeaders preset = presetHeaders;
+        if (preset == null || !preset.matches(headers)) {
+            preset = headers == this.config.getHeaders() ? presetHeaders(headers) : null;
+        }
+        if (preset != null) {
+            builder.headers(preset.headers);
+        } else {
+            if (this.config.getApiKey() != null)
+                builder.addHeader("Authorization", this.config.getBearerApiKey());
 
-        for (Map.Entry<String, String> entry : request.getHeaders().entrySet()) {
-            builder.addHeader(entry.getKey(), entry.getValue());
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                builder.addHeader(entry.getKey(), entry.getValue());
+            }
         }
 
         switch (request.getMethod()) {
@@ -68,16 +452,16 @@ public class CustomOkHttpClient {
                 builder.get();
                 break;
             case POST:
-                builder.post(getBodyFromRequest(request));
+                builder.post(getBodyFromRequest(request, builder));
                 break;
             case PUT:
-                builder.put(getBodyFromRequest(request));
+                builder.put(getBodyFromRequest(request, builder));
                 break;
             case PATCH:
-                builder.patch(getBodyFromRequest(request));
+                builder.patch(getBodyFromRequest(request, builder));
                 break;
             case DELETE:
-                if (request.hasContent()) builder.delete(getBodyFromRequest(request));
+                if (request.hasContent()) builder.delete(getBodyFromRequest(request, builder));
                 else builder.delete();
                 break;
             default:
@@ -87,13 +471,45 @@ public class CustomOkHttpClient {
         return builder.build();
     }
 
-    private <T> HttpResponse<T> buildResponse(Response response) throws IOException {
-        String body = null;
-        ResponseBody responseBody = response.body();
-        if (responseBody != null) body = responseBody.string();
+    @SuppressWarnings("unchecked")
+    private <T> HttpResponse<T> buildResponse(
+            Response response, Function<InputStream, T> decoder, Recorder recorder)
+            throws IOException {
+        T content = null;
+        try (ResponseBody responseBody = response.body()) {
+            if (responseBody != null && recorder != null) {
+                long started = System.nanoTime();
+                CountingInputStream body = new CountingInputStream(responseBody.byteStream());
+                if (decoder == null || response.code() >= 400) {
+                    content = (T) readString(body);
+                } else {
+                    content = decoder.apply(body);
+                }
+                // error bodies report no processing time
+                Object decoded = response.code() >= 400 ? null : content;
+                recorder.decoded(System.nanoTime() - started, body.count, decoded);
+            } else if (responseBody != null) {
+                // error bodies are kept raw so that they can be decoded as an APIError
+                if (decoder == null || response.code() >= 400) {
+                    content = (T) responseBody.string();
+                } else {
+                    content = decoder.apply(responseBody.byteStream());
+                }
+            }
+        }
 
         return new HttpResponse<T>(
-                parseHeaders(response.headers().toMultimap()), response.code(), (T) body);
+                parseHeaders(response.headers().toMultimap()), response.code(), content);
+    }
+
+    private static String readString(InputStream body) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            content.write(buffer, 0, read);
+        }
+        return new String(content.toByteArray(), StandardCharsets.UTF_8);
     }
 
     private Map<String, String> parseHeaders(Map<String, List<String>> headers) {
@@ -123,4 +539,196 @@ public class CustomOkHttpClient {
     public <T> HttpResponse<T> delete(HttpRequest request) throws MeilisearchException {
         return execute(request);
     }
+
+    /** Parsed URL of a host, with the path prefix requests are resolved against */
+    private static final class BaseUrl {
+        private final HttpUrl url;
+        private final String prefix;
+
+        private BaseUrl(HttpUrl url) {
+            this.url = url;
+            String path = url.encodedPath();
+            this.prefix = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        }
+    }
+
+    /**
+     * Immutable headers of the configuration and API key, rebuilt when the headers of the
+     * configuration change
+     */
+    private static final class PresetHeaders {
+        private final Map<String, String> source;
+        private final Map<String, String> snapshot;
+        private final Headers headers;
+
+        private PresetHeaders(Map<String, String> source, Headers headers) {
+            this.source = source;
+            this.snapshot = new HashMap<>(source);
+            this.headers = headers;
+        }
+
+        private boolean matches(Map<String, String> headers) {
+            return headers == source && snapshot.equals(headers);
+        }
+    }
+
+    /** Reports the metrics of the attempts of a request to the metrics listener */
+    private static final class Recorder {
+        private final MetricsListener listener;
+        private final Route route;
+        private long responseBytes = -1;
+
+        private Recorder(MetricsListener listener, Route route) {
+            this.listener = listener;
+            this.route = route;
+        }
+
+        private void decoded(long nanos, long bytes, Object content) {
+            responseBytes = bytes;
+            listener.onDecode(route, nanos, bytes);
+            if (content instanceof Searchable) {
+                listener.onProcessingTime(route, ((Searchable) content).getProcessingTimeMs());
+            } else if (content instanceof TypedSearchResult) {
+                int processingTimeMs = ((TypedSearchResult<?>) content).getProcessingTimeMs();
+                listener.onProcessingTime(route, processingTimeMs);
+            } else if (content instanceof FacetSearchResult) {
+                int processingTimeMs = ((FacetSearchResult) content).getProcessingTimeMs();
+                listener.onProcessingTime(route, processingTimeMs);
+            } else if (content instanceof byte[] || content instanceof String) {
+                rawDecoded(content);
+            }
+        }
+
+        /**
+         * Reports the processing time of a search response decoded as raw JSON, such as the
+         * responses of the search cache, the search batcher and lazy searches
+         */
+        private void rawDecoded(Object content) {
+            String operation = route.getOperation();
+            boolean multiSearch = operation.equals("POST /multi-search");
+            if (!multiSearch
+                    && !operation.endsWith("/search")
+                    && !operation.endsWith("/facet-search")
+                    && !operation.endsWith("/similar")) {
+                return;
+            }
+            byte[] json =
+                    content instanceof byte[]
+                            ? (byte[]) content
+                            : ((String) content).getBytes(StandardCharsets.UTF_8);
+            try {
+                if (multiSearch) {
+                    RawDocuments results = new RawDocuments(json);
+                    for (int i = 0; i < results.size(); i++) {
+                        long processingTimeMs = results.get(i).getLong("processingTimeMs", 0);
+                        listener.onProcessingTime(route, processingTimeMs);
+                    }
+                    // federated searches report it at the top level instead
+                    if (results.size() > 0) return;
+                }
+                long processingTimeMs = new LazySearchResult(json).getProcessingTimeMs();
+                listener.onProcessingTime(route, processingTimeMs);
+            } catch (MeilisearchException e) {
+                // not a search response, the caller reports the decoding error
+            }
+        }
+
+        private void request(
+                Request okRequest, int attempt, HttpResponse<?> response, long latencyNanos) {
+            long requestBytes = -1;
+            try {
+                if (okRequest.body() != null) requestBytes = okRequest.body().contentLength();
+            } catch (IOException e) {
+                // the size of the body is unknown
+            }
+            int statusCode = response != null ? response.getStatusCode() : 0;
+            listener.onRequest(
+                    new RequestEvent(
+                            route,
+                            attempt,
+                            statusCode,
+                            latencyNanos,
+                            requestBytes,
+                            response != null ? responseBytes : -1));
+            responseBytes = -1;
+        }
+    }
+
+    /** Counts the bytes read from the body of a response */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read != -1) count++;
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) count += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    /** Request body writing its content straight to the connection sink, using chunked encoding */
+    private static class StreamingRequestBody extends RequestBody {
+        private final StreamingContent content;
+        private final MediaType contentType;
+        private final RequestCompression compression;
+
+        private StreamingRequestBody(StreamingContent content, RequestCompression compression) {
+            this.content = content;
+            this.contentType = MediaType.get(content.getContentType());
+            this.compression = compression;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return contentType;
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            if (compression == null) {
+                content.writeTo(sink.outputStream());
+                return;
+            }
+            // the sink belongs to the connection, closing the compressing stream must not close it
+            OutputStream target =
+                    new FilterOutputStream(sink.outputStream()) {
+                        @Override
+                        public void write(byte[] b, int off, int len) throws IOException {
+                            out.write(b, off, len);
+                        }
+
+                        @Override
+                        public void close() throws IOException {
+                            flush();
+                        }
+                    };
+            try (OutputStream out =
+                    compression.getEncoding().compress(target, compression.getLevel())) {
+                content.writeTo(out);
+            }
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return content.isOneShot();
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package com.meilisearch.sdk.http;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import com.meilisearch.sdk.http.request.PathSegments;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Pool of Meilisearch replicas serving the read requests of a client, such as searches and
+ * document fetches, while writes and every other request go to the host of the configuration
+ *
+ * <p>Each read is sent to the healthy replica with the lowest score, the exponentially weighted
+ * moving average of its latency in milliseconds plus one, multiplied by its number of outstanding
+ * requests plus one, so that a slow or busy replica receives less traffic. A replica failing to
+ * answer a request is ejected at once, and every replica is probed on {@code /health} in the
+ * background: failing replicas are ejected and recovered replicas admitted again. Reads go to the
+ * host of the configuration while no replica is healthy.
+ *
+ * <p>Replicas are updated asynchronously by Meilisearch, a document or setting written on the
+ * primary may not be visible on the replicas right away.
+ *
+ * <p>Enable it with {@link com.meilisearch.sdk.Config#setReadHosts(HostPool)}.
+ */
+public class HostPool {
+    public static final long DEFAULT_HEALTH_CHECK_INTERVAL_MS = 5000;
+
+    /** Weight of the latest latency sample in the moving average */
+    private static final double EWMA_WEIGHT = 0.3;
+
+    private final List<Host> hosts;
+    private final long healthCheckIntervalMs;
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledThreadPoolExecutor healthChecks;
+
+    /**
+     * Creates a pool of replicas probed every {@link #DEFAULT_HEALTH_CHECK_INTERVAL_MS}
+     *
+     * @param hostUrls URLs of the replicas, such as {@code http://replica-1:7700}
+     */
+    public HostPool(List<String> hostUrls) {
+        this(hostUrls, DEFAULT_HEALTH_CHECK_INTERVAL_MS);
+    }
+
+    /**
+     * Creates a pool of replicas
+     *
+     * @param hostUrls URLs of the replicas, such as {@code http://replica-1:7700}
+     * @param healthCheckIntervalMs number of milliseconds between two probes of a replica
+     */
+    public HostPool(List<String> hostUrls, long healthCheckIntervalMs) {
+        if (hostUrls == null || hostUrls.isEmpty()) {
+            throw new IllegalArgumentException("At least one host is required");
+        }
+        List<Host> pool = new ArrayList<>(hostUrls.size());
+        for (String hostUrl : hostUrls) {
+            pool.add(new Host(hostUrl));
+        }
+        this.hosts = Collections.unmodifiableList(pool);
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+    }
+
+    /**
+     * Gets the replicas of the pool
+     *
+     * @return replicas with their current state
+     */
+    public List<Host> getHosts() {
+        return hosts;
+    }
+
+    /**
+     * Starts probing the replicas in the background, a replica is healthy while its probe succeeds
+     *
+     * <p>Called by the configuration the pool is set on, probes are only started once.
+     *
+     * @param probe checks whether the replica at the given URL is available
+     */
+    public synchronized void startHealthChecks(Predicate<String> probe) {
+        if (healthChecks != null) return;
+        healthChecks =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-health-checks");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        healthChecks.scheduleWithFixedDelay(
+                () -> {
+                    for (Host host : hosts) {
+                        host.healthy = probe.test(host.url);
+                    }
+                },
+                healthCheckIntervalMs,
+                healthCheckIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops probing the replicas */
+    public synchronized void stopHealthChecks() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+            healthChecks = null;
+        }
+    }
+
+    /**
+     * Checks whether a request only reads data and can be served by a replica
+     *
+     * @param method HTTP method of the request
+     * @param path path of the request
+     * @return true for searches, multi-searches, similar documents and document fetches
+     */
+    static boolean isRead(HttpMethod method, String path) {
+        PathSegments segments = PathSegments.of(path);
+        if (method == HttpMethod.POST && segments.size() == 1) {
+            return segments.is(0, "multi-search");
+        }
+        if (segments.size() < 3 || !segments.is(0, "indexes")) return false;
+        switch (segments.get(2)) {
+            case "search":
+            case "facet-search":
+            case "similar":
+                return method == HttpMethod.POST || method == HttpMethod.GET;
+            case "documents":
+                if (method == HttpMethod.GET) return true;
+                return method == HttpMethod.POST && segments.size() == 4 && segments.is(3, "fetch");
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Selects the healthy replica with the lowest score and counts the request as outstanding on
+     * it, until released
+     *
+     * @return selected replica, or null if no replica is healthy
+     */
+    Host select() {
+        int size = hosts.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        Host selected = null;
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Host host = hosts.get((start + i) % size);
+            if (!host.healthy) continue;
+            double score = host.score();
+            if (score < best) {
+                best = score;
+                selected = host;
+            }
+        }
+        if (selected != null) selected.outstanding.incrementAndGet();
+        return selected;
+    }
+
+    /** State of a replica of the pool */
+    public static final class Host {
+        private final String url;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private volatile double ewmaLatencyMs;
+        private volatile boolean healthy = true;
+
+        private Host(String url) {
+            this.url = url;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public int getOutstandingRequests() {
+            return outstanding.get();
+        }
+
+        public double getEwmaLatencyMs() {
+            return ewmaLatencyMs;
+        }
+
+        /**
+         * Records the end of a request sent to the replica
+         *
+         * @param latencyNanos duration of the request
+         * @param unreachable whether the replica could not be reached, ejecting it until its next
+         *     successful probe
+         */
+        void release(long latencyNanos, boolean unreachable) {
+            outstanding.decrementAndGet();
+            if (unreachable) {
+                healthy = false;
+                return;
+            }
+            double latencyMs = latencyNanos / 1_000_000.0;
+            synchronized (this) {
+                ewmaLatencyMs =
+                        ewmaLatencyMs == 0
+                                ? latencyMs
+                                : ewmaLatencyMs + EWMA_WEIGHT * (latencyMs - ewmaLatencyMs);
+            }
+        }
+
+        private double score() {
+            // the extra millisecond keeps outstanding requests relevant between fast replicas
+            return (ewmaLatencyMs + 1) * (outstanding.get() + 1);
+        }
+
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.meilisearch.sdk.http;
+
+import java.util.zip.Deflater;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Compression of request bodies, sent with the matching Content-Encoding header
+ *
+ * <p>Bodies smaller than the threshold are sent uncompressed. Streamed bodies have no known size
+ * and are always compressed. Response bodies are decompressed transparently by OkHttp, which
+ * negotiates gzip unless an Accept-Encoding header is set explicitly.
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RequestCompression {
+    @Builder.Default private final ContentEncoding encoding = ContentEncoding.GZIP;
+
+    /** Minimum size in bytes of a body to compress it */
+    @Builder.Default private final int thresholdBytes = 1024;
+
+    /** Compression level, from 0 to 9 or -1 for the default level */
+    @Builder.Default private final int level = Deflater.DEFAULT_COMPRESSION;
+}
@@ -0,0 +1,139 @@
+package com.meilisearch.sdk.http;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import com.meilisearch.sdk.http.request.HttpRequest;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** State of a retry policy: the retry budget and the circuit breaker of each host */
+class Retrier {
+    private static final ScheduledThreadPoolExecutor SCHEDULER =
+            new ScheduledThreadPoolExecutor(
+                    1,
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "meilisearch-retries");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+
+    final RetryPolicy policy;
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private double budget;
+
+    Retrier(RetryPolicy policy) {
+        this.policy = policy;
+        this.budget = policy.getBudgetCapacity();
+    }
+
+    /**
+     * Checks the circuit of the host before an attempt, crediting the budget on first attempts
+     *
+     * @return false if the circuit of the host is open and the request must not be sent
+     */
+    boolean allow(String hostUrl, int attempt) {
+        if (attempt == 1) {
+            synchronized (this) {
+                budget = Math.min(policy.getBudgetCapacity(), budget + policy.getBudgetRatio());
+            }
+        }
+        return policy.getFailureThreshold() <= 0 || breaker(hostUrl).allow();
+    }
+
+    /**
+     * Records a response and decides whether the request is sent again
+     *
+     * @return true if the request must be retried
+     */
+    boolean retry(HttpRequest request, String hostUrl, int statusCode, int attempt) {
+        boolean transientError =
+                statusCode == 429 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+        record(hostUrl, transientError);
+        return transientError && attempt < policy.getMaxAttempts() && replayable(request, false);
+    }
+
+    /**
+     * Records a failure to send a request and decides whether the request is sent again
+     *
+     * @return true if the request must be retried
+     */
+    boolean retry(HttpRequest request, String hostUrl, IOException e, int attempt) {
+        record(hostUrl, true);
+        boolean notSent = CustomOkHttpClient.isUnreachable(e);
+        return attempt < policy.getMaxAttempts() && replayable(request, notSent);
+    }
+
+    /**
+     * Computes the delay before the next attempt, with decorrelated jitter
+     *
+     * @param previousDelayMs delay before the previous attempt, 0 for the first retry
+     * @return delay in milliseconds
+     */
+    long nextDelayMs(long previousDelayMs) {
+        long base = policy.getBaseDelayMs();
+        long upper = Math.max(base, previousDelayMs * 3);
+        long jitter = upper > base ? ThreadLocalRandom.current().nextLong(upper - base) : 0;
+        long delay = base + jitter;
+        return Math.min(policy.getMaxDelayMs(), delay);
+    }
+
+    void schedule(Runnable retry, long delayMs) {
+        SCHEDULER.schedule(retry, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean replayable(HttpRequest request, boolean notSent) {
+        if (request.getStreamingContent() != null && request.getStreamingContent().isOneShot()) {
+            return false;
+        }
+        boolean read =
+                request.getMethod() == HttpMethod.GET
+                        || HostPool.isRead(request.getMethod(), request.getPath());
+        if (!read && !notSent && !policy.isRetryWrites()) return false;
+        synchronized (this) {
+            if (budget < 1) return false;
+            budget--;
+            return true;
+        }
+    }
+
+    private void record(String hostUrl, boolean failure) {
+        if (policy.getFailureThreshold() <= 0) return;
+        if (failure) breaker(hostUrl).failure();
+        else breaker(hostUrl).success();
+    }
+
+    private Breaker breaker(String hostUrl) {
+        return breakers.computeIfAbsent(hostUrl, url -> new Breaker());
+    }
+
+    /** Circuit breaker of a host, open once the threshold of consecutive failures is reached */
+    private final class Breaker {
+        private int failures;
+        private long openUntil;
+
+        synchronized boolean allow() {
+            if (failures < policy.getFailureThreshold()) return true;
+            long now = System.currentTimeMillis();
+            if (now < openUntil) return false;
+            // half-open, a single request probes the host until the circuit opens again
+            openUntil = now + policy.getOpenDurationMs();
+            return true;
+        }
+
+        synchronized void success() {
+            failures = 0;
+        }
+
+        synchronized void failure() {
+            failures++;
+            if (failures == policy.getFailureThreshold()) {
+                openUntil = System.currentTimeMillis() + policy.getOpenDurationMs();
+            }
+        }
+    }
+}
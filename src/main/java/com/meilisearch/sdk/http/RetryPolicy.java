@@ -0,0 +1,56 @@
+package com.meilisearch.sdk.http;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Retries of requests failing with a transient error, and circuit breaking of unhealthy hosts
+ *
+ * <p>A request is retried when it cannot be sent or when Meilisearch, or a proxy in front of it,
+ * answers with a 429, 502, 503 or 504 status code. Reads, such as searches and document fetches,
+ * are always retried. Writes enqueue a task and are only retried when the connection could not be
+ * established, unless {@code retryWrites} is set, in which case a write may be enqueued twice.
+ *
+ * <p>Delays between attempts grow exponentially with decorrelated jitter, between {@code
+ * baseDelayMs} and {@code maxDelayMs}. Retries are limited by a budget: each request adds {@code
+ * budgetRatio} to the budget, up to {@code budgetCapacity}, and each retry consumes one. The
+ * circuit of a host opens after {@code failureThreshold} consecutive failures: requests to the host
+ * fail at once for {@code openDurationMs}, after which a single request is let through to probe it.
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class RetryPolicy {
+    /** Maximum number of attempts of a request, including the first one */
+    @Builder.Default private final int maxAttempts = 3;
+
+    @Builder.Default private final long baseDelayMs = 50L;
+    @Builder.Default private final long maxDelayMs = 2_000L;
+
+    /** Retries writes failing after being sent, at the risk of enqueuing them twice */
+    @Builder.Default private final boolean retryWrites = false;
+
+    /** Retries earned by each request */
+    @Builder.Default private final double budgetRatio = 0.2;
+
+    /** Maximum number of retries available at once */
+    @Builder.Default private final int budgetCapacity = 10;
+
+    /** Number of consecutive failures opening the circuit of a host, 0 disabling the breaker */
+    @Builder.Default private final int failureThreshold = 5;
+
+    /** Time requests to a host fail at once after its circuit opened */
+    @Builder.Default private final long openDurationMs = 10_000L;
+
+    /**
+     * Gets the default policy
+     *
+     * @return default RetryPolicy
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+}
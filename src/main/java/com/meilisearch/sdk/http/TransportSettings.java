@@ -0,0 +1,50 @@
+package com.meilisearch.sdk.http;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Connection pool, dispatcher and timeout settings of the underlying OkHttp client
+ *
+ * <p>Configurations built with equal settings share a single OkHttp client, and therefore a single
+ * connection pool and dispatcher. Timeouts are expressed in milliseconds, 0 meaning no timeout.
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TransportSettings {
+    /** Maximum number of idle connections kept in the pool */
+    @Builder.Default private final int maxIdleConnections = 5;
+
+    /** Time an idle connection is kept alive in the pool */
+    @Builder.Default private final long keepAliveDurationMs = 5 * 60 * 1000L;
+
+    /** Maximum number of requests executed concurrently by the dispatcher */
+    @Builder.Default private final int maxRequests = 64;
+
+    /** Maximum number of requests executed concurrently for each host */
+    @Builder.Default private final int maxRequestsPerHost = 5;
+
+    @Builder.Default private final long connectTimeoutMs = 10_000L;
+    @Builder.Default private final long readTimeoutMs = 10_000L;
+    @Builder.Default private final long writeTimeoutMs = 10_000L;
+    @Builder.Default private final long callTimeoutMs = 0L;
+
+    /**
+     * Uses cleartext HTTP/2 without protocol upgrade (h2c). Only usable against an http:// host
+     * which accepts HTTP/2 prior knowledge.
+     */
+    @Builder.Default private final boolean http2PriorKnowledge = false;
+
+    /**
+     * Gets the default settings, matching the defaults of OkHttp
+     *
+     * @return default TransportSettings
+     */
+    public static TransportSettings defaults() {
+        return TransportSettings.builder().build();
+    }
+}
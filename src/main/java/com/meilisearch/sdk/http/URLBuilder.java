@@ -1,22 +1,31 @@
 package com.meilisearch.sdk.http;
 
-import java.text.SimpleDateFormat;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.Date;
 import lombok.Getter;
 
+/**
+ * Builds the path and query string of a request
+ *
+ * <p>Parameter values are percent-encoded, commas separating the values of array parameters are
+ * kept as is.
+ */
 @Getter
 public class URLBuilder {
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
     private StringBuilder routes, params;
 
     public URLBuilder() {
-        routes = new StringBuilder();
-        params = new StringBuilder();
+        routes = new StringBuilder(32);
+        params = new StringBuilder(64);
     }
 
     public URLBuilder(String rootRoute) {
-        routes = new StringBuilder(rootRoute);
-        params = new StringBuilder();
+        routes = new StringBuilder(rootRoute.length() + 32).append(rootRoute);
+        params = new StringBuilder(64);
     }
 
     public URLBuilder addSubroute(String route) {
@@ -30,7 +39,7 @@ public class URLBuilder {
             addSeparator();
             params.append(parameter);
             params.append("=");
-            params.append(value);
+            appendEncoded(String.valueOf(value));
         }
         return this;
     }
@@ -50,7 +59,10 @@ public class URLBuilder {
             addSeparator();
             params.append(parameter);
             params.append("=");
-            params.append(formatArrayParameters(value));
+            for (int i = 0; i < value.length; i++) {
+                if (i > 0) params.append(',');
+                appendEncoded(value[i]);
+            }
         }
         return this;
     }
@@ -60,18 +72,22 @@ public class URLBuilder {
             addSeparator();
             params.append(parameter);
             params.append("=");
-            params.append(formatArrayParameters(value));
+            for (int i = 0; i < value.length; i++) {
+                if (i > 0) params.append(',');
+                params.append(value[i]);
+            }
         }
         return this;
     }
 
+    /** Adds a date parameter, formatted as yyyy-MM-dd in the default time zone */
     public URLBuilder addParameter(String parameter, Date value) {
         if (value != null) {
-            SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
             addSeparator();
             params.append(parameter);
             params.append("=");
-            params.append(formatter.format(value));
+            Instant instant = Instant.ofEpochMilli(value.getTime());
+            params.append(instant.atZone(ZoneId.systemDefault()).toLocalDate());
         }
         return this;
     }
@@ -90,16 +106,47 @@ public class URLBuilder {
         return this;
     }
 
-    private String formatArrayParameters(String[] fields) {
-        return String.join(",", fields);
+    /** Appends a value, percent-encoding the characters not allowed in a query parameter */
+    private void appendEncoded(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isAllowed(c)) {
+                params.append(c);
+                continue;
+            }
+            int end = i + 1;
+            if (Character.isHighSurrogate(c) && end < value.length()) end++;
+            for (byte b : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                params.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+            i = end - 1;
+        }
     }
 
-    private String formatArrayParameters(int[] fields) {
-        String[] arr = Arrays.stream(fields).mapToObj(String::valueOf).toArray(String[]::new);
-        return String.join(",", arr);
+    /** Unreserved characters and the delimiters without meaning in a query parameter value */
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '.'
+                || c == '_'
+                || c == '~'
+                || c == '*'
+                || c == ':'
+                || c == '@'
+                || c == '/'
+                || c == '!'
+                || c == '$'
+                || c == '\''
+                || c == '('
+                || c == ')';
     }
 
     public String getURL() {
-        return routes.toString() + params.toString();
+        return new StringBuilder(routes.length() + params.length())
+                .append(routes)
+                .append(params)
+                .toString();
     }
 }
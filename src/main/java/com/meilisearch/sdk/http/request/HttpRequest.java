@@ -12,6 +12,7 @@ public class HttpRequest {
     @Setter private String path;
     @Getter private Map<String, String> headers;
     private String content;
+    private StreamingContent streamingContent;
 
     public HttpRequest() {}
 
@@ -24,7 +25,7 @@ public class HttpRequest {
     }
 
     public boolean hasContent() {
-        return content != null;
+        return content != null || streamingContent != null;
     }
 
     public byte[] getContentAsBytes() {
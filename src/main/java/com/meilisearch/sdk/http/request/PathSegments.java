@@ -0,0 +1,71 @@
+package com.meilisearch.sdk.http.request;
+
+import java.util.Arrays;
+
+/**
+ * Segments of the path of a request, without its query string
+ *
+ * <p>The path {@code /indexes/movies/documents?limit=20} has the segments {@code indexes}, {@code
+ * movies} and {@code documents}.
+ */
+public final class PathSegments {
+    private final String[] segments;
+
+    private PathSegments(String[] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Splits the path of a request
+     *
+     * @param path path of the request, starting with a slash, with its query string
+     * @return segments of the path
+     */
+    public static PathSegments of(String path) {
+        int query = path.indexOf('?');
+        String[] split = (query < 0 ? path : path.substring(0, query)).split("/");
+        // the first element is the empty string before the leading slash
+        return new PathSegments(
+                split.length == 0 ? split : Arrays.copyOfRange(split, 1, split.length));
+    }
+
+    /**
+     * Gets the number of segments
+     *
+     * @return number of segments, 0 for the root path
+     */
+    public int size() {
+        return segments.length;
+    }
+
+    /**
+     * Gets a segment
+     *
+     * @param index Position of the segment
+     * @return segment at the position
+     * @throws IndexOutOfBoundsException if there is no segment at the position
+     */
+    public String get(int index) {
+        return segments[index];
+    }
+
+    /**
+     * Checks a segment
+     *
+     * @param index Position of the segment
+     * @param value Expected segment
+     * @return true if the path has the expected segment at the position
+     */
+    public boolean is(int index, String value) {
+        return index < segments.length && segments[index].equals(value);
+    }
+
+    /**
+     * Gets the index targeted by the request
+     *
+     * @return uid of the index for a path under {@code /indexes/{indexUid}}, null otherwise
+     */
+    public String indexUid() {
+        return segments.length > 1 && segments[0].equals("indexes") ? segments[1] : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Request content written straight to the connection instead of being encoded into a String first
+ *
+ * @see StreamingContents
+ */
+public interface StreamingContent {
+    /**
+     * @return the media type of the written content
+     */
+    String getContentType();
+
+    /**
+     * Writes the content to the request body
+     *
+     * @param out output stream of the request body, it must not be closed by this method
+     * @throws IOException if the content could not be read or written
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * @return true if the content can only be written once, such as an InputStream or an Iterator
+     */
+    default boolean isOneShot() {
+        return false;
+    }
+}
@@ -0,0 +1,184 @@
+package com.meilisearch.sdk.http.request;
+
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.DocumentsFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/** Factories of {@link StreamingContent} for document payloads */
+public final class StreamingContents {
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private StreamingContents() {}
+
+    /**
+     * Writes documents as a JSON array, encoding one document at a time
+     *
+     * @param documents documents to write, iterated once per write
+     * @param jsonHandler JsonHandler used to encode each document
+     * @return content of the JSON array
+     */
+    public static StreamingContent jsonArray(Iterable<?> documents, JsonHandler jsonHandler) {
+        return new DocumentsContent(documents, jsonHandler, DocumentsFormat.JSON, false);
+    }
+
+    /**
+     * Writes documents as a JSON array, encoding one document at a time
+     *
+     * @param <T> Type of the documents
+     * @param documents documents to write, the stream is consumed by the write
+     * @param jsonHandler JsonHandler used to encode each document
+     * @return content of the JSON array
+     */
+    public static <T> StreamingContent jsonArray(Stream<T> documents, JsonHandler jsonHandler) {
+        Iterable<T> iterable = documents::iterator;
+        return new DocumentsContent(iterable, jsonHandler, DocumentsFormat.JSON, true);
+    }
+
+    /**
+     * Writes documents as newline delimited JSON, encoding one document at a time
+     *
+     * @param documents documents to write, iterated once per write
+     * @param jsonHandler JsonHandler used to encode each document
+     * @return content of the NDJSON payload
+     */
+    public static StreamingContent ndjson(Iterable<?> documents, JsonHandler jsonHandler) {
+        return new DocumentsContent(documents, jsonHandler, DocumentsFormat.NDJSON, false);
+    }
+
+    /**
+     * Writes already encoded documents as a JSON array
+     *
+     * @param documents UTF-8 encoded JSON documents
+     * @return content of the JSON array
+     */
+    public static StreamingContent encodedJsonArray(List<byte[]> documents) {
+        return new StreamingContent() {
+            @Override
+            public String getContentType() {
+                return DocumentsFormat.JSON.contentType;
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(ARRAY_START);
+                for (int i = 0; i < documents.size(); i++) {
+                    if (i > 0) out.write(ARRAY_SEPARATOR);
+                    out.write(documents.get(i));
+                }
+                out.write(ARRAY_END);
+            }
+        };
+    }
+
+    /**
+     * Copies an already encoded payload from an InputStream
+     *
+     * @param stream payload to copy, it is consumed but not closed by the write
+     * @param format format of the payload
+     * @return content of the payload
+     */
+    public static StreamingContent of(InputStream stream, DocumentsFormat format) {
+        return new StreamingContent() {
+            @Override
+            public String getContentType() {
+                return format.contentType;
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                copy(stream, out);
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Copies an already encoded payload from a file
+     *
+     * @param file payload to copy, it is opened on each write
+     * @param format format of the payload
+     * @return content of the payload
+     */
+    public static StreamingContent of(Path file, DocumentsFormat format) {
+        return new StreamingContent() {
+            @Override
+            public String getContentType() {
+                return format.contentType;
+            }
+
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                try (InputStream stream = Files.newInputStream(file)) {
+                    copy(stream, out);
+                }
+            }
+        };
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static class DocumentsContent implements StreamingContent {
+        private final Iterable<?> documents;
+        private final JsonHandler jsonHandler;
+        private final DocumentsFormat format;
+        private final boolean oneShot;
+
+        private DocumentsContent(
+                Iterable<?> documents,
+                JsonHandler jsonHandler,
+                DocumentsFormat format,
+                boolean oneShot) {
+            this.documents = documents;
+            this.jsonHandler = jsonHandler;
+            this.format = format;
+            this.oneShot = oneShot;
+        }
+
+        @Override
+        public String getContentType() {
+            return format.contentType;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            boolean array = format == DocumentsFormat.JSON;
+            if (array) out.write(ARRAY_START);
+
+            Iterator<?> iterator = documents.iterator();
+            boolean first = true;
+            while (iterator.hasNext()) {
+                if (!first) out.write(array ? ARRAY_SEPARATOR : LINE_SEPARATOR);
+                out.write(jsonHandler.encode(iterator.next()).getBytes(StandardCharsets.UTF_8));
+                first = false;
+            }
+
+            if (array) out.write(ARRAY_END);
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return oneShot;
+        }
+    }
+}
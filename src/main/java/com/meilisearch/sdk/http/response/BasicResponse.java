@@ -2,6 +2,13 @@ package com.meilisearch.sdk.http.response;
 
 import com.meilisearch.sdk.json.JsonHandler;
 
+/**
+ * Decodes the content of a buffered response
+ *
+ * @deprecated responses are decoded from the body stream by {@link com.meilisearch.sdk.HttpClient},
+ *     this class is no longer used by the client and will be removed
+ */
+@Deprecated
 public class BasicResponse {
     private final JsonHandler jsonHandler;
 
@@ -2,12 +2,19 @@ package com.meilisearch.sdk.json;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import com.meilisearch.sdk.exceptions.JsonDecodingException;
 import com.meilisearch.sdk.exceptions.JsonEncodingException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.Key;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 public class GsonJsonHandler implements JsonHandler {
 
@@ -46,11 +53,42 @@ public class GsonJsonHandler implements JsonHandler {
             if (parameters == null || parameters.length == 0) {
                 return gson.fromJson((String) o, targetClass);
             } else {
-                TypeToken<?> parameterized = TypeToken.getParameterized(targetClass, parameters);
+                TypeToken<?> parameterized = parameterized(targetClass, parameters);
                 return gson.fromJson((String) o, parameterized.getType());
             }
         } catch (JsonSyntaxException e) {
             throw new JsonDecodingException(e);
         }
     }
+
+    @Override
+    public <T> T decode(InputStream stream, Class<T> targetClass, Class<?>... parameters)
+            throws MeilisearchException {
+        if (stream == null) {
+            throw new JsonDecodingException("Response to deserialize is null");
+        }
+        if (targetClass == String.class) {
+            return JsonHandler.super.decode(stream, targetClass, parameters);
+        }
+        Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8);
+        try {
+            if (parameters == null || parameters.length == 0) {
+                return gson.fromJson(reader, targetClass);
+            } else {
+                TypeToken<?> parameterized = parameterized(targetClass, parameters);
+                return gson.fromJson(reader, parameterized.getType());
+            }
+        } catch (JsonParseException e) {
+            throw new JsonDecodingException(e);
+        }
+    }
+
+    /**
+     * Builds the type of a generic class, the type arguments being copied to a Type array as Gson
+     * stores array type arguments, such as String[], in the given array
+     */
+    private static TypeToken<?> parameterized(Class<?> targetClass, Class<?>[] parameters) {
+        return TypeToken.getParameterized(
+                targetClass, Arrays.copyOf(parameters, parameters.length, Type[].class));
+    }
 }
@@ -10,6 +10,7 @@ import com.meilisearch.sdk.exceptions.JsonDecodingException;
 import com.meilisearch.sdk.exceptions.JsonEncodingException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import java.io.IOException;
+import java.io.InputStream;
 
 public class JacksonJsonHandler implements JsonHandler {
 
@@ -68,4 +69,27 @@ public class JacksonJsonHandler implements JsonHandler {
             throw new JsonDecodingException(e);
         }
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T decode(InputStream stream, Class<T> targetClass, Class<?>... parameters)
+            throws MeilisearchException {
+        if (stream == null) {
+            throw new JsonDecodingException("Response to deserialize is null");
+        }
+        if (targetClass == String.class) {
+            return JsonHandler.super.decode(stream, targetClass, parameters);
+        }
+        try {
+            if (parameters == null || parameters.length == 0) {
+                return mapper.readValue(stream, targetClass);
+            } else {
+                return mapper.readValue(
+                        stream,
+                        mapper.getTypeFactory().constructParametricType(targetClass, parameters));
+            }
+        } catch (IOException e) {
+            throw new JsonDecodingException(e);
+        }
+    }
 }
@@ -1,6 +1,11 @@
 package com.meilisearch.sdk.json;
 
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 public interface JsonHandler {
     /**
@@ -21,4 +26,38 @@ public interface JsonHandler {
      */
     <T> T decode(Object o, Class<T> targetClass, Class<?>... parameters)
             throws MeilisearchException;
+
+    /**
+     * Deserializes a UTF-8 encoded JSON stream without buffering it into a String first. The
+     * default implementation reads the whole stream and delegates to {@link #decode(Object, Class,
+     * Class[])}; implementations should override it to parse the stream directly.
+     *
+     * @param stream UTF-8 encoded JSON to deserialize, it is not closed by this method
+     * @param targetClass return type, String returns the raw content of the stream
+     * @param parameters in case the return type is a generic class, this is a list of types to use
+     *     with that generic.
+     * @param <T> Abstract type to deserialize
+     * @return the deserialized object
+     * @throws MeilisearchException wrapped exceptions of the used json library
+     */
+    default <T> T decode(InputStream stream, Class<T> targetClass, Class<?>... parameters)
+            throws MeilisearchException {
+        if (stream == null) {
+            throw new JsonDecodingException("Response to deserialize is null");
+        }
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return decode(
+                    (Object) content.toString(StandardCharsets.UTF_8.name()),
+                    targetClass,
+                    parameters);
+        } catch (IOException e) {
+            throw new JsonDecodingException(e);
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package com.meilisearch.sdk.metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * Metrics listener keeping counters and histograms of each route in memory
+ *
+ * <p>Latencies, encoding and decoding times are recorded in nanoseconds, processing times in
+ * milliseconds as reported by Meilisearch. Comparing the latency with the processing time of a
+ * route tells the time spent on the network from the time spent by Meilisearch, and the decoding
+ * time the time spent by the client.
+ */
+public class InMemoryMetrics implements MetricsListener {
+    private final Map<Route, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequest(RequestEvent event) {
+        RouteMetrics metrics = metrics(event.getRoute());
+        metrics.requests.increment();
+        if (event.isFailed()) metrics.errors.increment();
+        if (event.getRequestBytes() > 0) metrics.requestBytes.add(event.getRequestBytes());
+        if (event.getResponseBytes() > 0) metrics.responseBytes.add(event.getResponseBytes());
+        metrics.latency.record(event.getLatencyNanos());
+    }
+
+    @Override
+    public void onEncode(Route route, long nanos, long length) {
+        metrics(route).encoding.record(nanos);
+    }
+
+    @Override
+    public void onDecode(Route route, long nanos, long bytes) {
+        metrics(route).decoding.record(nanos);
+    }
+
+    @Override
+    public void onRetry(Route route, int attempt) {
+        metrics(route).retries.increment();
+    }
+
+    @Override
+    public void onProcessingTime(Route route, long processingTimeMs) {
+        metrics(route).processing.record(processingTimeMs);
+    }
+
+    /**
+     * Copies the metrics recorded so far
+     *
+     * @return metrics of each route, sorted by operation and index
+     */
+    public Map<Route, RouteSnapshot> snapshot() {
+        Map<Route, RouteSnapshot> snapshot = new LinkedHashMap<>();
+        routes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey((a, b) -> a.toString().compareTo(b.toString())))
+                .forEach(entry -> snapshot.put(entry.getKey(), entry.getValue().snapshot()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /** Discards the metrics recorded so far */
+    public void reset() {
+        routes.clear();
+    }
+
+    /**
+     * Formats the metrics recorded so far, one line per route
+     *
+     * @return latency percentiles and counters of each route
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<Route, RouteSnapshot> route : snapshot().entrySet()) {
+            out.append(route.getKey()).append(": ").append(route.getValue()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private RouteMetrics metrics(Route route) {
+        return routes.computeIfAbsent(route, key -> new RouteMetrics());
+    }
+
+    private static final class RouteMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder requestBytes = new LongAdder();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram encoding = new LatencyHistogram();
+        private final LatencyHistogram decoding = new LatencyHistogram();
+        private final LatencyHistogram processing = new LatencyHistogram();
+
+        private RouteSnapshot snapshot() {
+            return new RouteSnapshot(this);
+        }
+    }
+
+    /** Metrics of a route at a point in time */
+    @Getter
+    public static final class RouteSnapshot {
+        private final long requests;
+        private final long errors;
+        private final long retries;
+        private final long requestBytes;
+        private final long responseBytes;
+        private final LatencyHistogram.Snapshot latency;
+        private final LatencyHistogram.Snapshot encoding;
+        private final LatencyHistogram.Snapshot decoding;
+        private final LatencyHistogram.Snapshot processing;
+
+        private RouteSnapshot(RouteMetrics metrics) {
+            this.requests = metrics.requests.sum();
+            this.errors = metrics.errors.sum();
+            this.retries = metrics.retries.sum();
+            this.requestBytes = metrics.requestBytes.sum();
+            this.responseBytes = metrics.responseBytes.sum();
+            this.latency = metrics.latency.snapshot();
+            this.encoding = metrics.encoding.snapshot();
+            this.decoding = metrics.decoding.snapshot();
+            this.processing = metrics.processing.snapshot();
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "requests=%d errors=%d retries=%d latency p50=%.2fms p99=%.2fms max=%.2fms"
+                            + " decoding p99=%.2fms processing p99=%dms",
+                    requests,
+                    errors,
+                    retries,
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getMax()),
+                    millis(decoding.getValueAtPercentile(99)),
+                    processing.getValueAtPercentile(99));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
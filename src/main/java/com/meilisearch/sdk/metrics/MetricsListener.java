@@ -0,0 +1,55 @@
+package com.meilisearch.sdk.metrics;
+
+/**
+ * Receives the metrics of the requests sent by a client
+ *
+ * <p>Listeners are called synchronously from the threads sending the requests and decoding the
+ * responses, including OkHttp callback threads: they must be thread-safe and return quickly. Every
+ * method does nothing by default.
+ *
+ * <p>Enable it with {@link com.meilisearch.sdk.Config#setMetricsListener(MetricsListener)}, or use
+ * the built-in {@link InMemoryMetrics}.
+ */
+public interface MetricsListener {
+    /**
+     * Called after each attempt of a request, once the response headers are received or the
+     * request failed
+     *
+     * @param event attempt of the request
+     */
+    default void onRequest(RequestEvent event) {}
+
+    /**
+     * Called after encoding the JSON body of a request
+     *
+     * @param route label of the request
+     * @param nanos encoding time
+     * @param length number of characters of the encoded JSON
+     */
+    default void onEncode(Route route, long nanos, long length) {}
+
+    /**
+     * Called after reading and decoding the body of a response
+     *
+     * @param route label of the request
+     * @param nanos time spent reading and decoding the body
+     * @param bytes number of bytes of the body
+     */
+    default void onDecode(Route route, long nanos, long bytes) {}
+
+    /**
+     * Called before retrying a request
+     *
+     * @param route label of the request
+     * @param attempt number of the attempt that failed
+     */
+    default void onRetry(Route route, int attempt) {}
+
+    /**
+     * Called with the processing time reported by Meilisearch in search responses
+     *
+     * @param route label of the request
+     * @param processingTimeMs time Meilisearch spent processing the search
+     */
+    default void onProcessingTime(Route route, long processingTimeMs) {}
+}
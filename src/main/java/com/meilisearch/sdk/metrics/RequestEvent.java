@@ -0,0 +1,53 @@
+package com.meilisearch.sdk.metrics;
+
+import lombok.Getter;
+
+/**
+ * Attempt of a request sent to Meilisearch
+ *
+ * <p>The latency runs from sending the request to receiving the headers of the response, it covers
+ * the network and the work of Meilisearch. Reading and decoding the body are reported separately
+ * with {@link MetricsListener#onDecode(Route, long, long)}, as bodies are decoded while streamed.
+ */
+@Getter
+public final class RequestEvent {
+    private final Route route;
+
+    /** Attempt number of the request, 1 for the first attempt */
+    private final int attempt;
+
+    /** Status code of the response, 0 if no response was received */
+    private final int statusCode;
+
+    private final long latencyNanos;
+
+    /** Number of bytes of the request body as sent, -1 if unknown such as for streamed bodies */
+    private final long requestBytes;
+
+    /** Number of bytes of the response body after decompression, -1 if no response was received */
+    private final long responseBytes;
+
+    public RequestEvent(
+            Route route,
+            int attempt,
+            int statusCode,
+            long latencyNanos,
+            long requestBytes,
+            long responseBytes) {
+        this.route = route;
+        this.attempt = attempt;
+        this.statusCode = statusCode;
+        this.latencyNanos = latencyNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * Checks whether the request failed, without response or with an error status code
+     *
+     * @return true if the request failed
+     */
+    public boolean isFailed() {
+        return statusCode == 0 || statusCode >= 400;
+    }
+}
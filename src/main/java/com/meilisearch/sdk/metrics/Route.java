@@ -0,0 +1,66 @@
+package com.meilisearch.sdk.metrics;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import com.meilisearch.sdk.http.request.PathSegments;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Label of a request: its operation, the method and path template of the route, and the index it
+ * targets
+ *
+ * <p>Identifiers are replaced in the path template, so that every search on an index is recorded
+ * under {@code POST /indexes/{indexUid}/search} and the index uid.
+ */
+@Getter
+@EqualsAndHashCode
+public final class Route {
+    private final String operation;
+
+    /** Uid of the index targeted by the request, null for requests outside of an index */
+    private final String indexUid;
+
+    private Route(String operation, String indexUid) {
+        this.operation = operation;
+        this.indexUid = indexUid;
+    }
+
+    /**
+     * Gets the label of a request
+     *
+     * @param method HTTP method of the request
+     * @param path path of the request, with its query string
+     * @return label of the request
+     */
+    public static Route of(HttpMethod method, String path) {
+        PathSegments segments = PathSegments.of(path);
+        StringBuilder operation = new StringBuilder(method.name()).append(' ');
+        String indexUid = segments.indexUid();
+        for (int i = 0; i < segments.size(); i++) {
+            String parent = i == 0 ? "" : segments.get(i - 1);
+            String segment = segments.get(i);
+            if (i == 1 && indexUid != null) {
+                segment = "{indexUid}";
+            } else if (parent.equals("documents")
+                    && !segment.equals("fetch")
+                    && !segment.equals("delete")
+                    && !segment.equals("delete-batch")) {
+                segment = "{documentId}";
+            } else if (parent.equals("tasks") && !segment.equals("cancel")) {
+                segment = "{taskUid}";
+            } else if (parent.equals("batches")) {
+                segment = "{batchUid}";
+            } else if (parent.equals("keys")) {
+                segment = "{key}";
+            }
+            operation.append('/').append(segment);
+        }
+        if (segments.size() == 0) operation.append('/');
+        return new Route(operation.toString(), indexUid);
+    }
+
+    @Override
+    public String toString() {
+        return indexUid == null ? operation : operation + " [" + indexUid + "]";
+    }
+}
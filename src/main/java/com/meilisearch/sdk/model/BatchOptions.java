@@ -0,0 +1,36 @@
+package com.meilisearch.sdk.model;
+
+import java.util.concurrent.Executor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Options of the batched document ingestion, a batch is sent as soon as it reaches either limit
+ *
+ * <p>A single document larger than {@code maxBytes} is sent alone in its own batch.
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class BatchOptions {
+    /** Maximum number of documents in a batch, 0 for no limit */
+    private int maxDocuments = 1000;
+
+    /** Maximum size in bytes of the JSON payload of a batch, 0 for no limit */
+    private long maxBytes = 10 * 1024 * 1024L;
+
+    private String primaryKey;
+
+    /**
+     * Maximum number of chunks of {@code maxDocuments} documents being encoded or uploaded
+     * concurrently by the parallel ingestion, reading the source blocks once it is reached. Chunks
+     * in flight may be enqueued out of order, 1 keeps the order of the documents.
+     */
+    private int maxInFlight = 4;
+
+    /** Executor encoding documents in the parallel ingestion, the common pool when null */
+    private Executor serializationExecutor;
+
+    public BatchOptions() {}
+}
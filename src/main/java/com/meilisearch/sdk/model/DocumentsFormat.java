@@ -0,0 +1,25 @@
+package com.meilisearch.sdk.model;
+
+/**
+ * Payload formats accepted by the add or update documents routes
+ *
+ * @see <a
+ *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+ *     specification</a>
+ */
+public enum DocumentsFormat {
+    JSON("application/json"),
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    public final String contentType;
+
+    private DocumentsFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String toString() {
+        return this.contentType;
+    }
+}
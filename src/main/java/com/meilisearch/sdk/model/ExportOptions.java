@@ -0,0 +1,79 @@
+package com.meilisearch.sdk.model;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Options of the partitioned export of the documents of an index to NDJSON files
+ *
+ * <p>The documents are split into partitions fetched concurrently: {@code filters} when set, one
+ * partition per filter, otherwise {@code partitions} ranges of offsets of equal size. Meilisearch
+ * reads all documents before the offset of a request, filter partitions on a filterable attribute
+ * therefore scale better on large indexes than offset partitions.
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class ExportOptions {
+    /** Directory the NDJSON files are written to, created if missing */
+    private Path directory;
+
+    /** Number of offset ranges the documents are split into, when no filters are set */
+    private int partitions = 4;
+
+    /** Filters of the partitions, which should not overlap, one partition per filter */
+    private List<String> filters;
+
+    /** Maximum number of partitions fetched at the same time */
+    private int parallelism = 4;
+
+    /** Number of documents fetched per request */
+    private int pageSize = 1000;
+
+    /** Attributes of the exported documents, all when null */
+    private String[] fields;
+
+    /** Whether the files are compressed with gzip, adding a {@code .gz} extension */
+    private boolean gzip;
+
+    /** Whether each partition is written to its own file rather than all to a single file */
+    private boolean filePerPartition = true;
+
+    /**
+     * Listener notified after each page is written, called concurrently from the export workers
+     */
+    private Consumer<ExportReport> progressListener;
+
+    public ExportOptions() {}
+
+    /**
+     * Creates the filters of partitions covering the values of a numeric attribute
+     *
+     * <p>For bounds {@code b1 < b2}, the partitions are {@code attribute < b1}, {@code attribute >=
+     * b1 AND attribute < b2} and {@code attribute >= b2}. Documents without the attribute are not
+     * covered by any partition.
+     *
+     * @param attribute Filterable attribute
+     * @param bounds Ascending bounds between the partitions
+     * @return filters of the partitions
+     * @throws IllegalArgumentException if no bound is given
+     */
+    public static List<String> rangeFilters(String attribute, Number... bounds) {
+        if (bounds.length == 0) {
+            throw new IllegalArgumentException("At least one bound is required");
+        }
+        List<String> filters = new ArrayList<>(bounds.length + 1);
+        filters.add(attribute + " < " + bounds[0]);
+        for (int i = 1; i < bounds.length; i++) {
+            String range = "%s >= %s AND %s < %s";
+            filters.add(String.format(range, attribute, bounds[i - 1], attribute, bounds[i]));
+        }
+        filters.add(attribute + " >= " + bounds[bounds.length - 1]);
+        return filters;
+    }
+}
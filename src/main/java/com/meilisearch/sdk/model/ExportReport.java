@@ -0,0 +1,56 @@
+package com.meilisearch.sdk.model;
+
+import java.nio.file.Path;
+import java.util.List;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Progress of an export of documents to NDJSON files, and its outcome once completed */
+@Getter
+@ToString
+public class ExportReport {
+    /** Files the documents are written to */
+    private final List<Path> files;
+
+    private final int partitions;
+    private final int completedPartitions;
+    private final long documents;
+
+    /** Number of bytes of NDJSON written, before compression */
+    private final long bytes;
+
+    private final long elapsedMs;
+
+    public ExportReport(
+            List<Path> files,
+            int partitions,
+            int completedPartitions,
+            long documents,
+            long bytes,
+            long elapsedMs) {
+        this.files = files;
+        this.partitions = partitions;
+        this.completedPartitions = completedPartitions;
+        this.documents = documents;
+        this.bytes = bytes;
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * Gets the throughput of the export
+     *
+     * @return documents exported per second since the start
+     */
+    public double getDocumentsPerSecond() {
+        return elapsedMs == 0 ? 0 : documents * 1000.0 / elapsedMs;
+    }
+
+    /**
+     * Gets the throughput of the export
+     *
+     * @return bytes of NDJSON written per second since the start
+     */
+    public double getBytesPerSecond() {
+        return elapsedMs == 0 ? 0 : bytes * 1000.0 / elapsedMs;
+    }
+}
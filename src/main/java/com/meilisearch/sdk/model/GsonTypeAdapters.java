@@ -0,0 +1,491 @@
+package com.meilisearch.sdk.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Streaming Gson adapters of the response types decoded on every search, task poll, listing and
+ * settings read, bound with {@link com.google.gson.annotations.JsonAdapter} so that Gson does not
+ * bind them reflectively. The nested settings objects, such as the typo tolerance, are still bound
+ * reflectively.
+ *
+ * <p>Like the reflective binding, unknown fields are skipped, null values leave primitive fields to
+ * their default and null fields are omitted when writing.
+ */
+final class GsonTypeAdapters {
+    private static final TypeToken<ArrayList<HashMap<String, Object>>> HITS =
+            new TypeToken<ArrayList<HashMap<String, Object>>>() {};
+    private static final TypeToken<HashMap<String, FacetRating>> FACET_STATS =
+            new TypeToken<HashMap<String, FacetRating>>() {};
+    private static final TypeToken<Map<String, Object>> RANKING_SCORE_DETAILS =
+            new TypeToken<Map<String, Object>>() {};
+    private static final TypeToken<Map<String, List<MatchPosition>>> MATCHES_POSITION =
+            new TypeToken<Map<String, List<MatchPosition>>>() {};
+    private static final TypeToken<HashMap<String, String[]>> SYNONYMS =
+            new TypeToken<HashMap<String, String[]>>() {};
+    private static final TypeToken<HashMap<String, Embedders>> EMBEDDERS =
+            new TypeToken<HashMap<String, Embedders>>() {};
+
+    private GsonTypeAdapters() {}
+
+    static final class TaskInfoFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            TypeAdapter<Date> date = gson.getAdapter(Date.class);
+            ObjectAdapter<TaskInfo> adapter = new ObjectAdapter<>(TaskInfo::new);
+            adapter.field(
+                    "status",
+                    gson.getAdapter(TaskStatus.class),
+                    info -> info.status,
+                    (info, v) -> info.status = v);
+            adapter.intField("taskUid", info -> info.taskUid, (info, v) -> info.taskUid = v);
+            adapter.stringField("indexUid", info -> info.indexUid, (info, v) -> info.indexUid = v);
+            adapter.stringField("type", info -> info.type, (info, v) -> info.type = v);
+            adapter.field(
+                    "enqueuedAt", date, info -> info.enqueuedAt, (info, v) -> info.enqueuedAt = v);
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    static final class TaskFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            TypeAdapter<Date> date = gson.getAdapter(Date.class);
+            ObjectAdapter<Task> adapter = new ObjectAdapter<>(Task::new);
+            adapter.field(
+                    "status",
+                    gson.getAdapter(TaskStatus.class),
+                    task -> task.status,
+                    (task, v) -> task.status = v);
+            adapter.intField("uid", task -> task.uid, (task, v) -> task.uid = v);
+            adapter.stringField("indexUid", task -> task.indexUid, (task, v) -> task.indexUid = v);
+            adapter.stringField("type", task -> task.type, (task, v) -> task.type = v);
+            adapter.stringField("duration", task -> task.duration, (task, v) -> task.duration = v);
+            adapter.field(
+                    "enqueuedAt", date, task -> task.enqueuedAt, (task, v) -> task.enqueuedAt = v);
+            adapter.field(
+                    "startedAt", date, task -> task.startedAt, (task, v) -> task.startedAt = v);
+            adapter.field(
+                    "finishedAt", date, task -> task.finishedAt, (task, v) -> task.finishedAt = v);
+            adapter.field(
+                    "error",
+                    gson.getAdapter(TaskError.class),
+                    task -> task.error,
+                    (task, v) -> task.error = v);
+            adapter.field(
+                    "details",
+                    gson.getAdapter(TaskDetails.class),
+                    task -> task.details,
+                    (task, v) -> task.details = v);
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    static final class SearchResultFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            ObjectAdapter<SearchResult> adapter = new ObjectAdapter<>(SearchResult::new);
+            searchFields(
+                    gson,
+                    adapter,
+                    (result, v) -> result.hits = v,
+                    (result, v) -> result.facetDistribution = v,
+                    (result, v) -> result.facetStats = v,
+                    (result, v) -> result.processingTimeMs = v,
+                    (result, v) -> result.query = v);
+            adapter.intField("offset", result -> result.offset, (result, v) -> result.offset = v);
+            adapter.intField("limit", result -> result.limit, (result, v) -> result.limit = v);
+            adapter.intField(
+                    "estimatedTotalHits",
+                    result -> result.estimatedTotalHits,
+                    (result, v) -> result.estimatedTotalHits = v);
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    static final class SearchResultPaginatedFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            ObjectAdapter<SearchResultPaginated> adapter =
+                    new ObjectAdapter<>(SearchResultPaginated::new);
+            adapter.intField(
+                    "totalHits", result -> result.totalHits, (result, v) -> result.totalHits = v);
+            adapter.intField(
+                    "hitsPerPage",
+                    result -> result.hitsPerPage,
+                    (result, v) -> result.hitsPerPage = v);
+            adapter.intField("page", result -> result.page, (result, v) -> result.page = v);
+            adapter.intField(
+                    "totalPages",
+                    result -> result.totalPages,
+                    (result, v) -> result.totalPages = v);
+            searchFields(
+                    gson,
+                    adapter,
+                    (result, v) -> result.hits = v,
+                    (result, v) -> result.facetDistribution = v,
+                    (result, v) -> result.facetStats = v,
+                    (result, v) -> result.processingTimeMs = v,
+                    (result, v) -> result.query = v);
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    /**
+     * Adapter of {@link Results}, decoding the page of results into the type argument of the
+     * requested type
+     */
+    static final class ResultsFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Type elementType =
+                    type.getType() instanceof ParameterizedType
+                            ? ((ParameterizedType) type.getType()).getActualTypeArguments()[0]
+                            : Object.class;
+            TypeAdapter<Object[]> results =
+                    (TypeAdapter<Object[]>) gson.getAdapter(TypeToken.getArray(elementType));
+            ObjectAdapter<Results<Object>> adapter = new ObjectAdapter<>(Results::new);
+            adapter.field("results", results, page -> page.results, (page, v) -> page.results = v);
+            adapter.intField("offset", page -> page.offset, (page, v) -> page.offset = v);
+            adapter.intField("limit", page -> page.limit, (page, v) -> page.limit = v);
+            adapter.intField("total", page -> page.total, (page, v) -> page.total = v);
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    static final class SettingsFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            TypeAdapter<String[]> strings = gson.getAdapter(String[].class);
+            ObjectAdapter<Settings> adapter = new ObjectAdapter<>(Settings::new);
+            adapter.field(
+                    "synonyms",
+                    gson.getAdapter(SYNONYMS),
+                    settings -> settings.synonyms,
+                    (settings, v) -> settings.synonyms = v);
+            adapter.field(
+                    "stopWords",
+                    strings,
+                    settings -> settings.stopWords,
+                    (settings, v) -> settings.stopWords = v);
+            adapter.field(
+                    "rankingRules",
+                    strings,
+                    settings -> settings.rankingRules,
+                    (settings, v) -> settings.rankingRules = v);
+            adapter.field(
+                    "filterableAttributes",
+                    strings,
+                    settings -> settings.filterableAttributes,
+                    (settings, v) -> settings.filterableAttributes = v);
+            adapter.stringField(
+                    "distinctAttribute",
+                    settings -> settings.distinctAttribute,
+                    (settings, v) -> settings.distinctAttribute = v);
+            adapter.field(
+                    "searchableAttributes",
+                    strings,
+                    settings -> settings.searchableAttributes,
+                    (settings, v) -> settings.searchableAttributes = v);
+            adapter.field(
+                    "displayedAttributes",
+                    strings,
+                    settings -> settings.displayedAttributes,
+                    (settings, v) -> settings.displayedAttributes = v);
+            adapter.field(
+                    "sortableAttributes",
+                    strings,
+                    settings -> settings.sortableAttributes,
+                    (settings, v) -> settings.sortableAttributes = v);
+            adapter.field(
+                    "typoTolerance",
+                    gson.getAdapter(TypoTolerance.class),
+                    settings -> settings.typoTolerance,
+                    (settings, v) -> settings.typoTolerance = v);
+            adapter.field(
+                    "pagination",
+                    gson.getAdapter(Pagination.class),
+                    settings -> settings.pagination,
+                    (settings, v) -> settings.pagination = v);
+            adapter.field(
+                    "faceting",
+                    gson.getAdapter(Faceting.class),
+                    settings -> settings.faceting,
+                    (settings, v) -> settings.faceting = v);
+            adapter.field(
+                    "dictionary",
+                    strings,
+                    settings -> settings.dictionary,
+                    (settings, v) -> settings.dictionary = v);
+            adapter.stringField(
+                    "proximityPrecision",
+                    settings -> settings.proximityPrecision,
+                    (settings, v) -> settings.proximityPrecision = v);
+            adapter.field(
+                    "searchCutoffMs",
+                    gson.getAdapter(Integer.class),
+                    settings -> settings.searchCutoffMs,
+                    (settings, v) -> settings.searchCutoffMs = v);
+            adapter.field(
+                    "separatorTokens",
+                    strings,
+                    settings -> settings.separatorTokens,
+                    (settings, v) -> settings.separatorTokens = v);
+            adapter.field(
+                    "nonSeparatorTokens",
+                    strings,
+                    settings -> settings.nonSeparatorTokens,
+                    (settings, v) -> settings.nonSeparatorTokens = v);
+            adapter.field(
+                    "embedders",
+                    gson.getAdapter(EMBEDDERS),
+                    settings -> settings.embedders,
+                    (settings, v) -> settings.embedders = v);
+            adapter.field(
+                    "localizedAttributes",
+                    gson.getAdapter(LocalizedAttribute[].class),
+                    settings -> settings.localizedAttributes,
+                    (settings, v) -> settings.localizedAttributes = v);
+            return (TypeAdapter<T>) adapter.nullSafe();
+        }
+    }
+
+    /**
+     * Binds the fields shared by every {@link Searchable} result, read through its getters and
+     * assigned with the setters of the result type
+     */
+    private static <T extends Searchable> void searchFields(
+            Gson gson,
+            ObjectAdapter<T> adapter,
+            BiConsumer<T, ArrayList<HashMap<String, Object>>> hits,
+            BiConsumer<T, Object> facetDistribution,
+            BiConsumer<T, HashMap<String, FacetRating>> facetStats,
+            ObjIntConsumer<T> processingTimeMs,
+            BiConsumer<T, String> query) {
+        adapter.field("hits", gson.getAdapter(HITS), Searchable::getHits, hits);
+        adapter.field(
+                "facetDistribution",
+                gson.getAdapter(Object.class),
+                Searchable::getFacetDistribution,
+                facetDistribution);
+        adapter.field(
+                "facetStats", gson.getAdapter(FACET_STATS), Searchable::getFacetStats, facetStats);
+        adapter.intField("processingTimeMs", Searchable::getProcessingTimeMs, processingTimeMs);
+        adapter.stringField("query", Searchable::getQuery, query);
+    }
+
+    /**
+     * Adapter of {@link SearchHit}, decoding the fields starting with an underscore as sidecars and
+     * the remaining fields as the document
+     */
+    static final class SearchHitFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Type documentType =
+                    type.getType() instanceof ParameterizedType
+                            ? ((ParameterizedType) type.getType()).getActualTypeArguments()[0]
+                            : Object.class;
+            TypeAdapter<Object> document =
+                    (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(documentType));
+            TypeAdapter<JsonElement> element = gson.getAdapter(JsonElement.class);
+            TypeAdapter<Double> score = gson.getAdapter(Double.class);
+            TypeAdapter<Map<String, Object>> details = gson.getAdapter(RANKING_SCORE_DETAILS);
+            TypeAdapter<Map<String, List<MatchPosition>>> matches =
+                    gson.getAdapter(MATCHES_POSITION);
+            return (TypeAdapter<T>)
+                    new TypeAdapter<SearchHit<Object>>() {
+                        @Override
+                        public SearchHit<Object> read(JsonReader in) throws IOException {
+                            SearchHit<Object> hit = new SearchHit<>();
+                            JsonObject fields = new JsonObject();
+                            in.beginObject();
+                            while (in.hasNext()) {
+                                String name = in.nextName();
+                                switch (name) {
+                                    case "_formatted":
+                                        hit.formatted = document.read(in);
+                                        break;
+                                    case "_rankingScore":
+                                        hit.rankingScore = score.read(in);
+                                        break;
+                                    case "_rankingScoreDetails":
+                                        hit.rankingScoreDetails = details.read(in);
+                                        break;
+                                    case "_matchesPosition":
+                                        hit.matchesPosition = matches.read(in);
+                                        break;
+                                    default:
+                                        fields.add(name, element.read(in));
+                                        break;
+                                }
+                            }
+                            in.endObject();
+                            hit.document = document.fromJsonTree(fields);
+                            return hit;
+                        }
+
+                        @Override
+                        public void write(JsonWriter out, SearchHit<Object> hit)
+                                throws IOException {
+                            JsonElement tree = document.toJsonTree(hit.document);
+                            JsonObject fields =
+                                    tree.isJsonObject() ? tree.getAsJsonObject() : new JsonObject();
+                            if (hit.formatted != null) {
+                                fields.add("_formatted", document.toJsonTree(hit.formatted));
+                            }
+                            if (hit.rankingScore != null) {
+                                fields.add("_rankingScore", score.toJsonTree(hit.rankingScore));
+                            }
+                            if (hit.rankingScoreDetails != null) {
+                                fields.add(
+                                        "_rankingScoreDetails",
+                                        details.toJsonTree(hit.rankingScoreDetails));
+                            }
+                            if (hit.matchesPosition != null) {
+                                fields.add(
+                                        "_matchesPosition",
+                                        matches.toJsonTree(hit.matchesPosition));
+                            }
+                            element.write(out, fields);
+                        }
+                    }.nullSafe();
+        }
+    }
+
+    /**
+     * Adapter of a JSON object whose fields are bound to the fields of a class, written in the
+     * order they are bound
+     */
+    private static final class ObjectAdapter<T> extends TypeAdapter<T> {
+        private final Supplier<T> factory;
+        private final Map<String, FieldAdapter<T>> fields = new LinkedHashMap<>();
+
+        private ObjectAdapter(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        private <V> void field(
+                String name,
+                TypeAdapter<V> adapter,
+                Function<T, V> getter,
+                BiConsumer<T, V> setter) {
+            fields.put(
+                    name,
+                    new FieldAdapter<T>() {
+                        @Override
+                        public void read(JsonReader in, T value) throws IOException {
+                            setter.accept(value, adapter.read(in));
+                        }
+
+                        @Override
+                        public void write(JsonWriter out, T value) throws IOException {
+                            V field = getter.apply(value);
+                            if (field != null) adapter.write(out.name(name), field);
+                        }
+                    });
+        }
+
+        private void stringField(
+                String name, Function<T, String> getter, BiConsumer<T, String> setter) {
+            fields.put(
+                    name,
+                    new FieldAdapter<T>() {
+                        @Override
+                        public void read(JsonReader in, T value) throws IOException {
+                            if (in.peek() == JsonToken.NULL) {
+                                in.nextNull();
+                                setter.accept(value, null);
+                            } else {
+                                setter.accept(value, in.nextString());
+                            }
+                        }
+
+                        @Override
+                        public void write(JsonWriter out, T value) throws IOException {
+                            String field = getter.apply(value);
+                            if (field != null) out.name(name).value(field);
+                        }
+                    });
+        }
+
+        private void intField(String name, ToIntFunction<T> getter, ObjIntConsumer<T> setter) {
+            fields.put(
+                    name,
+                    new FieldAdapter<T>() {
+                        @Override
+                        public void read(JsonReader in, T value) throws IOException {
+                            if (in.peek() == JsonToken.NULL) {
+                                in.nextNull();
+                            } else {
+                                setter.accept(value, in.nextInt());
+                            }
+                        }
+
+                        @Override
+                        public void write(JsonWriter out, T value) throws IOException {
+                            out.name(name).value(getter.applyAsInt(value));
+                        }
+                    });
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            T value = factory.get();
+            in.beginObject();
+            while (in.hasNext()) {
+                FieldAdapter<T> field = fields.get(in.nextName());
+                if (field != null) {
+                    field.read(in, value);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            out.beginObject();
+            for (FieldAdapter<T> field : fields.values()) {
+                field.write(out, value);
+            }
+            out.endObject();
+        }
+    }
+
+    /** Reads and writes one field of a JSON object */
+    private interface FieldAdapter<T> {
+        void read(JsonReader in, T value) throws IOException;
+
+        void write(JsonWriter out, T value) throws IOException;
+    }
+}
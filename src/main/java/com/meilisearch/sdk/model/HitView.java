@@ -0,0 +1,208 @@
+package com.meilisearch.sdk.model;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only view of a search hit over the raw bytes of the response
+ *
+ * <p>Nothing is decoded until a field is read: the fields of the hit are located on first access,
+ * and only the value of the field read is decoded. Numbers are read as primitives, without boxing.
+ * A view shares the bytes of the response, which must not be modified.
+ */
+public final class HitView {
+    private final byte[] json;
+    private final int start;
+    private final int end;
+    private int[] fields;
+
+    HitView(byte[] json, int start, int end) {
+        this(json, start, end, null);
+    }
+
+    HitView(byte[] json, int start, int end, int[] fields) {
+        this.json = json;
+        this.start = start;
+        this.end = end;
+        this.fields = fields;
+    }
+
+    /**
+     * Checks whether the hit has a field, even null
+     *
+     * @param field Name of the field
+     * @return true if the hit has the field
+     */
+    public boolean has(String field) {
+        return find(field) >= 0;
+    }
+
+    /**
+     * Checks whether a field of the hit is absent or null
+     *
+     * @param field Name of the field
+     * @return true if the field is absent or null
+     */
+    public boolean isNull(String field) {
+        int f = find(field);
+        return f < 0 || JsonBytes.isNull(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets a string field of the hit
+     *
+     * @param field Name of the field
+     * @return value of the field, or null if absent or null
+     * @throws JsonDecodingException if the field is not a string
+     */
+    public String getString(String field) {
+        int f = find(field);
+        if (f < 0 || JsonBytes.isNull(json, valueStart(f), valueEnd(f))) return null;
+        if (json[valueStart(f)] != '"') throw unexpected(field, "a string");
+        return JsonBytes.decodeString(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets an integer field of the hit
+     *
+     * @param field Name of the field
+     * @return value of the field
+     * @throws JsonDecodingException if the field is absent, null or not an integer
+     */
+    public long getLong(String field) {
+        int f = number(field);
+        if (f < 0) throw unexpected(field, "an integer");
+        return JsonBytes.parseLong(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets an integer field of the hit
+     *
+     * @param field Name of the field
+     * @param defaultValue Value returned if the field is absent or null
+     * @return value of the field
+     * @throws JsonDecodingException if the field is not an integer
+     */
+    public long getLong(String field, long defaultValue) {
+        int f = number(field);
+        return f < 0 ? defaultValue : JsonBytes.parseLong(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets a number field of the hit
+     *
+     * @param field Name of the field
+     * @return value of the field
+     * @throws JsonDecodingException if the field is absent, null or not a number
+     */
+    public double getDouble(String field) {
+        int f = number(field);
+        if (f < 0) throw unexpected(field, "a number");
+        return JsonBytes.parseDouble(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets a number field of the hit
+     *
+     * @param field Name of the field
+     * @param defaultValue Value returned if the field is absent or null
+     * @return value of the field
+     * @throws JsonDecodingException if the field is not a number
+     */
+    public double getDouble(String field, double defaultValue) {
+        int f = number(field);
+        return f < 0 ? defaultValue : JsonBytes.parseDouble(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets a boolean field of the hit
+     *
+     * @param field Name of the field
+     * @param defaultValue Value returned if the field is absent or null
+     * @return value of the field
+     * @throws JsonDecodingException if the field is not a boolean
+     */
+    public boolean getBoolean(String field, boolean defaultValue) {
+        int f = find(field);
+        if (f < 0) return defaultValue;
+        int from = valueStart(f);
+        switch (valueEnd(f) - from) {
+            case 4:
+                if (JsonBytes.isNull(json, from, valueEnd(f))) return defaultValue;
+                if (json[from] == 't') return true;
+                break;
+            case 5:
+                if (json[from] == 'f') return false;
+                break;
+            default:
+                break;
+        }
+        throw unexpected(field, "a boolean");
+    }
+
+    /**
+     * Gets an object field of the hit as a view, such as {@code _formatted}
+     *
+     * @param field Name of the field
+     * @return view of the field, or null if absent or null
+     * @throws JsonDecodingException if the field is not an object
+     */
+    public HitView getObject(String field) {
+        int f = find(field);
+        if (f < 0 || JsonBytes.isNull(json, valueStart(f), valueEnd(f))) return null;
+        if (json[valueStart(f)] != '{') throw unexpected(field, "an object");
+        return new HitView(json, valueStart(f), valueEnd(f));
+    }
+
+    /**
+     * Gets the JSON of a field of the hit, as sent by Meilisearch
+     *
+     * @param field Name of the field
+     * @return JSON of the field, or null if absent
+     */
+    public String getRaw(String field) {
+        int f = find(field);
+        if (f < 0) return null;
+        return new String(
+                json, valueStart(f), valueEnd(f) - valueStart(f), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the JSON of the hit, as sent by Meilisearch
+     *
+     * @return JSON of the hit
+     */
+    public String getRaw() {
+        return new String(json, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return getRaw();
+    }
+
+    private int number(String field) {
+        int f = find(field);
+        if (f < 0 || JsonBytes.isNull(json, valueStart(f), valueEnd(f))) return -1;
+        byte first = json[valueStart(f)];
+        if (first != '-' && (first < '0' || first > '9')) throw unexpected(field, "a number");
+        return f;
+    }
+
+    private int find(String field) {
+        if (fields == null) fields = JsonBytes.indexObject(json, start, end);
+        return JsonBytes.find(json, fields, field);
+    }
+
+    private int valueStart(int f) {
+        return fields[f + JsonBytes.VALUE_START];
+    }
+
+    private int valueEnd(int f) {
+        return fields[f + JsonBytes.VALUE_END];
+    }
+
+    private static JsonDecodingException unexpected(String field, String expected) {
+        return new JsonDecodingException("Expected " + expected + " for field " + field);
+    }
+}
@@ -0,0 +1,293 @@
+package com.meilisearch.sdk.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Streaming Jackson deserializers of the response types decoded on every search, task poll,
+ * listing, settings and key read, bound with {@link
+ * com.fasterxml.jackson.databind.annotation.JsonDeserialize} so that Jackson does not bind them as
+ * beans. The nested settings objects, such as the typo tolerance, are still bound as beans.
+ *
+ * <p>Like the bean binding, unknown fields are skipped and null values leave primitive fields to
+ * their default.
+ */
+final class JacksonDeserializers {
+    private static final TypeReference<ArrayList<HashMap<String, Object>>> HITS =
+            new TypeReference<ArrayList<HashMap<String, Object>>>() {};
+    private static final TypeReference<HashMap<String, FacetRating>> FACET_STATS =
+            new TypeReference<HashMap<String, FacetRating>>() {};
+    private static final TypeReference<HashMap<String, String[]>> SYNONYMS =
+            new TypeReference<HashMap<String, String[]>>() {};
+    private static final TypeReference<HashMap<String, Embedders>> EMBEDDERS =
+            new TypeReference<HashMap<String, Embedders>>() {};
+
+    private JacksonDeserializers() {}
+
+    static final class TaskInfoDeserializer extends ObjectDeserializer<TaskInfo> {
+        TaskInfoDeserializer() {
+            super(TaskInfo::new);
+            field("status", TaskStatus.class, (info, v) -> info.status = v);
+            intField("taskUid", (info, v) -> info.taskUid = v);
+            stringField("indexUid", (info, v) -> info.indexUid = v);
+            stringField("type", (info, v) -> info.type = v);
+            field("enqueuedAt", Date.class, (info, v) -> info.enqueuedAt = v);
+        }
+    }
+
+    static final class TaskDeserializer extends ObjectDeserializer<Task> {
+        TaskDeserializer() {
+            super(Task::new);
+            field("status", TaskStatus.class, (task, v) -> task.status = v);
+            intField("uid", (task, v) -> task.uid = v);
+            stringField("indexUid", (task, v) -> task.indexUid = v);
+            stringField("type", (task, v) -> task.type = v);
+            stringField("duration", (task, v) -> task.duration = v);
+            field("enqueuedAt", Date.class, (task, v) -> task.enqueuedAt = v);
+            field("startedAt", Date.class, (task, v) -> task.startedAt = v);
+            field("finishedAt", Date.class, (task, v) -> task.finishedAt = v);
+            field("error", TaskError.class, (task, v) -> task.error = v);
+            field("details", TaskDetails.class, (task, v) -> task.details = v);
+        }
+    }
+
+    static final class SearchResultDeserializer extends ObjectDeserializer<SearchResult> {
+        SearchResultDeserializer() {
+            super(SearchResult::new);
+            field("hits", HITS, (result, v) -> result.hits = v);
+            field("facetDistribution", Object.class, (result, v) -> result.facetDistribution = v);
+            field("facetStats", FACET_STATS, (result, v) -> result.facetStats = v);
+            intField("processingTimeMs", (result, v) -> result.processingTimeMs = v);
+            stringField("query", (result, v) -> result.query = v);
+            intField("offset", (result, v) -> result.offset = v);
+            intField("limit", (result, v) -> result.limit = v);
+            intField("estimatedTotalHits", (result, v) -> result.estimatedTotalHits = v);
+        }
+    }
+
+    static final class SearchResultPaginatedDeserializer
+            extends ObjectDeserializer<SearchResultPaginated> {
+        SearchResultPaginatedDeserializer() {
+            super(SearchResultPaginated::new);
+            intField("totalHits", (result, v) -> result.totalHits = v);
+            intField("hitsPerPage", (result, v) -> result.hitsPerPage = v);
+            intField("page", (result, v) -> result.page = v);
+            intField("totalPages", (result, v) -> result.totalPages = v);
+            field("hits", HITS, (result, v) -> result.hits = v);
+            field("facetDistribution", Object.class, (result, v) -> result.facetDistribution = v);
+            field("facetStats", FACET_STATS, (result, v) -> result.facetStats = v);
+            intField("processingTimeMs", (result, v) -> result.processingTimeMs = v);
+            stringField("query", (result, v) -> result.query = v);
+        }
+    }
+
+    static final class SettingsDeserializer extends ObjectDeserializer<Settings> {
+        SettingsDeserializer() {
+            super(Settings::new);
+            field("synonyms", SYNONYMS, (settings, v) -> settings.synonyms = v);
+            field("stopWords", String[].class, (settings, v) -> settings.stopWords = v);
+            field("rankingRules", String[].class, (settings, v) -> settings.rankingRules = v);
+            field(
+                    "filterableAttributes",
+                    String[].class,
+                    (settings, v) -> settings.filterableAttributes = v);
+            stringField("distinctAttribute", (settings, v) -> settings.distinctAttribute = v);
+            field(
+                    "searchableAttributes",
+                    String[].class,
+                    (settings, v) -> settings.searchableAttributes = v);
+            field(
+                    "displayedAttributes",
+                    String[].class,
+                    (settings, v) -> settings.displayedAttributes = v);
+            field(
+                    "sortableAttributes",
+                    String[].class,
+                    (settings, v) -> settings.sortableAttributes = v);
+            field(
+                    "typoTolerance",
+                    TypoTolerance.class,
+                    (settings, v) -> settings.typoTolerance = v);
+            field("pagination", Pagination.class, (settings, v) -> settings.pagination = v);
+            field("faceting", Faceting.class, (settings, v) -> settings.faceting = v);
+            field("dictionary", String[].class, (settings, v) -> settings.dictionary = v);
+            stringField("proximityPrecision", (settings, v) -> settings.proximityPrecision = v);
+            field("searchCutoffMs", Integer.class, (settings, v) -> settings.searchCutoffMs = v);
+            field("separatorTokens", String[].class, (settings, v) -> settings.separatorTokens = v);
+            field(
+                    "nonSeparatorTokens",
+                    String[].class,
+                    (settings, v) -> settings.nonSeparatorTokens = v);
+            field("embedders", EMBEDDERS, (settings, v) -> settings.embedders = v);
+            field(
+                    "localizedAttributes",
+                    LocalizedAttribute[].class,
+                    (settings, v) -> settings.localizedAttributes = v);
+        }
+    }
+
+    static final class KeyDeserializer extends ObjectDeserializer<Key> {
+        KeyDeserializer() {
+            super(Key::new);
+            stringField("name", (key, v) -> key.name = v);
+            stringField("description", (key, v) -> key.description = v);
+            stringField("uid", (key, v) -> key.uid = v);
+            stringField("key", (key, v) -> key.key = v);
+            field("actions", String[].class, (key, v) -> key.actions = v);
+            field("indexes", String[].class, (key, v) -> key.indexes = v);
+            field("expiresAt", Date.class, (key, v) -> key.expiresAt = v);
+            field("createdAt", Date.class, (key, v) -> key.createdAt = v);
+            field("updatedAt", Date.class, (key, v) -> key.updatedAt = v);
+        }
+    }
+
+    /**
+     * Deserializer of {@link Results}, decoding the page of results into the type argument of the
+     * requested type
+     */
+    static final class ResultsDeserializer extends ObjectDeserializer<Results<Object>>
+            implements ContextualDeserializer {
+        ResultsDeserializer() {
+            this(TypeFactory.defaultInstance().constructArrayType(Object.class));
+        }
+
+        private ResultsDeserializer(JavaType resultsType) {
+            super(Results::new);
+            field("results", resultsType, (page, v) -> page.results = (Object[]) v);
+            intField("offset", (page, v) -> page.offset = v);
+            intField("limit", (page, v) -> page.limit = v);
+            intField("total", (page, v) -> page.total = v);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(
+                DeserializationContext ctxt, BeanProperty property) {
+            JavaType type = ctxt.getContextualType();
+            if (type == null && property != null) type = property.getType();
+            JavaType element =
+                    type == null ? TypeFactory.unknownType() : type.containedTypeOrUnknown(0);
+            return new ResultsDeserializer(ctxt.getTypeFactory().constructArrayType(element));
+        }
+    }
+
+    /**
+     * Deserializer of a JSON object whose fields are bound to the fields of a class, the
+     * deserializer of each field being looked up on its first value
+     */
+    private abstract static class ObjectDeserializer<T> extends JsonDeserializer<T> {
+        private final Supplier<T> factory;
+        private final Map<String, FieldDeserializer<T>> fields = new HashMap<>();
+
+        ObjectDeserializer(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        final <V> void field(String name, Class<V> type, BiConsumer<T, V> setter) {
+            field(
+                    name,
+                    TypeFactory.defaultInstance().constructType(type),
+                    (value, v) -> setter.accept(value, type.cast(v)));
+        }
+
+        @SuppressWarnings("unchecked")
+        final <V> void field(String name, TypeReference<V> type, BiConsumer<T, V> setter) {
+            field(
+                    name,
+                    TypeFactory.defaultInstance().constructType(type),
+                    (value, v) -> setter.accept(value, (V) v));
+        }
+
+        final void field(String name, JavaType type, BiConsumer<T, Object> setter) {
+            fields.put(
+                    name,
+                    new FieldDeserializer<T>() {
+                        private volatile JsonDeserializer<Object> deserializer;
+
+                        @Override
+                        public void read(JsonParser p, DeserializationContext ctxt, T value)
+                                throws IOException {
+                            if (p.currentToken() == JsonToken.VALUE_NULL) {
+                                setter.accept(value, null);
+                                return;
+                            }
+                            JsonDeserializer<Object> current = deserializer;
+                            if (current == null) {
+                                current = ctxt.findRootValueDeserializer(type);
+                                deserializer = current;
+                            }
+                            setter.accept(value, current.deserialize(p, ctxt));
+                        }
+                    });
+        }
+
+        final void stringField(String name, BiConsumer<T, String> setter) {
+            fields.put(
+                    name,
+                    (p, ctxt, value) -> {
+                        JsonToken token = p.currentToken();
+                        if (token == JsonToken.VALUE_STRING) {
+                            setter.accept(value, p.getText());
+                        } else if (token == JsonToken.VALUE_NULL) {
+                            setter.accept(value, null);
+                        } else {
+                            setter.accept(value, StringDeserializer.instance.deserialize(p, ctxt));
+                        }
+                    });
+        }
+
+        final void intField(String name, ObjIntConsumer<T> setter) {
+            fields.put(
+                    name,
+                    (p, ctxt, value) -> {
+                        JsonToken token = p.currentToken();
+                        if (token == JsonToken.VALUE_NUMBER_INT) {
+                            setter.accept(value, p.getIntValue());
+                        } else if (token != JsonToken.VALUE_NULL) {
+                            Integer v = ctxt.readValue(p, Integer.class);
+                            if (v != null) setter.accept(value, v);
+                        }
+                    });
+        }
+
+        @Override
+        public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            T value = factory.get();
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) token = p.nextToken();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                FieldDeserializer<T> field = fields.get(p.currentName());
+                p.nextToken();
+                if (field != null) {
+                    field.read(p, ctxt, value);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                return ctxt.reportInputMismatch(this, "Expected an object, got %s", token);
+            }
+            return value;
+        }
+    }
+
+    /** Reads one field of a JSON object, the parser being on its value */
+    private interface FieldDeserializer<T> {
+        void read(JsonParser p, DeserializationContext ctxt, T value) throws IOException;
+    }
+}
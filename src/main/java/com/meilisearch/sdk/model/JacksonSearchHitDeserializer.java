@@ -0,0 +1,94 @@
+package com.meilisearch.sdk.model;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jackson deserializer of {@link SearchHit}, decoding the fields starting with an underscore as
+ * sidecars and buffering the remaining fields to decode them as the document
+ */
+class JacksonSearchHitDeserializer extends JsonDeserializer<SearchHit<Object>>
+        implements ContextualDeserializer {
+    private final JavaType documentType;
+
+    JacksonSearchHitDeserializer() {
+        this(null);
+    }
+
+    private JacksonSearchHitDeserializer(JavaType documentType) {
+        this.documentType = documentType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(
+            DeserializationContext ctxt, BeanProperty property) {
+        JavaType type = ctxt.getContextualType();
+        if (type == null && property != null) type = property.getType();
+        JavaType document =
+                type == null ? TypeFactory.unknownType() : type.containedTypeOrUnknown(0);
+        return new JacksonSearchHitDeserializer(document);
+    }
+
+    @Override
+    public SearchHit<Object> deserialize(JsonParser p, DeserializationContext ctxt)
+            throws IOException {
+        JavaType document = documentType != null ? documentType : TypeFactory.unknownType();
+        TypeFactory types = ctxt.getTypeFactory();
+        SearchHit<Object> hit = new SearchHit<>();
+        TokenBuffer fields = new TokenBuffer(p, ctxt);
+        fields.writeStartObject();
+
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) token = p.nextToken();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "_formatted":
+                    hit.formatted = ctxt.readValue(p, document);
+                    break;
+                case "_rankingScore":
+                    hit.rankingScore = ctxt.readValue(p, Double.class);
+                    break;
+                case "_rankingScoreDetails":
+                    hit.rankingScoreDetails =
+                            ctxt.readValue(
+                                    p,
+                                    types.constructMapType(
+                                            Map.class, String.class, Object.class));
+                    break;
+                case "_matchesPosition":
+                    hit.matchesPosition =
+                            ctxt.readValue(
+                                    p,
+                                    types.constructMapType(
+                                            Map.class,
+                                            types.constructType(String.class),
+                                            types.constructCollectionType(
+                                                    List.class, MatchPosition.class)));
+                    break;
+                default:
+                    fields.writeFieldName(name);
+                    fields.copyCurrentStructure(p);
+                    break;
+            }
+        }
+        fields.writeEndObject();
+
+        try (JsonParser buffered = fields.asParser(p.getCodec())) {
+            buffered.nextToken();
+            hit.document = ctxt.readValue(buffered, document);
+        }
+        return hit;
+    }
+}
@@ -0,0 +1,323 @@
+package com.meilisearch.sdk.model;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Scans UTF-8 encoded JSON in place, locating values by their offsets without decoding them
+ *
+ * <p>Objects are indexed as arrays of four offsets per field: start and end of the name without
+ * its quotes, start and end of the value. Values are only checked for balanced brackets and quotes,
+ * they are validated when decoded.
+ */
+final class JsonBytes {
+    static final int FIELD_SIZE = 4;
+    static final int NAME_START = 0;
+    static final int NAME_END = 1;
+    static final int VALUE_START = 2;
+    static final int VALUE_END = 3;
+
+    private JsonBytes() {}
+
+    /** Offsets of the elements of an array, two per element: start and end */
+    static final class Elements {
+        int[] bounds = new int[32];
+        int count;
+
+        private void add(int start, int end) {
+            if (2 * count + 2 > bounds.length) bounds = Arrays.copyOf(bounds, bounds.length * 2);
+            bounds[2 * count] = start;
+            bounds[2 * count + 1] = end;
+            count++;
+        }
+    }
+
+    /**
+     * Indexes the fields of an object
+     *
+     * @param json UTF-8 encoded JSON
+     * @param start offset of the opening brace
+     * @param end offset after the last byte that may be read
+     * @return offsets of the fields
+     */
+    static int[] indexObject(byte[] json, int start, int end) {
+        return indexObject(json, start, end, null, null);
+    }
+
+    /**
+     * Indexes the fields of an object, and the elements of one of its array fields in the same pass
+     *
+     * @param json UTF-8 encoded JSON
+     * @param start offset of the opening brace
+     * @param end offset after the last byte that may be read
+     * @param arrayField name of the array field whose elements are indexed, or null
+     * @param elements receives the offsets of the elements of that field
+     * @return offsets of the fields
+     */
+    static int[] indexObject(
+            byte[] json, int start, int end, String arrayField, Elements elements) {
+        if (start >= end || json[start] != '{') throw malformed(start);
+        int[] fields = new int[8 * FIELD_SIZE];
+        int size = 0;
+        int i = skipWhitespace(json, start + 1, end);
+        if (i < end && json[i] == '}') return new int[0];
+        while (true) {
+            if (i >= end || json[i] != '"') throw malformed(i);
+            int nameEnd = skipString(json, i, end);
+            int colon = skipWhitespace(json, nameEnd, end);
+            if (colon >= end || json[colon] != ':') throw malformed(colon);
+            int valueStart = skipWhitespace(json, colon + 1, end);
+            int valueEnd;
+            if (arrayField != null
+                    && valueStart < end
+                    && json[valueStart] == '['
+                    && nameEquals(json, i + 1, nameEnd - 1, arrayField)) {
+                valueEnd = indexArray(json, valueStart, end, elements);
+            } else {
+                valueEnd = skipValue(json, valueStart, end);
+            }
+
+            if (size + FIELD_SIZE > fields.length) fields = Arrays.copyOf(fields, size * 2);
+            fields[size + NAME_START] = i + 1;
+            fields[size + NAME_END] = nameEnd - 1;
+            fields[size + VALUE_START] = valueStart;
+            fields[size + VALUE_END] = valueEnd;
+            size += FIELD_SIZE;
+
+            i = skipWhitespace(json, valueEnd, end);
+            if (i < end && json[i] == ',') {
+                i = skipWhitespace(json, i + 1, end);
+            } else if (i < end && json[i] == '}') {
+                return Arrays.copyOf(fields, size);
+            } else {
+                throw malformed(i);
+            }
+        }
+    }
+
+    private static int indexArray(byte[] json, int start, int end, Elements elements) {
+        int i = skipWhitespace(json, start + 1, end);
+        if (i < end && json[i] == ']') return i + 1;
+        while (true) {
+            int valueEnd = skipValue(json, i, end);
+            elements.add(i, valueEnd);
+            i = skipWhitespace(json, valueEnd, end);
+            if (i < end && json[i] == ',') {
+                i = skipWhitespace(json, i + 1, end);
+            } else if (i < end && json[i] == ']') {
+                return i + 1;
+            } else {
+                throw malformed(i);
+            }
+        }
+    }
+
+    /**
+     * Finds a field in an indexed object
+     *
+     * @return offset of the field in the index, or -1 if absent
+     */
+    static int find(byte[] json, int[] fields, String name) {
+        for (int f = 0; f < fields.length; f += FIELD_SIZE) {
+            if (nameEquals(json, fields[f + NAME_START], fields[f + NAME_END], name)) return f;
+        }
+        return -1;
+    }
+
+    private static boolean nameEquals(byte[] json, int start, int end, String name) {
+        for (int k = start; k < end; k++) {
+            // escaped or non-ASCII names are compared decoded
+            if (json[k] < 0 || json[k] == '\\') {
+                return decodeString(json, start - 1, end + 1).equals(name);
+            }
+        }
+        if (end - start != name.length()) return false;
+        for (int k = 0; k < name.length(); k++) {
+            if (json[start + k] != name.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    static int skipWhitespace(byte[] json, int i, int end) {
+        while (i < end
+                && (json[i] == ' ' || json[i] == '\n' || json[i] == '\r' || json[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    static int skipValue(byte[] json, int start, int end) {
+        if (start >= end) throw malformed(start);
+        switch (json[start]) {
+            case '"':
+                return skipString(json, start, end);
+            case '{':
+            case '[':
+                return skipContainer(json, start, end);
+            default:
+                int i = start;
+                while (i < end && !isDelimiter(json[i])) i++;
+                if (i == start) throw malformed(start);
+                return i;
+        }
+    }
+
+    private static int skipString(byte[] json, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (json[i] == '\\') {
+                i++;
+            } else if (json[i] == '"') {
+                return i + 1;
+            }
+        }
+        throw malformed(start);
+    }
+
+    private static int skipContainer(byte[] json, int start, int end) {
+        int depth = 0;
+        for (int i = start; i < end; i++) {
+            byte c = json[i];
+            if (c == '"') {
+                i = skipString(json, i, end) - 1;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return i + 1;
+            }
+        }
+        throw malformed(start);
+    }
+
+    private static boolean isDelimiter(byte c) {
+        return c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    static boolean isNull(byte[] json, int start, int end) {
+        return end - start == 4
+                && json[start] == 'n'
+                && json[start + 1] == 'u'
+                && json[start + 2] == 'l'
+                && json[start + 3] == 'l';
+    }
+
+    /**
+     * Decodes a string value
+     *
+     * @param json UTF-8 encoded JSON
+     * @param start offset of the opening quote
+     * @param end offset after the closing quote
+     * @return decoded string
+     */
+    static String decodeString(byte[] json, int start, int end) {
+        if (end - start < 2 || json[start] != '"' || json[end - 1] != '"') throw malformed(start);
+        int from = start + 1;
+        int to = end - 1;
+        int i = from;
+        while (i < to && json[i] != '\\') i++;
+        if (i == to) return new String(json, from, to - from, StandardCharsets.UTF_8);
+
+        // the bytes of multi-byte UTF-8 sequences never match a backslash, chunks split safely
+        StringBuilder out = new StringBuilder(to - from);
+        int chunk = from;
+        while (i < to) {
+            if (json[i] != '\\') {
+                i++;
+                continue;
+            }
+            out.append(new String(json, chunk, i - chunk, StandardCharsets.UTF_8));
+            if (i + 1 >= to) throw malformed(i);
+            char escaped = (char) json[i + 1];
+            i += 2;
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    out.append(escaped);
+                    break;
+                case 'b':
+                    out.append('\b');
+                    break;
+                case 'f':
+                    out.append('\f');
+                    break;
+                case 'n':
+                    out.append('\n');
+                    break;
+                case 'r':
+                    out.append('\r');
+                    break;
+                case 't':
+                    out.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 > to) throw malformed(i);
+                    String hex = new String(json, i, 4, StandardCharsets.US_ASCII);
+                    try {
+                        out.append((char) Integer.parseInt(hex, 16));
+                    } catch (NumberFormatException e) {
+                        throw malformed(i);
+                    }
+                    i += 4;
+                    break;
+                default:
+                    throw malformed(i - 1);
+            }
+            chunk = i;
+        }
+        out.append(new String(json, chunk, to - chunk, StandardCharsets.UTF_8));
+        return out.toString();
+    }
+
+    /**
+     * Parses an integer value without allocating, falling back to a decimal parse for values such
+     * as {@code 12.0}
+     */
+    static long parseLong(byte[] json, int start, int end) {
+        int i = start;
+        boolean negative = i < end && json[i] == '-';
+        if (negative) i++;
+        if (i == end || end - i > 18) return integral(parseDouble(json, start, end), start);
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = json[i] - '0';
+            if (digit < 0 || digit > 9) return integral(parseDouble(json, start, end), start);
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /** Parses a number value, integers of up to 15 digits without allocating */
+    static double parseDouble(byte[] json, int start, int end) {
+        int i = start;
+        boolean negative = i < end && json[i] == '-';
+        if (negative) i++;
+        if (i < end && end - i <= 15) {
+            long value = 0;
+            for (; i < end; i++) {
+                int digit = json[i] - '0';
+                if (digit < 0 || digit > 9) break;
+                value = value * 10 + digit;
+            }
+            if (i == end) return negative ? -value : value;
+        }
+        try {
+            return Double.parseDouble(
+                    new String(json, start, end - start, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            throw new JsonDecodingException("Expected a number at offset " + start);
+        }
+    }
+
+    private static long integral(double value, int offset) {
+        if (value != Math.rint(value) || value < Long.MIN_VALUE || value >= 0x1p63) {
+            throw new JsonDecodingException("Expected an integer at offset " + offset);
+        }
+        return (long) value;
+    }
+
+    static JsonDecodingException malformed(int offset) {
+        return new JsonDecodingException("Malformed JSON at offset " + offset);
+    }
+}
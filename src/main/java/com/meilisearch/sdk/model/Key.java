@@ -2,6 +2,7 @@ package com.meilisearch.sdk.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import java.util.Date;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,6 +16,7 @@ import lombok.experimental.Accessors;
 @Getter
 @Setter
 @JsonInclude(Include.NON_NULL)
+@JsonDeserialize(using = JacksonDeserializers.KeyDeserializer.class)
 public class Key {
     @Accessors(chain = true)
     protected String name = null;
@@ -0,0 +1,127 @@
+package com.meilisearch.sdk.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Search result over the raw bytes of the response, decoding the hits lazily
+ *
+ * <p>The response is scanned once to locate the fields and the hits, without decoding them. Hits
+ * are read through {@link HitView}, which only decodes the fields that are read.
+ *
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/search#response">API
+ *     specification</a>
+ */
+public final class LazySearchResult extends RawEnvelope {
+
+    /**
+     * Creates a search result over a response
+     *
+     * @param response UTF-8 encoded JSON of the search response, not copied
+     * @throws com.meilisearch.sdk.exceptions.JsonDecodingException if the response is not a JSON
+     *     object
+     */
+    public LazySearchResult(byte[] response) {
+        super(response, "hits");
+    }
+
+    /**
+     * Gets the number of hits of the result
+     *
+     * @return number of hits
+     */
+    public int getHitCount() {
+        return count;
+    }
+
+    /**
+     * Gets a hit of the result
+     *
+     * @param index Position of the hit
+     * @return view of the hit
+     * @throws IndexOutOfBoundsException if there is no hit at the position
+     */
+    public HitView getHit(int index) {
+        return element(index, "Hit");
+    }
+
+    /**
+     * Gets the hits of the result, creating their views as they are read
+     *
+     * @return hits of the result
+     */
+    public List<HitView> getHits() {
+        return new AbstractList<HitView>() {
+            @Override
+            public HitView get(int index) {
+                return getHit(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    public String getQuery() {
+        return envelope.getString("query");
+    }
+
+    public long getProcessingTimeMs() {
+        return envelope.getLong("processingTimeMs", 0);
+    }
+
+    public int getOffset() {
+        return (int) envelope.getLong("offset", 0);
+    }
+
+    public int getLimit() {
+        return (int) envelope.getLong("limit", 0);
+    }
+
+    public int getEstimatedTotalHits() {
+        return (int) envelope.getLong("estimatedTotalHits", 0);
+    }
+
+    public int getPage() {
+        return (int) envelope.getLong("page", 0);
+    }
+
+    public int getHitsPerPage() {
+        return (int) envelope.getLong("hitsPerPage", 0);
+    }
+
+    public int getTotalHits() {
+        return (int) envelope.getLong("totalHits", 0);
+    }
+
+    public int getTotalPages() {
+        return (int) envelope.getLong("totalPages", 0);
+    }
+
+    /**
+     * Gets the JSON of a field of the result, as sent by Meilisearch
+     *
+     * @param field Name of the field, such as {@code facetDistribution}
+     * @return JSON of the field, or null if absent
+     */
+    public String getRaw(String field) {
+        return envelope.getRaw(field);
+    }
+
+    /**
+     * Gets the JSON of the result, as sent by Meilisearch
+     *
+     * @return JSON of the result
+     */
+    public String getRaw() {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return getRaw();
+    }
+}
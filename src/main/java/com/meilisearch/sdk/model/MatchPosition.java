@@ -0,0 +1,20 @@
+package com.meilisearch.sdk.model;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Position of a query term matched in an attribute of a search hit
+ *
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/search#show-matches-position">API
+ *     specification</a>
+ */
+@Getter
+@ToString
+public class MatchPosition {
+    protected int start;
+    protected int length;
+    protected int[] indices;
+
+    public MatchPosition() {}
+}
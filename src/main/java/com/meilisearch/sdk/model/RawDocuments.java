@@ -0,0 +1,90 @@
+package com.meilisearch.sdk.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Page of documents over the raw bytes of the response of the documents route
+ *
+ * <p>The response is scanned once to locate the documents, which are never decoded: they can be
+ * copied as sent by Meilisearch, for example to an NDJSON file. The multi-search response, which
+ * lists the result of each query in the same {@code results} field, can be read the same way.
+ *
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/documents#get-documents">API
+ *     specification</a>
+ */
+public final class RawDocuments extends RawEnvelope {
+
+    /**
+     * Creates a page of documents over a response
+     *
+     * @param response UTF-8 encoded JSON of the documents response, not copied
+     * @throws com.meilisearch.sdk.exceptions.JsonDecodingException if the response is not a JSON
+     *     object
+     */
+    public RawDocuments(byte[] response) {
+        super(response, "results");
+    }
+
+    /**
+     * Gets the number of documents of the page
+     *
+     * @return number of documents
+     */
+    public int size() {
+        return count;
+    }
+
+    public int getOffset() {
+        return (int) envelope.getLong("offset", 0);
+    }
+
+    public int getLimit() {
+        return (int) envelope.getLong("limit", 0);
+    }
+
+    public int getTotal() {
+        return (int) envelope.getLong("total", 0);
+    }
+
+    /**
+     * Gets the JSON of a document of the page, as sent by Meilisearch
+     *
+     * @param index Position of the document
+     * @return JSON of the document
+     * @throws IndexOutOfBoundsException if there is no document at the position
+     */
+    public String getRaw(int index) {
+        return rawElement(index, "Document");
+    }
+
+    /**
+     * Gets a document of the page as a view
+     *
+     * @param index Position of the document
+     * @return view of the document
+     * @throws IndexOutOfBoundsException if there is no document at the position
+     */
+    public HitView get(int index) {
+        return element(index, "Document");
+    }
+
+    /**
+     * Writes the documents of the page as NDJSON, one document per line, without decoding them
+     *
+     * @param out Stream the documents are written to
+     * @return number of bytes written
+     * @throws IOException if the stream cannot be written
+     */
+    public long writeNdjson(OutputStream out) throws IOException {
+        long written = 0;
+        for (int i = 0; i < count; i++) {
+            int start = elements[2 * i];
+            int length = elements[2 * i + 1] - start;
+            out.write(json, start, length);
+            out.write('\n');
+            written += length + 1;
+        }
+        return written;
+    }
+}
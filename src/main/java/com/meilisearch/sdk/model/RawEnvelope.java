@@ -0,0 +1,63 @@
+package com.meilisearch.sdk.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response over its raw bytes, scanned once to locate its fields and the elements of one of its
+ * array fields, without decoding them
+ */
+abstract class RawEnvelope {
+    final byte[] json;
+    final HitView envelope;
+    final int[] elements;
+    final int count;
+
+    /**
+     * @param response UTF-8 encoded JSON of the response, not copied
+     * @param arrayField Name of the array field whose elements are located
+     * @throws com.meilisearch.sdk.exceptions.JsonDecodingException if the response is not a JSON
+     *     object
+     */
+    RawEnvelope(byte[] response, String arrayField) {
+        json = response;
+        JsonBytes.Elements located = new JsonBytes.Elements();
+        int start = JsonBytes.skipWhitespace(response, 0, response.length);
+        int[] fields = JsonBytes.indexObject(response, start, response.length, arrayField, located);
+        envelope = new HitView(response, start, response.length, fields);
+        elements = located.bounds;
+        count = located.count;
+    }
+
+    /**
+     * Gets an element of the array field as a view
+     *
+     * @param index Position of the element
+     * @param kind Name of the elements, used in the exception message
+     * @return view of the element
+     * @throws IndexOutOfBoundsException if there is no element at the position
+     */
+    final HitView element(int index, String kind) {
+        checkIndex(index, kind);
+        return new HitView(json, elements[2 * index], elements[2 * index + 1]);
+    }
+
+    /**
+     * Gets the JSON of an element of the array field, as sent by Meilisearch
+     *
+     * @param index Position of the element
+     * @param kind Name of the elements, used in the exception message
+     * @return JSON of the element
+     * @throws IndexOutOfBoundsException if there is no element at the position
+     */
+    final String rawElement(int index, String kind) {
+        checkIndex(index, kind);
+        int start = elements[2 * index];
+        return new String(json, start, elements[2 * index + 1] - start, StandardCharsets.UTF_8);
+    }
+
+    private void checkIndex(int index, String kind) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(kind + " " + index + " of " + count);
+        }
+    }
+}
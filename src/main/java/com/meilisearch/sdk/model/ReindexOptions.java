@@ -0,0 +1,69 @@
+package com.meilisearch.sdk.model;
+
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Options of the blue/green reindex of an index, rebuilding its documents in a shadow index
+ * swapped with it once complete
+ *
+ * <p>The documents are sent in segments of {@code checkpointDocuments} documents. Once the tasks of
+ * a segment have succeeded, the number of documents indexed so far is reported to the progress
+ * listener. A failed reindex leaves the shadow index in place and is resumed by passing the last
+ * reported {@link ReindexReport#getDocumentsIndexed()} as {@code resumeFrom}, with the same
+ * source.
+ */
+@Getter
+@Setter
+@Accessors(chain = true)
+public class ReindexOptions {
+    /** Identifier of the shadow index, the index identifier followed by {@code _reindex} if null */
+    private String shadowUid;
+
+    /** Primary key of the documents, the primary key of the index if null */
+    private String primaryKey;
+
+    /**
+     * Settings applied to the shadow index on top of the settings cloned from the index, null
+     * fields keep the cloned value
+     *
+     * <p>Embedders are merged by name: an embedder set here replaces the cloned embedder of the
+     * same name, and a null embedder removes it. Meilisearch only returns the API keys of
+     * embedders redacted, embedders needing an API key must be set here with their key.
+     */
+    private Settings settings;
+
+    /** Limits of each batch and number of batches uploaded in parallel */
+    private BatchOptions batchOptions = new BatchOptions();
+
+    /** Number of documents sent between two checkpoints */
+    private long checkpointDocuments = 100_000;
+
+    /**
+     * Number of documents of the source already indexed in the shadow index by a previous attempt,
+     * skipped when reading the source, 0 to start over with a new shadow index
+     */
+    private long resumeFrom;
+
+    /** Whether the number of documents of the shadow index is checked before the swap */
+    private boolean validateDocumentCount = true;
+
+    /**
+     * Number of documents the shadow index must hold before the swap, the number of documents read
+     * from the source when negative
+     */
+    private long expectedDocuments = -1;
+
+    /** Maximum number of milliseconds waited for the tasks of each step */
+    private int taskTimeoutMs = 3_600_000;
+
+    /** Whether the previous documents, left in the shadow index by the swap, are deleted */
+    private boolean deletePreviousIndex = true;
+
+    /** Listener notified when a step starts and at each checkpoint */
+    private Consumer<ReindexReport> progressListener;
+
+    public ReindexOptions() {}
+}
@@ -0,0 +1,59 @@
+package com.meilisearch.sdk.model;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/** Progress of a blue/green reindex, and its outcome once completed */
+@Getter
+@ToString
+public class ReindexReport {
+    /** Steps of a reindex, in order */
+    public enum Step {
+        CREATING_SHADOW_INDEX,
+        CLONING_SETTINGS,
+        INDEXING,
+        VALIDATING,
+        SWAPPING,
+        CLEANING_UP,
+        COMPLETED
+    }
+
+    private final Step step;
+    private final String indexUid;
+    private final String shadowUid;
+
+    /** Number of documents read from the source, including the documents skipped on resume */
+    private final long documentsSent;
+
+    /**
+     * Number of documents of the source indexed in the shadow index, from which a failed reindex
+     * can be resumed
+     */
+    private final long documentsIndexed;
+
+    private final long elapsedMs;
+
+    public ReindexReport(
+            Step step,
+            String indexUid,
+            String shadowUid,
+            long documentsSent,
+            long documentsIndexed,
+            long elapsedMs) {
+        this.step = step;
+        this.indexUid = indexUid;
+        this.shadowUid = shadowUid;
+        this.documentsSent = documentsSent;
+        this.documentsIndexed = documentsIndexed;
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * Gets the throughput of the reindex
+     *
+     * @return documents indexed per second since the start
+     */
+    public double getDocumentsPerSecond() {
+        return elapsedMs == 0 ? 0 : documentsIndexed * 1000.0 / elapsedMs;
+    }
+}
@@ -1,9 +1,13 @@
 package com.meilisearch.sdk.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
 import lombok.Getter;
 
 /** Data structure of Meilisearch response for a Results */
 @Getter
+@JsonAdapter(GsonTypeAdapters.ResultsFactory.class)
+@JsonDeserialize(using = JacksonDeserializers.ResultsDeserializer.class)
 public class Results<T> {
     protected T[] results = null;
     protected int limit;
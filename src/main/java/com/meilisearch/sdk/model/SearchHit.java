@@ -0,0 +1,38 @@
+package com.meilisearch.sdk.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Search hit decoded into a document class, with the fields added by Meilisearch kept apart from
+ * the document
+ *
+ * @param <T> Type of the documents of the index
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/search#hits">API specification</a>
+ */
+@Getter
+@ToString
+@JsonAdapter(GsonTypeAdapters.SearchHitFactory.class)
+@JsonDeserialize(using = JacksonSearchHitDeserializer.class)
+public class SearchHit<T> {
+    /** Document of the hit, without the fields starting with an underscore listed below */
+    T document;
+
+    /** Highlighted and cropped document, returned with attributesToHighlight or attributesToCrop */
+    T formatted;
+
+    /** Ranking score of the hit, returned with showRankingScore */
+    Double rankingScore;
+
+    /** Detailed ranking score of the hit, returned with showRankingScoreDetails */
+    Map<String, Object> rankingScoreDetails;
+
+    /** Positions of the matched query terms per attribute, returned with showMatchesPosition */
+    Map<String, List<MatchPosition>> matchesPosition;
+
+    public SearchHit() {}
+}
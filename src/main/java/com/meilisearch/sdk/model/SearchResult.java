@@ -1,5 +1,7 @@
 package com.meilisearch.sdk.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import lombok.Getter;
@@ -12,6 +14,8 @@ import lombok.ToString;
  *     specification</a>
  */
 @Getter
+@JsonAdapter(GsonTypeAdapters.SearchResultFactory.class)
+@JsonDeserialize(using = JacksonDeserializers.SearchResultDeserializer.class)
 @ToString
 public class SearchResult implements Searchable {
     ArrayList<HashMap<String, Object>> hits;
@@ -1,5 +1,7 @@
 package com.meilisearch.sdk.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import lombok.Getter;
@@ -13,6 +15,8 @@ import lombok.ToString;
  *     Numbered Page Selectors</a>
  */
 @Getter
+@JsonAdapter(GsonTypeAdapters.SearchResultPaginatedFactory.class)
+@JsonDeserialize(using = JacksonDeserializers.SearchResultPaginatedDeserializer.class)
 @ToString
 public class SearchResultPaginated implements Searchable {
     protected int totalHits;
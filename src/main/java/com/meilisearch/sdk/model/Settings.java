@@ -1,5 +1,7 @@
 package com.meilisearch.sdk.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
 import java.util.HashMap;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,6 +15,8 @@ import lombok.experimental.Accessors;
 @Getter
 @Setter
 @Accessors(chain = true)
+@JsonAdapter(GsonTypeAdapters.SettingsFactory.class)
+@JsonDeserialize(using = JacksonDeserializers.SettingsDeserializer.class)
 public class Settings {
 
     protected HashMap<String, String[]> synonyms;
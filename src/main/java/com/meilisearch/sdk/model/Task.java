@@ -1,5 +1,7 @@
 package com.meilisearch.sdk.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
 import java.util.Date;
 import lombok.Getter;
 
@@ -9,6 +11,8 @@ import lombok.Getter;
  * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks">API specification</a>
  */
 @Getter
+@JsonAdapter(GsonTypeAdapters.TaskFactory.class)
+@JsonDeserialize(using = JacksonDeserializers.TaskDeserializer.class)
 public class Task {
     protected TaskStatus status = null;
     protected int uid = 0;
@@ -1,5 +1,7 @@
 package com.meilisearch.sdk.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.gson.annotations.JsonAdapter;
 import java.util.Date;
 import lombok.Getter;
 
@@ -10,6 +12,8 @@ import lombok.Getter;
  *     specification</a>
  */
 @Getter
+@JsonAdapter(GsonTypeAdapters.TaskInfoFactory.class)
+@JsonDeserialize(using = JacksonDeserializers.TaskInfoDeserializer.class)
 public class TaskInfo {
     protected TaskStatus status = null;
     protected int taskUid = 0;
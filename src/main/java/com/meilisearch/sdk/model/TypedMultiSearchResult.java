@@ -0,0 +1,20 @@
+package com.meilisearch.sdk.model;
+
+import java.util.ArrayList;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Multi search response with hits decoded into a document class
+ *
+ * @param <T> Type of the documents of the searched indexes
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/multi_search#response">API
+ *     specification</a>
+ */
+@Getter
+@ToString
+public class TypedMultiSearchResult<T> {
+    ArrayList<TypedSearchResult<T>> results;
+
+    public TypedMultiSearchResult() {}
+}
@@ -0,0 +1,38 @@
+package com.meilisearch.sdk.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Meilisearch search response with hits decoded into a document class
+ *
+ * <p>The pagination fields set depend on the request: offset, limit and estimatedTotalHits for
+ * infinite pagination, page, hitsPerPage, totalHits and totalPages when page or hitsPerPage is set.
+ *
+ * @param <T> Type of the documents of the index
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/search#response">API
+ *     specification</a>
+ */
+@Getter
+@ToString
+public class TypedSearchResult<T> {
+    /** Index searched, only set in multi-search responses */
+    String indexUid;
+
+    ArrayList<SearchHit<T>> hits;
+    HashMap<String, HashMap<String, Integer>> facetDistribution;
+    HashMap<String, FacetRating> facetStats;
+    int processingTimeMs;
+    String query;
+    int offset;
+    int limit;
+    int estimatedTotalHits;
+    int page;
+    int hitsPerPage;
+    int totalHits;
+    int totalPages;
+
+    public TypedSearchResult() {}
+}
@@ -12,7 +12,10 @@ import com.meilisearch.sdk.exceptions.MeilisearchApiException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.*;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.StringReader;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.*;
 
 @Tag("integration")
@@ -249,6 +252,57 @@ public class ClientTest extends AbstractIT {
         assertThrows(MeilisearchApiException.class, () -> indexA.getDocument("2", Movie.class));
     }
 
+    /** Test reindex */
+    @Test
+    public void testReindex() throws Exception {
+        String indexUid = "Reindex";
+        Index index = createEmptyIndex(indexUid, this.primaryKey);
+        String[] filterableAttributes = {"title"};
+        index.waitForTask(
+                index.updateFilterableAttributesSettings(filterableAttributes).getTaskUid());
+        index.waitForTask(index.addDocuments("[{\"id\": 1, \"title\": \"Stale\"}]").getTaskUid());
+        List<ReindexReport> reports = new ArrayList<>();
+        ReindexOptions options =
+                new ReindexOptions().setCheckpointDocuments(2).setProgressListener(reports::add);
+
+        ReindexReport report =
+                client.reindex(
+                        indexUid,
+                        new StringReader(
+                                "[{\"id\": 2, \"title\": \"Document2\"},"
+                                        + "{\"id\": 3, \"title\": \"Document3\"},"
+                                        + "{\"id\": 4, \"title\": \"Document4\"}]"),
+                        options);
+
+        assertThat(report.getStep(), is(equalTo(ReindexReport.Step.COMPLETED)));
+        assertThat(report.getDocumentsIndexed(), is(equalTo(3L)));
+        assertThat(reports.get(reports.size() - 1).getStep(), is(ReindexReport.Step.COMPLETED));
+        assertThat(index.getStats().getNumberOfDocuments(), is(equalTo(3L)));
+        assertThat(index.getDocument("2", Movie.class).getTitle(), is(equalTo("Document2")));
+        assertThat(index.getFilterableAttributesSettings(), is(equalTo(filterableAttributes)));
+        assertThrows(MeilisearchApiException.class, () -> client.getIndex(report.getShadowUid()));
+    }
+
+    /** Test reindex with an unexpected number of documents */
+    @Test
+    public void testReindexWithUnexpectedDocumentCount() throws Exception {
+        String indexUid = "ReindexUnexpectedDocumentCount";
+        Index index = createEmptyIndex(indexUid, this.primaryKey);
+        index.waitForTask(index.addDocuments("[{\"id\": 1, \"title\": \"Live\"}]").getTaskUid());
+        String shadowUid = indexUid + "_reindex";
+        ReindexOptions options = new ReindexOptions().setExpectedDocuments(5);
+
+        assertThrows(
+                MeilisearchException.class,
+                () ->
+                        client.reindex(
+                                indexUid,
+                                new StringReader("[{\"id\": 2, \"title\": \"Document2\"}]"),
+                                options));
+        assertThat(index.getDocument("1", Movie.class).getTitle(), is(equalTo("Live")));
+        assertThat(client.getIndex(shadowUid).getUid(), is(equalTo(shadowUid)));
+    }
+
     /** Test call to index method with an inexistent index */
     @Test
     public void testIndexMethodCallInexistentIndex() throws Exception {
@@ -16,10 +16,12 @@ import com.meilisearch.integration.classes.AbstractIT;
 import com.meilisearch.integration.classes.TestData;
 import com.meilisearch.sdk.Index;
 import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.model.BatchOptions;
 import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -185,6 +187,26 @@ public class DocumentsTest extends AbstractIT {
         }
     }
 
+    /** Test Add Documents in Batches from a Reader, every batch being sent before returning */
+    @Test
+    public void testAddDocumentsInBatchesFromReader() throws Exception {
+        String indexUid = "AddDocumentsInBatchesFromReader";
+        Index index = client.index(indexUid);
+
+        TestData<Movie> testData = this.getTestData(MOVIES_INDEX, Movie.class);
+        List<TaskInfo> taskInfos =
+                index.addDocumentsInBatches(
+                        new StringReader(testData.getRaw()),
+                        new BatchOptions().setMaxDocuments(15));
+
+        assertThat(taskInfos.size(), is(equalTo((testData.getData().size() + 14) / 15)));
+        for (TaskInfo task : taskInfos) {
+            index.waitForTask(task.getTaskUid());
+
+            assertThat(task.getType(), is(equalTo("documentAdditionOrUpdate")));
+        }
+    }
+
     /** Test Update a document */
     @Test
     public void testUpdateDocument() throws Exception {
@@ -0,0 +1,58 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.annotations.SerializedName;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+class AttributeProjectionTest {
+
+    static class Product {
+        static final String TYPE = "product";
+
+        String id;
+
+        @SerializedName("product_name")
+        String name;
+
+        @JsonProperty("unit_price")
+        double price;
+
+        @JsonIgnore String internal;
+
+        transient String cached;
+    }
+
+    static class Book extends Product {
+        String author;
+    }
+
+    @Test
+    void derivesFieldsAndSerializedNames() {
+        assertThat(
+                AttributeProjection.of(Product.class),
+                is(arrayContainingInAnyOrder("id", "product_name", "price", "unit_price")));
+    }
+
+    @Test
+    void includesSuperclassFields() {
+        assertThat(
+                AttributeProjection.of(Book.class),
+                is(
+                        arrayContainingInAnyOrder(
+                                "author", "id", "product_name", "price", "unit_price")));
+    }
+
+    @Test
+    void doesNotProjectMapsOrJdkTypes() {
+        assertThat(AttributeProjection.of(HashMap.class), is(nullValue()));
+        assertThat(AttributeProjection.of(Object.class), is(nullValue()));
+        assertThat(AttributeProjection.of(String.class), is(nullValue()));
+    }
+}
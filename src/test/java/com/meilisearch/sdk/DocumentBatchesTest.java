@@ -0,0 +1,227 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.StreamingContent;
+import com.meilisearch.sdk.model.BatchOptions;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class DocumentBatchesTest {
+
+    @Test
+    void iterateJsonArray() {
+        String documents =
+                " [ {\"id\": 1, \"tags\": [\"a\"]},\n{\"id\": 2, \"title\": \"}{\\\"\"} ] ";
+        JsonDocumentIterator iterator = new JsonDocumentIterator(new StringReader(documents));
+
+        assertThat(
+                toList(iterator),
+                contains("{\"id\": 1, \"tags\": [\"a\"]}", "{\"id\": 2, \"title\": \"}{\\\"\"}"));
+    }
+
+    @Test
+    void iterateNdjson() {
+        JsonDocumentIterator iterator =
+                new JsonDocumentIterator(new StringReader("{\"id\":1}\n{\"id\":2}\n"));
+
+        assertThat(toList(iterator), contains("{\"id\":1}", "{\"id\":2}"));
+    }
+
+    @Test
+    void iterateUnterminatedArray() {
+        JsonDocumentIterator iterator = new JsonDocumentIterator(new StringReader("[{\"id\":1}"));
+
+        iterator.next();
+        assertThrows(JsonDecodingException.class, iterator::hasNext);
+    }
+
+    @Test
+    void lastBatchOnlyHoldsRemainingDocuments() {
+        DocumentBatches batches =
+                new DocumentBatches(
+                        documents(7, "{\"id\":0}"),
+                        new BatchOptions().setMaxDocuments(3).setMaxBytes(0),
+                        batch -> null);
+
+        assertThat(batchSizes(batches), contains(3, 3, 1));
+    }
+
+    @Test
+    void batchesAreCutBySize() {
+        // each document is 8 bytes, so a batch of 3 needs 2 + 3 * 8 + 2 = 28 bytes
+        DocumentBatches batches =
+                new DocumentBatches(
+                        documents(5, "{\"id\":0}"),
+                        new BatchOptions().setMaxDocuments(10).setMaxBytes(27),
+                        batch -> null);
+
+        assertThat(batchSizes(batches), contains(2, 2, 1));
+    }
+
+    @Test
+    void oversizedDocumentIsSentAlone() {
+        DocumentBatches batches =
+                new DocumentBatches(
+                        Arrays.asList("{\"id\":0}", "{\"id\":1,\"title\":\"long\"}", "{\"id\":2}")
+                                .iterator(),
+                        new BatchOptions().setMaxBytes(12),
+                        batch -> null);
+
+        List<byte[]> first = batches.nextBatch();
+        List<byte[]> second = batches.nextBatch();
+        List<byte[]> third = batches.nextBatch();
+
+        assertThat(first.size(), equalTo(1));
+        assertThat(
+                new String(second.get(0), StandardCharsets.UTF_8),
+                equalTo("{\"id\":1,\"title\":\"long\"}"));
+        assertThat(third.size(), equalTo(1));
+    }
+
+    @Test
+    void parallelBatchesAreUploadedConcurrentlyInDocumentOrder() {
+        Map<TaskInfo, String> payloads = new ConcurrentHashMap<>();
+        List<String> uploads = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch lastSent = new CountDownLatch(1);
+        ParallelDocumentBatches batches =
+                new ParallelDocumentBatches(
+                        new BatchOptions().setMaxDocuments(2).setMaxInFlight(3),
+                        batch -> {
+                            TaskInfo taskInfo = new TaskInfo();
+                            String payload = write(batch);
+                            payloads.put(taskInfo, payload);
+                            uploads.add(payload);
+                            if (payload.equals("[4]")) lastSent.countDown();
+                            // the first batch is acknowledged once the last one is sent
+                            return CompletableFuture.supplyAsync(
+                                    () -> {
+                                        if (payload.equals("[0,1]")) await(lastSent);
+                                        uploads.add("enqueued " + payload);
+                                        return taskInfo;
+                                    });
+                        });
+
+        List<TaskInfo> taskInfos =
+                batches.send(Arrays.asList(0, 1, 2, 3, 4).iterator(), String::valueOf);
+
+        assertThat(
+                taskInfos.stream().map(payloads::get).collect(Collectors.toList()),
+                contains("[0,1]", "[2,3]", "[4]"));
+        assertThat(uploads.indexOf("[4]"), lessThan(uploads.indexOf("enqueued [0,1]")));
+    }
+
+    @Test
+    void parallelBatchesBoundTheUploadsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ParallelDocumentBatches batches =
+                new ParallelDocumentBatches(
+                        new BatchOptions().setMaxDocuments(1).setMaxInFlight(2),
+                        batch -> {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            return CompletableFuture.supplyAsync(
+                                    () -> {
+                                        sleep(20);
+                                        inFlight.decrementAndGet();
+                                        return new TaskInfo();
+                                    });
+                        });
+
+        List<TaskInfo> taskInfos =
+                batches.send(Arrays.asList(0, 1, 2, 3, 4, 5).iterator(), String::valueOf);
+
+        assertThat(taskInfos.size(), equalTo(6));
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    void parallelBatchesFailWithTheUploadError() {
+        ParallelDocumentBatches batches =
+                new ParallelDocumentBatches(
+                        new BatchOptions().setMaxDocuments(1),
+                        batch -> {
+                            CompletableFuture<TaskInfo> failed = new CompletableFuture<>();
+                            failed.completeExceptionally(new MeilisearchException("upload"));
+                            return failed;
+                        });
+
+        MeilisearchException exception =
+                assertThrows(
+                        MeilisearchException.class,
+                        () -> batches.send(Arrays.asList(0, 1).iterator(), String::valueOf));
+        assertThat(exception.getMessage(), equalTo("upload"));
+    }
+
+    private static String write(StreamingContent content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            content.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS), equalTo(true));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Iterator<String> documents(int count, String document) {
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            documents.add(document);
+        }
+        return documents.iterator();
+    }
+
+    private static List<Integer> batchSizes(DocumentBatches batches) {
+        List<Integer> sizes = new ArrayList<>();
+        while (batches.hasNext()) {
+            sizes.add(batches.nextBatch().size());
+        }
+        return sizes;
+    }
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
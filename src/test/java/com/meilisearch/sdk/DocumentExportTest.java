@@ -0,0 +1,124 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import com.meilisearch.sdk.model.DocumentsQuery;
+import com.meilisearch.sdk.model.ExportOptions;
+import com.meilisearch.sdk.model.ExportReport;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class DocumentExportTest {
+    private static final int TOTAL = 23;
+
+    private static String document(int id) {
+        return "{\"id\":" + id + ",\"title\":\"t, " + id + "\"}";
+    }
+
+    private static byte[] page(DocumentsQuery query) {
+        IntPredicate filter = id -> true;
+        if (query.getFilter() != null) {
+            String range = query.getFilter()[0];
+            int bound = Integer.parseInt(range.substring(range.lastIndexOf(' ') + 1));
+            filter = range.contains("<") ? id -> id < bound : id -> id >= bound;
+        }
+        List<String> matching = new ArrayList<>();
+        for (int id = 0; id < TOTAL; id++) {
+            if (filter.test(id)) matching.add(document(id));
+        }
+        int offset = Math.max(0, query.getOffset());
+        int end = Math.min(matching.size(), offset + query.getLimit());
+        String results = offset < end ? String.join(",", matching.subList(offset, end)) : "";
+        String body =
+                String.format(
+                        "{\"results\":[%s],\"offset\":%d,\"limit\":%d,\"total\":%d}",
+                        results, offset, query.getLimit(), matching.size());
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> lines(Path file, boolean gzip) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader =
+                new BufferedReader(
+                        new InputStreamReader(
+                                gzip
+                                        ? new GZIPInputStream(Files.newInputStream(file))
+                                        : Files.newInputStream(file),
+                                StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static String[] expected() {
+        String[] documents = new String[TOTAL];
+        for (int id = 0; id < TOTAL; id++) {
+            documents[id] = document(id);
+        }
+        return documents;
+    }
+
+    @Test
+    void exportsOffsetPartitionsToOneFileEach() throws Exception {
+        List<ExportReport> progress = new ArrayList<>();
+        ExportOptions options =
+                new ExportOptions()
+                        .setDirectory(Files.createTempDirectory("export"))
+                        .setPartitions(3)
+                        .setPageSize(4)
+                        .setProgressListener(
+                                report -> {
+                                    synchronized (progress) {
+                                        progress.add(report);
+                                    }
+                                });
+
+        ExportReport report =
+                new DocumentExport("movies", options, DocumentExportTest::page).export();
+
+        assertThat(report.getFiles(), hasSize(3));
+        assertThat(report.getDocuments(), is(equalTo((long) TOTAL)));
+        assertThat(report.getCompletedPartitions(), is(equalTo(3)));
+        List<String> exported = new ArrayList<>();
+        for (Path file : report.getFiles()) {
+            exported.addAll(lines(file, false));
+        }
+        assertThat(exported, containsInAnyOrder(expected()));
+        assertThat(progress.isEmpty(), is(false));
+    }
+
+    @Test
+    void exportsFilterPartitionsToSharedGzipFile() throws Exception {
+        ExportOptions options =
+                new ExportOptions()
+                        .setDirectory(Files.createTempDirectory("export"))
+                        .setFilters(ExportOptions.rangeFilters("id", 10))
+                        .setPageSize(5)
+                        .setGzip(true)
+                        .setFilePerPartition(false);
+
+        ExportReport report =
+                new DocumentExport("movies", options, DocumentExportTest::page).export();
+
+        assertThat(report.getFiles(), hasSize(1));
+        assertThat(
+                report.getFiles().get(0).getFileName().toString(),
+                is(equalTo("movies.ndjson.gz")));
+        assertThat(lines(report.getFiles().get(0), true), containsInAnyOrder(expected()));
+    }
+}
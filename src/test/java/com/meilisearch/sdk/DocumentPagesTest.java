@@ -0,0 +1,82 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.DocumentsQuery;
+import com.meilisearch.sdk.model.Results;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class DocumentPagesTest {
+    private final GsonJsonHandler jsonHandler = new GsonJsonHandler();
+    private final List<Integer> requestedOffsets = new ArrayList<>();
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Results<Integer>> page(DocumentsQuery query, int total) {
+        requestedOffsets.add(query.getOffset());
+        int end = Math.min(total, query.getOffset() + query.getLimit());
+        StringBuilder documents = new StringBuilder();
+        for (int i = query.getOffset(); i < end; i++) {
+            documents.append(documents.length() == 0 ? "" : ",").append(i);
+        }
+        Results<Integer> results =
+                jsonHandler.decode(
+                        "{\"results\":[" + documents + "],\"total\":" + total + "}",
+                        Results.class,
+                        Integer.class);
+        return CompletableFuture.completedFuture(results);
+    }
+
+    private static <T> List<T> drain(DocumentPages<T> pages) {
+        List<T> documents = new ArrayList<>();
+        pages.forEachRemaining(documents::add);
+        return documents;
+    }
+
+    @Test
+    void iteratesAllPagesFromOffset() {
+        DocumentPages<Integer> pages =
+                new DocumentPages<>(
+                        new DocumentsQuery().setOffset(2).setLimit(3), 2, q -> page(q, 9));
+
+        assertThat(drain(pages), contains(2, 3, 4, 5, 6, 7, 8));
+        assertThat(requestedOffsets, contains(2, 5, 8));
+    }
+
+    @Test
+    void keepsPrefetchedPagesBounded() {
+        DocumentPages<Integer> pages =
+                new DocumentPages<>(new DocumentsQuery().setLimit(2), 2, q -> page(q, 20));
+
+        assertThat(requestedOffsets, contains(0));
+        pages.next();
+        assertThat(requestedOffsets, contains(0, 2, 4));
+        pages.next();
+        pages.next();
+        assertThat(requestedOffsets, contains(0, 2, 4, 6));
+        assertThat(drain(pages).size(), is(equalTo(17)));
+    }
+
+    @Test
+    void propagatesFailures() {
+        DocumentPages<Integer> pages =
+                new DocumentPages<>(
+                        new DocumentsQuery().setLimit(2),
+                        1,
+                        q -> {
+                            CompletableFuture<Results<Integer>> failed = new CompletableFuture<>();
+                            failed.completeExceptionally(new MeilisearchException("unavailable"));
+                            return failed;
+                        });
+
+        assertThrows(MeilisearchException.class, pages::hasNext);
+    }
+}
@@ -0,0 +1,242 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.meilisearch.sdk.exceptions.APIError;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.StreamingContent;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.IndexStats;
+import com.meilisearch.sdk.model.ReindexOptions;
+import com.meilisearch.sdk.model.ReindexReport;
+import com.meilisearch.sdk.model.ReindexReport.Step;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReindexTest {
+    private static final int FIRST_UPLOAD_TASK = 100;
+
+    private final GsonJsonHandler jsonHandler = new GsonJsonHandler();
+    private final Config config = new Config("http://localhost:7700", "masterKey");
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private final TasksHandler tasksHandler = mock(TasksHandler.class);
+    private final AtomicInteger taskUids = new AtomicInteger();
+    private final List<String> uploads = new CopyOnWriteArrayList<>();
+    private final Set<Integer> failedTasks = new HashSet<>();
+    private final List<ReindexReport> reports = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(httpClient.post(anyString(), any(), eq(TaskInfo.class)))
+                .thenAnswer(invocation -> taskInfo(taskUids.incrementAndGet()));
+        when(httpClient.delete(anyString(), eq(TaskInfo.class)))
+                .thenAnswer(invocation -> taskInfo(taskUids.incrementAndGet()));
+        when(httpClient.get(endsWith("/settings"), eq(Settings.class)))
+                .thenAnswer(invocation -> new Settings());
+        when(httpClient.postAsync(anyString(), any(StreamingContent.class), eq(TaskInfo.class)))
+                .thenAnswer(
+                        invocation -> {
+                            ByteArrayOutputStream body = new ByteArrayOutputStream();
+                            invocation.<StreamingContent>getArgument(1).writeTo(body);
+                            uploads.add(new String(body.toByteArray(), StandardCharsets.UTF_8));
+                            return CompletableFuture.completedFuture(
+                                    taskInfo(FIRST_UPLOAD_TASK + uploads.size() - 1));
+                        });
+        when(tasksHandler.waitForTasks(anyCollection(), anyInt()))
+                .thenAnswer(
+                        invocation ->
+                                invocation.<Collection<Integer>>getArgument(0).stream()
+                                        .map(uid -> task(uid, failedTasks.contains(uid)))
+                                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void resumeSkipsTheIndexedDocumentsAndKeepsTheShadowIndex() {
+        existingIndex("movies");
+        existingIndex("movies_reindex");
+        documentCount("movies_reindex", 5);
+
+        ReindexReport report =
+                reindex(new ReindexOptions().setResumeFrom(3).setCheckpointDocuments(2))
+                        .run(documents(5), Object::toString);
+
+        assertThat(uploads, contains("[{\"id\":3},{\"id\":4}]"));
+        verify(httpClient, never()).post(eq("/indexes"), any(), eq(TaskInfo.class));
+        verify(httpClient).post(eq("/swap-indexes"), any(), eq(TaskInfo.class));
+        assertThat(report.getStep(), equalTo(Step.COMPLETED));
+        assertThat(report.getDocumentsSent(), equalTo(5L));
+        assertThat(report.getDocumentsIndexed(), equalTo(5L));
+        assertThat(
+                reports(Step.INDEXING).stream()
+                        .map(ReindexReport::getDocumentsIndexed)
+                        .collect(Collectors.toList()),
+                contains(0L, 3L, 5L));
+    }
+
+    @Test
+    void resumeFailsWithoutTheShadowIndex() {
+        existingIndex("movies");
+        missingIndex("movies_reindex");
+
+        ReindexOptions options = new ReindexOptions().setResumeFrom(3);
+        MeilisearchException exception =
+                assertThrows(
+                        MeilisearchException.class,
+                        () -> reindex(options).run(documents(5), Object::toString));
+
+        assertThat(exception.getMessage(), containsString("movies_reindex is missing"));
+        assertThat(uploads.isEmpty(), equalTo(true));
+        verify(httpClient, never()).post(anyString(), any(), eq(TaskInfo.class));
+        verify(httpClient, never()).delete(anyString(), eq(TaskInfo.class));
+    }
+
+    @Test
+    void checkpointsAreReportedOnceTheirTasksSucceeded() {
+        existingIndex("movies");
+        missingIndex("movies_reindex");
+        documentCount("movies_reindex", 5);
+
+        reindex(new ReindexOptions().setCheckpointDocuments(2)).run(documents(5), Object::toString);
+
+        assertThat(
+                uploads,
+                contains("[{\"id\":0},{\"id\":1}]", "[{\"id\":2},{\"id\":3}]", "[{\"id\":4}]"));
+        assertThat(
+                reports.stream().map(ReindexReport::getStep).collect(Collectors.toList()),
+                contains(
+                        Step.CREATING_SHADOW_INDEX,
+                        Step.CLONING_SETTINGS,
+                        Step.INDEXING,
+                        Step.INDEXING,
+                        Step.INDEXING,
+                        Step.INDEXING,
+                        Step.INDEXING,
+                        Step.VALIDATING,
+                        Step.SWAPPING,
+                        Step.CLEANING_UP,
+                        Step.COMPLETED));
+        List<ReindexReport> indexing = reports(Step.INDEXING);
+        assertThat(
+                indexing.stream().map(ReindexReport::getDocumentsSent).collect(Collectors.toList()),
+                contains(0L, 2L, 4L, 5L, 5L));
+        assertThat(
+                indexing.stream()
+                        .map(ReindexReport::getDocumentsIndexed)
+                        .collect(Collectors.toList()),
+                contains(0L, 0L, 2L, 4L, 5L));
+        verify(httpClient).delete("/indexes/movies_reindex", TaskInfo.class);
+    }
+
+    @Test
+    void failedTaskKeepsTheShadowIndexAndSkipsTheSwap() {
+        existingIndex("movies");
+        missingIndex("movies_reindex");
+        failedTasks.add(FIRST_UPLOAD_TASK + 1);
+
+        ReindexOptions options = new ReindexOptions().setCheckpointDocuments(2);
+        MeilisearchException exception =
+                assertThrows(
+                        MeilisearchException.class,
+                        () -> reindex(options).run(documents(5), Object::toString));
+
+        assertThat(exception.getMessage(), containsString("Task " + (FIRST_UPLOAD_TASK + 1)));
+        ReindexReport last = reports.get(reports.size() - 1);
+        assertThat(last.getStep(), equalTo(Step.INDEXING));
+        assertThat(last.getDocumentsIndexed(), equalTo(2L));
+        verify(httpClient, never()).post(eq("/swap-indexes"), any(), eq(TaskInfo.class));
+        verify(httpClient, never()).delete(anyString(), eq(TaskInfo.class));
+    }
+
+    @Test
+    void documentCountMismatchKeepsTheShadowIndexAndSkipsTheSwap() {
+        existingIndex("movies");
+        missingIndex("movies_reindex");
+        documentCount("movies_reindex", 4);
+
+        ReindexOptions options = new ReindexOptions();
+        MeilisearchException exception =
+                assertThrows(
+                        MeilisearchException.class,
+                        () -> reindex(options).run(documents(5), Object::toString));
+
+        assertThat(exception.getMessage(), containsString("holds 4 documents instead of 5"));
+        assertThat(reports.get(reports.size() - 1).getStep(), equalTo(Step.VALIDATING));
+        verify(httpClient, never()).post(eq("/swap-indexes"), any(), eq(TaskInfo.class));
+        verify(httpClient, never()).delete(anyString(), eq(TaskInfo.class));
+    }
+
+    private Reindex reindex(ReindexOptions options) {
+        options.setProgressListener(reports::add);
+        return new Reindex(config, httpClient, tasksHandler, "movies", options);
+    }
+
+    private List<ReindexReport> reports(Step step) {
+        return reports.stream()
+                .filter(report -> report.getStep() == step)
+                .collect(Collectors.toList());
+    }
+
+    private void existingIndex(String uid) {
+        when(httpClient.get("/indexes/" + uid, Index.class))
+                .thenReturn(
+                        jsonHandler.decode(
+                                "{\"uid\":\"" + uid + "\",\"primaryKey\":\"id\"}", Index.class));
+    }
+
+    private void missingIndex(String uid) {
+        when(httpClient.get("/indexes/" + uid, Index.class))
+                .thenThrow(new MeilisearchApiException(new APIError().setCode("index_not_found")));
+    }
+
+    private void documentCount(String uid, long count) {
+        when(httpClient.get("/indexes/" + uid + "/stats", IndexStats.class))
+                .thenReturn(
+                        jsonHandler.decode(
+                                "{\"numberOfDocuments\":" + count + "}", IndexStats.class));
+    }
+
+    private static Iterator<Object> documents(int count) {
+        return IntStream.range(0, count).<Object>mapToObj(i -> "{\"id\":" + i + "}").iterator();
+    }
+
+    private TaskInfo taskInfo(int taskUid) {
+        return jsonHandler.decode("{\"taskUid\":" + taskUid + "}", TaskInfo.class);
+    }
+
+    private Task task(int uid, boolean failed) {
+        return jsonHandler.decode(
+                "{\"uid\":" + uid + ",\"status\":\"" + (failed ? "failed" : "succeeded") + "\"}",
+                Task.class);
+    }
+}
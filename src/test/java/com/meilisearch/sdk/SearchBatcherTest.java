@@ -0,0 +1,111 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.meilisearch.sdk.exceptions.APIError;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SearchBatcherTest {
+    private final HttpClient httpClient = mock(HttpClient.class);
+
+    private static <T> CompletableFuture<T> failed(Throwable e) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    @Test
+    void fullBatchIsSentAsOneMultiSearch() throws Exception {
+        String body =
+                "{\"queries\":[{\"indexUid\":\"movies\",\"q\":\"a\"},{\"indexUid\":\"books\"},"
+                        + "{\"indexUid\":\"movies\",\"q\":\"c\"}]}";
+        String response =
+                "{\"results\":[{\"indexUid\":\"movies\",\"hits\":[]},"
+                        + "{\"indexUid\":\"books\",\"hits\":[{\"id\":1}]},"
+                        + "{\"indexUid\":\"movies\",\"hits\":[{\"id\":3}]}]}";
+        when(httpClient.postAsync(eq("/multi-search"), eq(body), eq(byte[].class)))
+                .thenReturn(
+                        CompletableFuture.completedFuture(
+                                response.getBytes(StandardCharsets.UTF_8)));
+        SearchBatcher classToTest = new SearchBatcher(60_000, 3);
+
+        CompletableFuture<String> first =
+                classToTest.search(httpClient, "movies", "{\"q\":\"a\"}");
+        CompletableFuture<String> second = classToTest.search(httpClient, "books", "{}");
+        CompletableFuture<String> third =
+                classToTest.search(httpClient, "movies", "{\"q\":\"c\"}");
+
+        assertThat(first.get(), equalTo("{\"indexUid\":\"movies\",\"hits\":[]}"));
+        assertThat(second.get(), equalTo("{\"indexUid\":\"books\",\"hits\":[{\"id\":1}]}"));
+        assertThat(third.get(), equalTo("{\"indexUid\":\"movies\",\"hits\":[{\"id\":3}]}"));
+        assertThat(classToTest.getBatches(), equalTo(1L));
+        assertThat(classToTest.getQueries(), equalTo(3L));
+    }
+
+    @Test
+    void singleSearchIsSentAloneOnceTheWindowCloses() throws Exception {
+        when(httpClient.postAsync(eq("/indexes/movies/search"), eq("{}"), eq(String.class)))
+                .thenReturn(CompletableFuture.completedFuture("{\"hits\":[]}"));
+        SearchBatcher classToTest = new SearchBatcher(10, 5);
+
+        CompletableFuture<String> result = classToTest.search(httpClient, "movies", "{}");
+
+        assertThat(result.get(5, TimeUnit.SECONDS), equalTo("{\"hits\":[]}"));
+        verify(httpClient, never()).postAsync(eq("/multi-search"), anyString(), eq(byte[].class));
+    }
+
+    @Test
+    void rejectedBatchIsRetriedQueryByQuery() throws Exception {
+        MeilisearchApiException invalid =
+                new MeilisearchApiException(
+                        new APIError().setCode("invalid_search_filter").setType("invalid_request"));
+        when(httpClient.postAsync(eq("/multi-search"), anyString(), eq(byte[].class)))
+                .thenReturn(failed(invalid));
+        when(httpClient.postAsync(eq("/indexes/movies/search"), anyString(), eq(String.class)))
+                .thenReturn(CompletableFuture.completedFuture("{\"hits\":[]}"));
+        when(httpClient.postAsync(eq("/indexes/books/search"), anyString(), eq(String.class)))
+                .thenReturn(failed(invalid));
+        SearchBatcher classToTest = new SearchBatcher(60_000, 2);
+
+        CompletableFuture<String> valid = classToTest.search(httpClient, "movies", "{}");
+        CompletableFuture<String> rejected = classToTest.search(httpClient, "books", "{}");
+
+        assertThat(valid.get(), equalTo("{\"hits\":[]}"));
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertThat(e.getCause(), instanceOf(MeilisearchApiException.class));
+    }
+
+    @Test
+    void batchFailingForEveryQueryIsNotRetried() {
+        MeilisearchApiException unauthorized =
+                new MeilisearchApiException(
+                        new APIError().setCode("invalid_api_key").setType("auth"));
+        when(httpClient.postAsync(eq("/multi-search"), anyString(), eq(byte[].class)))
+                .thenReturn(failed(unauthorized));
+        SearchBatcher classToTest = new SearchBatcher(60_000, 2);
+
+        CompletableFuture<String> first = classToTest.search(httpClient, "movies", "{}");
+        CompletableFuture<String> second = classToTest.search(httpClient, "books", "{}");
+
+        ExecutionException e = assertThrows(ExecutionException.class, first::get);
+        assertThat(e.getCause(), sameInstance(unauthorized));
+        e = assertThrows(ExecutionException.class, second::get);
+        assertThat(e.getCause(), sameInstance(unauthorized));
+        verify(httpClient, never()).postAsync(anyString(), anyString(), eq(String.class));
+    }
+}
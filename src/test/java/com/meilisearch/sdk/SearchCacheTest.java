@@ -0,0 +1,116 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SearchCacheTest {
+
+    @Test
+    void cachedResponseIsServedUntilExpired() {
+        AtomicLong now = new AtomicLong();
+        SearchCache classToTest = new SearchCache(50, 10, 1024 * 1024, now::get);
+        classToTest.put("movies", "{\"q\":\"a\"}", "response", classToTest.stamp("movies"));
+
+        assertThat(classToTest.get("movies", "{\"q\":\"a\"}"), equalTo("response"));
+        assertThat(classToTest.get("books", "{\"q\":\"a\"}"), nullValue());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertThat(classToTest.get("movies", "{\"q\":\"a\"}"), equalTo("response"));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(classToTest.get("movies", "{\"q\":\"a\"}"), nullValue());
+        assertThat(classToTest.getHitCount(), equalTo(2L));
+        assertThat(classToTest.getMissCount(), equalTo(2L));
+        assertThat(classToTest.size(), equalTo(0));
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        SearchCache classToTest = new SearchCache(60_000, 2, 1024 * 1024);
+        classToTest.put("movies", "a", "1", classToTest.stamp("movies"));
+        classToTest.put("movies", "b", "2", classToTest.stamp("movies"));
+        classToTest.get("movies", "a");
+        classToTest.put("movies", "c", "3", classToTest.stamp("movies"));
+
+        assertThat(classToTest.get("movies", "a"), equalTo("1"));
+        assertThat(classToTest.get("movies", "b"), nullValue());
+        assertThat(classToTest.get("movies", "c"), equalTo("3"));
+        assertThat(classToTest.getEvictionCount(), equalTo(1L));
+    }
+
+    @Test
+    void cacheIsBoundedByBytes() {
+        SearchCache classToTest = new SearchCache(60_000, 100, 200);
+        classToTest.put("movies", "a", "first response", classToTest.stamp("movies"));
+        classToTest.put("movies", "b", "second response", classToTest.stamp("movies"));
+
+        assertThat(classToTest.size(), equalTo(1));
+        assertThat(classToTest.get("movies", "b"), equalTo("second response"));
+    }
+
+    @Test
+    void documentsAndSettingsWritesInvalidateTheIndex() {
+        SearchCache classToTest = new SearchCache(60_000, 100, 1024 * 1024);
+        classToTest.put("movies", "a", "1", classToTest.stamp("movies"));
+        classToTest.put("books", "a", "2", classToTest.stamp("books"));
+
+        classToTest.onWrite("/indexes/movies/search", null, null);
+        classToTest.onWrite("/indexes/movies/documents/fetch", null, null);
+        assertThat(classToTest.get("movies", "a"), equalTo("1"));
+
+        classToTest.onWrite("/indexes/movies/documents?primaryKey=id", null, null);
+        assertThat(classToTest.get("movies", "a"), nullValue());
+        assertThat(classToTest.get("books", "a"), equalTo("2"));
+
+        classToTest.onWrite("/indexes/books/settings/synonyms", null, null);
+        assertThat(classToTest.get("books", "a"), nullValue());
+    }
+
+    @Test
+    void responseRacingWithAnInvalidationIsNotCached() {
+        SearchCache classToTest = new SearchCache(60_000, 100, 1024 * 1024);
+        long stamp = classToTest.stamp("movies");
+        classToTest.invalidate("movies");
+        classToTest.put("movies", "a", "stale", stamp);
+
+        assertThat(classToTest.get("movies", "a"), nullValue());
+    }
+
+    @Test
+    void invalidationOnlyDropsResponsesOfItsIndex() {
+        SearchCache classToTest = new SearchCache(60_000, 100, 1024 * 1024);
+        long movies = classToTest.stamp("movies");
+        long books = classToTest.stamp("books");
+        classToTest.invalidate("movies");
+        classToTest.put("movies", "a", "stale", movies);
+        classToTest.put("books", "a", "fresh", books);
+
+        assertThat(classToTest.get("movies", "a"), nullValue());
+        assertThat(classToTest.get("books", "a"), equalTo("fresh"));
+
+        classToTest.onWrite("/swap-indexes", null, null);
+        classToTest.put("books", "b", "stale", books);
+        assertThat(classToTest.get("books", "b"), nullValue());
+    }
+
+    @Test
+    void invalidationsOfDeletedIndexesAreForgotten() {
+        SearchCache classToTest = new SearchCache(60_000, 100, 1024 * 1024);
+        long stamp = classToTest.stamp("movies");
+        classToTest.invalidate("movies");
+        assertThat(classToTest.trackedIndexes(), equalTo(1));
+
+        classToTest.onWrite("/indexes/movies", null, null);
+        classToTest.put("movies", "a", "stale", stamp);
+        assertThat(classToTest.trackedIndexes(), equalTo(0));
+        assertThat(classToTest.get("movies", "a"), nullValue());
+
+        for (int i = 0; i <= IndexCache.MAX_TRACKED_INDEXES; i++) {
+            classToTest.invalidate("tenant-" + i);
+        }
+        assertThat(classToTest.trackedIndexes(), equalTo(0));
+    }
+}
@@ -69,7 +69,7 @@ class SearchRequestTest {
                         .setLimit(900)
                         .setAttributesToRetrieve(new String[] {"bubble"});
         String expected =
-                "{\"q\":\"This is a Test\",\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"limit\":900}";
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"]}";
 
         assertThat(classToTest.toString(), is(equalTo(expected)));
     }
@@ -84,7 +84,7 @@ class SearchRequestTest {
                         .offset(200)
                         .build();
         String expected =
-                "{\"q\":\"This is a Test\",\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"limit\":900}";
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"]}";
 
         assertThat(classToTest.toString(), is(equalTo(expected)));
     }
@@ -100,7 +100,7 @@ class SearchRequestTest {
                         .hitsPerPage(2)
                         .build();
         String expected =
-                "{\"q\":\"This is a Test\",\"offset\":0,\"hitsPerPage\":2,\"limit\":20,\"page\":10}";
+                "{\"q\":\"This is a Test\",\"offset\":0,\"limit\":20,\"page\":10,\"hitsPerPage\":2}";
 
         assertThat(classToTest.toString(), is(equalTo(expected)));
     }
@@ -229,7 +229,7 @@ class SearchRequestTest {
                         .setDistinct("distinct")
                         .setLocales(new String[] {"eng"});
         String expectedToString =
-                "{\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"cropMarker\":\"123\",\"hitsPerPage\":0,\"attributesToSearchOn\":[\"searchOn\"],\"distinct\":\"distinct\",\"sort\":[\"sort\"],\"highlightPreTag\":\"abc\",\"facets\":[\"facets\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"q\":\"This is a Test\",\"locales\":[\"eng\"],\"matchingStrategy\":\"all\",\"showMatchesPosition\":true,\"limit\":900,\"cropLength\":900,\"highlightPostTag\":\"zyx\",\"attributesToHighlight\":[\"highlight\"],\"page\":0,\"attributesToCrop\":[\"crop\"]}";
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"],\"attributesToCrop\":[\"crop\"],\"cropLength\":900,\"cropMarker\":\"123\",\"highlightPreTag\":\"abc\",\"highlightPostTag\":\"zyx\",\"matchingStrategy\":\"all\",\"attributesToHighlight\":[\"highlight\"],\"attributesToSearchOn\":[\"searchOn\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"showMatchesPosition\":true,\"facets\":[\"facets\"],\"sort\":[\"sort\"],\"page\":0,\"hitsPerPage\":0,\"locales\":[\"eng\"],\"distinct\":\"distinct\"}";
 
         assertThat(classToTest.getQ(), is(equalTo("This is a Test")));
         assertThat(classToTest.getOffset(), is(equalTo(200)));
@@ -285,7 +285,7 @@ class SearchRequestTest {
                         .distinct("distinct")
                         .build();
         String expectedToString =
-                "{\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"cropMarker\":\"123\",\"hitsPerPage\":0,\"attributesToSearchOn\":[\"searchOn\"],\"distinct\":\"distinct\",\"sort\":[\"sort\"],\"highlightPreTag\":\"abc\",\"facets\":[\"facets\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"q\":\"This is a Test\",\"locales\":[\"eng\"],\"matchingStrategy\":\"all\",\"showMatchesPosition\":true,\"limit\":900,\"cropLength\":900,\"highlightPostTag\":\"zyx\",\"attributesToHighlight\":[\"highlight\"],\"page\":0,\"attributesToCrop\":[\"crop\"]}";
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"],\"attributesToCrop\":[\"crop\"],\"cropLength\":900,\"cropMarker\":\"123\",\"highlightPreTag\":\"abc\",\"highlightPostTag\":\"zyx\",\"matchingStrategy\":\"all\",\"attributesToHighlight\":[\"highlight\"],\"attributesToSearchOn\":[\"searchOn\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"showMatchesPosition\":true,\"facets\":[\"facets\"],\"sort\":[\"sort\"],\"page\":0,\"hitsPerPage\":0,\"locales\":[\"eng\"],\"distinct\":\"distinct\"}";
 
         assertThat(classToTest.getQ(), is(equalTo("This is a Test")));
         assertThat(classToTest.getOffset(), is(equalTo(200)));
@@ -340,7 +340,7 @@ class SearchRequestTest {
                         .distinct("distinct")
                         .build();
         String expectedToString =
-                "{\"attributesToRetrieve\":[\"bubble\"],\"offset\":200,\"cropMarker\":\"123\",\"hitsPerPage\":0,\"attributesToSearchOn\":[\"searchOn\"],\"distinct\":\"distinct\",\"sort\":[\"sort\"],\"highlightPreTag\":\"abc\",\"facets\":[\"facets\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"q\":\"This is a Test\",\"showMatchesPosition\":true,\"limit\":900,\"cropLength\":900,\"highlightPostTag\":\"zyx\",\"attributesToHighlight\":[\"highlight\"],\"page\":0,\"attributesToCrop\":[\"crop\"]}";
+                "{\"q\":\"This is a Test\",\"offset\":200,\"limit\":900,\"attributesToRetrieve\":[\"bubble\"],\"attributesToCrop\":[\"crop\"],\"cropLength\":900,\"cropMarker\":\"123\",\"highlightPreTag\":\"abc\",\"highlightPostTag\":\"zyx\",\"attributesToHighlight\":[\"highlight\"],\"attributesToSearchOn\":[\"searchOn\"],\"filter\":[[\"test='test'\"],[\"test1='test1'\"]],\"showMatchesPosition\":true,\"facets\":[\"facets\"],\"sort\":[\"sort\"],\"page\":0,\"hitsPerPage\":0,\"distinct\":\"distinct\"}";
 
         assertThat(classToTest.getQ(), is(equalTo("This is a Test")));
         assertThat(classToTest.getOffset(), is(equalTo(200)));
@@ -0,0 +1,87 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class SettingsCacheTest {
+
+    @Test
+    void cachedSettingsAreServedUntilExpired() {
+        AtomicLong now = new AtomicLong();
+        SettingsCache classToTest = new SettingsCache(50, now::get);
+        classToTest.put("movies", "{\"rankingRules\":[]}", classToTest.stamp("movies"));
+
+        assertThat(classToTest.get("movies"), equalTo("{\"rankingRules\":[]}"));
+        assertThat(classToTest.get("books"), nullValue());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertThat(classToTest.get("movies"), equalTo("{\"rankingRules\":[]}"));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(classToTest.get("movies"), nullValue());
+        assertThat(classToTest.getHitCount(), equalTo(2L));
+        assertThat(classToTest.getMissCount(), equalTo(2L));
+        assertThat(classToTest.size(), equalTo(0));
+    }
+
+    @Test
+    void settingsWritesAndIndexDeletionsInvalidateTheIndex() {
+        SettingsCache classToTest = new SettingsCache(60_000);
+        classToTest.put("movies", "1", classToTest.stamp("movies"));
+        classToTest.put("books", "2", classToTest.stamp("books"));
+
+        classToTest.onWrite("/indexes/movies/documents?primaryKey=id", null, null);
+        classToTest.onWrite("/indexes/movies/search", null, null);
+        assertThat(classToTest.get("movies"), equalTo("1"));
+
+        classToTest.onWrite("/indexes/movies/settings/ranking-rules", null, null);
+        assertThat(classToTest.get("movies"), nullValue());
+        assertThat(classToTest.get("books"), equalTo("2"));
+
+        classToTest.onWrite("/indexes/books", null, null);
+        assertThat(classToTest.get("books"), nullValue());
+    }
+
+    @Test
+    void settingsRacingWithAnInvalidationAreNotCached() {
+        SettingsCache classToTest = new SettingsCache(60_000);
+        long stamp = classToTest.stamp("movies");
+        classToTest.onWrite("/swap-indexes", null, null);
+        classToTest.put("movies", "stale", stamp);
+
+        assertThat(classToTest.get("movies"), nullValue());
+
+        stamp = classToTest.stamp("movies");
+        classToTest.invalidate("books");
+        classToTest.put("movies", "fresh", stamp);
+        assertThat(classToTest.get("movies"), equalTo("fresh"));
+    }
+
+    @Test
+    void synonymsAreDecodedAlikeWithAndWithoutTheCache() {
+        Config config = new Config("http://localhost:7700", "masterKey");
+        HttpClient httpClient = spy(new HttpClient(config));
+        doReturn("{\"wolverine\":[\"xmen\",\"logan\"]}")
+                .when(httpClient)
+                .get(eq("/indexes/movies/settings/synonyms"), eq(String.class));
+        doReturn("{\"synonyms\":{\"wolverine\":[\"xmen\",\"logan\"]}}")
+                .when(httpClient)
+                .get(eq("/indexes/movies/settings"), eq(String.class));
+        SettingsHandler settings = new SettingsHandler(config, httpClient);
+
+        Map<String, String[]> uncached = settings.getSynonymsSettings("movies");
+        config.setSettingsCache(new SettingsCache(60_000));
+        Map<String, String[]> cached = settings.getSynonymsSettings("movies");
+
+        assertThat(uncached.get("wolverine"), equalTo(new String[] {"xmen", "logan"}));
+        assertThat(cached.get("wolverine"), equalTo(uncached.get("wolverine")));
+        assertThat(cached.keySet(), equalTo(uncached.keySet()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.meilisearch.sdk.model.EmbedderSource;
+import com.meilisearch.sdk.model.Embedders;
+import com.meilisearch.sdk.model.FacetSortValue;
+import com.meilisearch.sdk.model.Faceting;
+import com.meilisearch.sdk.model.Pagination;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.TypoTolerance;
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+class SettingsDiffTest {
+
+    private static Settings current() {
+        HashMap<String, String[]> synonyms = new HashMap<>();
+        synonyms.put("wolverine", new String[] {"xmen", "logan"});
+        HashMap<String, FacetSortValue> sorts = new HashMap<>();
+        sorts.put("*", FacetSortValue.ALPHA);
+        Faceting faceting = new Faceting();
+        faceting.setMaxValuesPerFacet(100);
+        faceting.setSortFacetValuesBy(sorts);
+        HashMap<String, Integer> minWordSizeForTypos = new HashMap<>();
+        minWordSizeForTypos.put("oneTypo", 5);
+        minWordSizeForTypos.put("twoTypos", 9);
+        return new Settings()
+                .setRankingRules(new String[] {"words", "typo", "proximity"})
+                .setFilterableAttributes(new String[] {"genre", "year"})
+                .setSearchableAttributes(new String[] {"title", "overview"})
+                .setSynonyms(synonyms)
+                .setStopWords(new String[0])
+                .setPagination(new Pagination(1000))
+                .setFaceting(faceting)
+                .setTypoTolerance(
+                        new TypoTolerance()
+                                .setMinWordSizeForTypos(minWordSizeForTypos)
+                                .setDisableOnWords(new String[0])
+                                .setDisableOnAttributes(new String[0]))
+                .setSearchCutoffMs(150);
+    }
+
+    @Test
+    void matchingSettingsNeedNoUpdate() {
+        HashMap<String, String[]> synonyms = new HashMap<>();
+        synonyms.put("wolverine", new String[] {"logan", "xmen"});
+        HashMap<String, FacetSortValue> sorts = new HashMap<>();
+        sorts.put("*", FacetSortValue.ALPHA);
+        Faceting faceting = new Faceting();
+        faceting.setMaxValuesPerFacet(100);
+        faceting.setSortFacetValuesBy(sorts);
+        Settings desired =
+                new Settings()
+                        .setRankingRules(new String[] {"words", "typo", "proximity"})
+                        .setFilterableAttributes(new String[] {"year", "genre"})
+                        .setSynonyms(synonyms)
+                        .setStopWords(new String[0])
+                        .setPagination(new Pagination(1000))
+                        .setFaceting(faceting)
+                        .setTypoTolerance(new TypoTolerance())
+                        .setSearchCutoffMs(150);
+
+        assertThat(SettingsDiff.diff(current(), desired), nullValue());
+    }
+
+    @Test
+    void onlyChangedFieldsArePatched() {
+        Settings desired =
+                new Settings()
+                        .setRankingRules(new String[] {"typo", "words", "proximity"})
+                        .setFilterableAttributes(new String[] {"year", "genre"})
+                        .setSearchableAttributes(new String[] {"overview", "title"})
+                        .setStopWords(new String[] {"the"})
+                        .setPagination(new Pagination(1000));
+
+        Settings patch = SettingsDiff.diff(current(), desired);
+
+        assertThat(patch, notNullValue());
+        assertThat(patch.getRankingRules(), equalTo(desired.getRankingRules()));
+        assertThat(patch.getSearchableAttributes(), equalTo(desired.getSearchableAttributes()));
+        assertThat(patch.getStopWords(), equalTo(new String[] {"the"}));
+        assertThat(patch.getFilterableAttributes(), nullValue());
+        assertThat(patch.getPagination(), nullValue());
+        assertThat(patch.getSynonyms(), nullValue());
+    }
+
+    @Test
+    void nestedSettingsAreComparedOnTheirFields() {
+        HashMap<String, Integer> minWordSizeForTypos = new HashMap<>();
+        minWordSizeForTypos.put("oneTypo", 4);
+        Settings desired =
+                new Settings()
+                        .setTypoTolerance(
+                                new TypoTolerance().setMinWordSizeForTypos(minWordSizeForTypos))
+                        .setSearchCutoffMs(150);
+
+        Settings patch = SettingsDiff.diff(current(), desired);
+
+        assertThat(patch, notNullValue());
+        assertThat(patch.getTypoTolerance(), equalTo(desired.getTypoTolerance()));
+        assertThat(patch.getSearchCutoffMs(), nullValue());
+    }
+
+    @Test
+    void embeddersAreMergedByName() {
+        HashMap<String, Embedders> existing = new HashMap<>();
+        existing.put(
+                "default",
+                new Embedders().setSource(EmbedderSource.OPEN_AI).setApiKey("XXX...").setModel("a"));
+        existing.put("manual", new Embedders().setSource(EmbedderSource.USER_PROVIDED));
+        HashMap<String, Embedders> desired = new HashMap<>();
+        desired.put("manual", new Embedders().setSource(EmbedderSource.USER_PROVIDED));
+        Settings current = current().setEmbedders(existing);
+
+        assertThat(SettingsDiff.diff(current, new Settings().setEmbedders(desired)), nullValue());
+
+        Embedders rotated = new Embedders().setApiKey("new-key");
+        desired.put("default", rotated);
+        Settings patch = SettingsDiff.diff(current, new Settings().setEmbedders(desired));
+
+        assertThat(patch, notNullValue());
+        assertThat(patch.getEmbedders(), aMapWithSize(1));
+        assertThat(patch.getEmbedders(), hasEntry("default", rotated));
+    }
+}
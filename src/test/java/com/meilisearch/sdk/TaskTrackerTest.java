@@ -0,0 +1,96 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksResults;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TaskTrackerTest {
+    private final GsonJsonHandler jsonHandler = new GsonJsonHandler();
+    private final TasksHandler tasksHandler = mock(TasksHandler.class);
+    private final TaskTracker classToTest = new TaskTracker(tasksHandler);
+
+    private TasksResults results(String tasks) {
+        return jsonHandler.decode("{\"results\":[" + tasks + "]}", TasksResults.class);
+    }
+
+    @Test
+    void pendingTasksArePolledTogether() throws Exception {
+        when(tasksHandler.getTasks(any()))
+                .thenReturn(
+                        results(
+                                "{\"uid\":1,\"status\":\"succeeded\"},"
+                                        + "{\"uid\":2,\"status\":\"enqueued\"}"))
+                .thenReturn(results("{\"uid\":2,\"status\":\"failed\"}"));
+
+        CompletableFuture<Task> first = classToTest.track(1, 50);
+        CompletableFuture<Task> second = classToTest.track(2, 50);
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.SUCCEEDED));
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.FAILED));
+        verify(tasksHandler, atMost(3)).getTasks(any());
+    }
+
+    @Test
+    void missingTaskFails() {
+        when(tasksHandler.getTasks(any())).thenReturn(results(""));
+
+        CompletableFuture<Task> future = classToTest.track(42, 50);
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), instanceOf(MeilisearchException.class));
+    }
+
+    @Test
+    void pollingErrorIsRetried() throws Exception {
+        when(tasksHandler.getTasks(any()))
+                .thenThrow(new MeilisearchException("unreachable"))
+                .thenReturn(results("{\"uid\":1,\"status\":\"succeeded\"}"));
+
+        CompletableFuture<Task> future = classToTest.track(1, 50);
+
+        assertThat(future.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.SUCCEEDED));
+    }
+
+    @Test
+    void persistentPollingErrorFailsPendingTasks() {
+        MeilisearchException error = new MeilisearchException("unreachable");
+        when(tasksHandler.getTasks(any())).thenThrow(error);
+
+        CompletableFuture<Task> future = new TaskTracker(tasksHandler, 0).track(1, 50);
+
+        ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), equalTo(error));
+    }
+
+    @Test
+    void taskIsTrackedUntilItsLastCallerCancels() {
+        when(tasksHandler.getTasks(any()))
+                .thenReturn(results("{\"uid\":1,\"status\":\"enqueued\"}"));
+
+        CompletableFuture<Task> first = classToTest.track(1, 10);
+        CompletableFuture<Task> second = classToTest.track(1, 1000);
+        first.cancel(false);
+
+        assertThat(classToTest.size(), equalTo(1));
+        second.cancel(false);
+        assertThat(classToTest.size(), equalTo(0));
+    }
+}
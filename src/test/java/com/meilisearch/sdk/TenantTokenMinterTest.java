@@ -0,0 +1,101 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth0.jwt.JWT;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TenantTokenMinterTest {
+    private static final String API_KEY = "a-search-api-key";
+    private final String apiKeyUid = UUID.randomUUID().toString();
+    private final TenantTokenMinter classToTest = new TenantTokenMinter(API_KEY, 3_600_000, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        classToTest.close();
+    }
+
+    /** Same rules, with the indexes inserted in the given order */
+    private static Map<String, Object> rules(String... indexes) {
+        Map<String, Object> rules = new LinkedHashMap<>();
+        for (String index : indexes) {
+            rules.put(
+                    index,
+                    index.equals("movies")
+                            ? Collections.singletonMap("filter", "tenant = 1")
+                            : new HashMap<>());
+        }
+        return rules;
+    }
+
+    @Test
+    void reusesTokenForEqualRules() throws Exception {
+        String token = classToTest.getToken(apiKeyUid, rules("movies", "books"));
+
+        assertThat(classToTest.getToken(apiKeyUid, rules("books", "movies")), is(equalTo(token)));
+        assertThat(classToTest.getHits(), is(equalTo(1L)));
+        assertThat(classToTest.getMisses(), is(equalTo(1L)));
+        assertThat(
+                classToTest.getToken(apiKeyUid, Collections.singletonMap("*", new HashMap<>())),
+                is(not(equalTo(token))));
+    }
+
+    @Test
+    void alignsExpiryOnBuckets() throws Exception {
+        long before = System.currentTimeMillis();
+        String token = classToTest.getToken(apiKeyUid, rules("movies", "books"));
+
+        long expiresAt = JWT.decode(token).getExpiresAt().getTime();
+        assertThat(expiresAt % 60_000, is(equalTo(0L)));
+        assertThat(expiresAt > before + 3_600_000, is(true));
+        assertThat(expiresAt <= before + 3_600_000 + 61_000, is(true));
+    }
+
+    @Test
+    void signsWithoutChangingDefaultTimeZone() throws Exception {
+        TimeZone timeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+            classToTest.getToken(apiKeyUid, rules("movies", "books"));
+
+            assertThat(TimeZone.getDefault().getID(), is(equalTo("Asia/Tokyo")));
+        } finally {
+            TimeZone.setDefault(timeZone);
+        }
+    }
+
+    @Test
+    void rejectsInvalidApiKeyUid() {
+        assertThrows(
+                MeilisearchException.class,
+                () -> classToTest.getToken("not-a-uuid", rules("movies", "books")));
+    }
+
+    @Test
+    void canonicalFormIgnoresKeyOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("b", Arrays.asList(1, "x"));
+        first.put("a", null);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("a", null);
+        second.put("b", Arrays.asList(1, "x"));
+
+        assertThat(
+                TenantTokenMinter.canonical(first),
+                is(equalTo(TenantTokenMinter.canonical(second))));
+        assertThat(TenantTokenMinter.canonical(first), is(equalTo("{\"a\":null,\"b\":[1,\"x\"]}")));
+    }
+}
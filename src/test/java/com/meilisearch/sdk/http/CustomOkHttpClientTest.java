@@ -1,9 +1,12 @@
 package com.meilisearch.sdk.http;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -11,15 +14,23 @@ import com.meilisearch.sdk.Config;
 import com.meilisearch.sdk.Version;
 import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
+import com.meilisearch.sdk.http.request.StreamingContents;
 import com.meilisearch.sdk.http.response.HttpResponse;
+import com.meilisearch.sdk.metrics.MetricsListener;
+import com.meilisearch.sdk.metrics.Route;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 import okhttp3.*;
 import okhttp3.internal.connection.RealCall;
 import okio.Buffer;
@@ -62,6 +73,14 @@ class CustomOkHttpClientTest {
                             return mockCall;
                         });
         when(mockCall.execute()).then(invocation -> responseQueue.poll());
+        doAnswer(
+                        invocation -> {
+                            Callback callback = invocation.getArgument(0);
+                            callback.onResponse(mockCall, responseQueue.poll());
+                            return null;
+                        })
+                .when(mockCall)
+                .enqueue(any());
     }
 
     @AfterEach
@@ -224,6 +243,80 @@ class CustomOkHttpClientTest {
                 equalTo(this.config.getHostUrl() + request.getPath()));
     }
 
+    @Test
+    void postAsync() throws Exception {
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), "some body");
+        HttpResponse<Object> response = classToTest.executeAsync(request).get();
+
+        assertThat(response.getStatusCode(), equalTo(200));
+        assertThat(response.getContent(), equalTo(request.getContent()));
+
+        Request expectedRequest = requestQueue.poll();
+        assertThat(expectedRequest, notNullValue());
+        assertThat(request.getContent(), equalTo(readBody(expectedRequest.body())));
+        assertThat(expectedRequest.method(), equalTo(request.getMethod().name()));
+        assertThat(
+                expectedRequest.url().toString(),
+                equalTo(this.config.getHostUrl() + request.getPath()));
+    }
+
+    @Test
+    void postStreamingContent() throws Exception {
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), null);
+        request.setStreamingContent(
+                StreamingContents.ndjson(
+                        Arrays.asList("{\"id\":1}", "{\"id\":2}"), config.getJsonHandler()));
+        HttpResponse<Object> response = classToTest.post(request);
+
+        assertThat(response.getStatusCode(), equalTo(200));
+
+        Request expectedRequest = requestQueue.poll();
+        assertThat(expectedRequest, notNullValue());
+        assertThat(
+                expectedRequest.body().contentType(),
+                equalTo(MediaType.get("application/x-ndjson")));
+        assertThat(readBody(expectedRequest.body()), equalTo("{\"id\":1}{\"id\":2}"));
+    }
+
+    @Test
+    void postCompressed() throws Exception {
+        Config compressedConfig = new Config("http://localhost:7700", "masterKey");
+        compressedConfig.setRequestCompression(
+                RequestCompression.builder().thresholdBytes(4).build());
+        CustomOkHttpClient compressedClient = new CustomOkHttpClient(compressedConfig, client);
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), "some body");
+        compressedClient.post(request);
+
+        Request expectedRequest = requestQueue.poll();
+        assertThat(expectedRequest, notNullValue());
+        assertThat(expectedRequest.header("Content-Encoding"), equalTo("gzip"));
+        Buffer buffer = new Buffer();
+        expectedRequest.body().writeTo(buffer);
+        try (InputStream body = new GZIPInputStream(buffer.inputStream())) {
+            assertThat(
+                    new BufferedReader(new InputStreamReader(body)).readLine(),
+                    equalTo("some body"));
+        }
+    }
+
+    @Test
+    void postBelowCompressionThreshold() throws Exception {
+        Config compressedConfig = new Config("http://localhost:7700", "masterKey");
+        compressedConfig.setRequestCompression(RequestCompression.builder().build());
+        CustomOkHttpClient compressedClient = new CustomOkHttpClient(compressedConfig, client);
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), "some body");
+        compressedClient.post(request);
+
+        Request expectedRequest = requestQueue.poll();
+        assertThat(expectedRequest, notNullValue());
+        assertThat(expectedRequest.header("Content-Encoding"), nullValue());
+        assertThat(readBody(expectedRequest.body()), equalTo("some body"));
+    }
+
     @Test
     void requestWithHeaders() throws Exception {
         Map<String, String> headers = new HashMap<String, String>();
@@ -237,6 +330,74 @@ class CustomOkHttpClientTest {
         assertThat(expectedRequest.headers().toString(), containsString("Meilisearch (v1.2.3)"));
     }
 
+    @Test
+    void rawSearchResponsesReportTheirProcessingTime() throws Exception {
+        List<Long> processingTimes = new ArrayList<>();
+        config.setMetricsListener(
+                new MetricsListener() {
+                    @Override
+                    public void onProcessingTime(Route route, long processingTimeMs) {
+                        processingTimes.add(processingTimeMs);
+                    }
+                });
+        String search = "{\"hits\":[],\"processingTimeMs\":3}";
+        String multiSearch =
+                "{\"results\":[{\"hits\":[],\"processingTimeMs\":4},"
+                        + "{\"hits\":[],\"processingTimeMs\":5}]}";
+
+        classToTest.post(
+                new HttpRequest(
+                        HttpMethod.POST, "/indexes/movies/search", Collections.emptyMap(), search));
+        classToTest.post(
+                new HttpRequest(
+                        HttpMethod.POST, "/multi-search", Collections.emptyMap(), multiSearch));
+        classToTest.post(
+                new HttpRequest(
+                        HttpMethod.POST,
+                        "/indexes/movies/documents",
+                        Collections.emptyMap(),
+                        search));
+
+        assertThat(processingTimes, contains(3L, 4L, 5L));
+    }
+
+    @Test
+    void sharedClientIsReusedForEqualSettings() {
+        OkHttpClient first =
+                CustomOkHttpClient.sharedClient(
+                        TransportSettings.builder().maxRequestsPerHost(32).build());
+        OkHttpClient second =
+                CustomOkHttpClient.sharedClient(
+                        TransportSettings.builder().maxRequestsPerHost(32).build());
+
+        assertThat(first, sameInstance(second));
+        assertThat(first.dispatcher().getMaxRequestsPerHost(), equalTo(32));
+        assertThat(first.connectionPool(), sameInstance(second.connectionPool()));
+    }
+
+    @Test
+    void requestsResolveAgainstThePathOfTheHost() throws Exception {
+        Config prefixed = new Config("http://localhost:7700/meilisearch/", "masterKey");
+        CustomOkHttpClient prefixedClient = new CustomOkHttpClient(prefixed, client);
+        HttpRequest request =
+                new HttpRequest(
+                        HttpMethod.GET, "/tasks?statuses=enqueued", prefixed.getHeaders(), null);
+
+        prefixedClient.get(request);
+        prefixed.getHeaders().put("X-Tenant", "acme");
+        prefixedClient.get(request);
+
+        Request second = requestQueue.poll();
+        Request first = requestQueue.poll();
+        assertThat(
+                first.url().toString(),
+                equalTo("http://localhost:7700/meilisearch/tasks?statuses=enqueued"));
+        assertThat(first.header("Authorization"), equalTo("Bearer masterKey"));
+        assertThat(first.header("X-Tenant"), nullValue());
+        assertThat(second.header("Authorization"), equalTo("Bearer masterKey"));
+        assertThat(second.header("X-Tenant"), equalTo("acme"));
+    }
+
     @Test
     void defaultConfigHasAnalytics() throws Exception {
         assertThat(
@@ -0,0 +1,61 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class HostPoolTest {
+
+    @Test
+    void selectsReplicaWithFewestOutstandingRequests() {
+        HostPool classToTest = new HostPool(Arrays.asList("http://a:7700", "http://b:7700"));
+
+        HostPool.Host first = classToTest.select();
+        HostPool.Host second = classToTest.select();
+
+        assertThat(second == first, is(false));
+        first.release(1_000_000, false);
+        assertThat(classToTest.select(), is(sameInstance(first)));
+    }
+
+    @Test
+    void prefersReplicaWithLowerLatency() {
+        HostPool classToTest = new HostPool(Arrays.asList("http://a:7700", "http://b:7700"));
+        HostPool.Host slow = classToTest.select();
+        slow.release(200_000_000, false);
+        HostPool.Host fast = classToTest.select();
+        fast.release(5_000_000, false);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(classToTest.select(), is(sameInstance(fast)));
+        }
+    }
+
+    @Test
+    void ejectsUnreachableReplica() {
+        HostPool classToTest = new HostPool(Collections.singletonList("http://a:7700"));
+
+        classToTest.select().release(1_000_000, true);
+
+        assertThat(classToTest.getHosts().get(0).isHealthy(), is(false));
+        assertThat(classToTest.select(), is(nullValue()));
+    }
+
+    @Test
+    void routesOnlyReadsToReplicas() {
+        assertThat(HostPool.isRead(HttpMethod.POST, "/indexes/movies/search"), is(true));
+        assertThat(HostPool.isRead(HttpMethod.GET, "/indexes/movies/search?q=a"), is(true));
+        assertThat(HostPool.isRead(HttpMethod.POST, "/multi-search"), is(true));
+        assertThat(HostPool.isRead(HttpMethod.GET, "/indexes/movies/documents/1"), is(true));
+        assertThat(HostPool.isRead(HttpMethod.POST, "/indexes/movies/documents/fetch"), is(true));
+        assertThat(HostPool.isRead(HttpMethod.POST, "/indexes/movies/documents"), is(false));
+        assertThat(HostPool.isRead(HttpMethod.GET, "/indexes/movies/settings"), is(false));
+        assertThat(HostPool.isRead(HttpMethod.GET, "/tasks/1"), is(false));
+    }
+}
@@ -0,0 +1,88 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import com.meilisearch.sdk.http.request.HttpRequest;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class RetrierTest {
+    private static final String HOST = "http://localhost:7700";
+
+    private static HttpRequest request(HttpMethod method, String path) {
+        return new HttpRequest(method, path, Collections.emptyMap(), "{}");
+    }
+
+    @Test
+    void retriesReadsOnTransientErrors() {
+        Retrier classToTest = new Retrier(RetryPolicy.defaults());
+        HttpRequest search = request(HttpMethod.POST, "/indexes/movies/search");
+
+        assertThat(classToTest.retry(search, HOST, 503, 1), is(true));
+        assertThat(classToTest.retry(search, HOST, 503, 3), is(false));
+        assertThat(classToTest.retry(search, HOST, 400, 1), is(false));
+        assertThat(
+                classToTest.retry(search, HOST, new SocketTimeoutException("timeout"), 1),
+                is(true));
+    }
+
+    @Test
+    void retriesWritesOnlyWhenNotSent() {
+        Retrier classToTest = new Retrier(RetryPolicy.defaults());
+        HttpRequest write = request(HttpMethod.POST, "/indexes/movies/documents");
+
+        assertThat(classToTest.retry(write, HOST, 503, 1), is(false));
+        assertThat(
+                classToTest.retry(write, HOST, new SocketTimeoutException("timeout"), 1),
+                is(false));
+        assertThat(classToTest.retry(write, HOST, new ConnectException("refused"), 1), is(true));
+
+        Retrier retryingWrites = new Retrier(RetryPolicy.builder().retryWrites(true).build());
+        assertThat(retryingWrites.retry(write, HOST, 503, 1), is(true));
+    }
+
+    @Test
+    void stopsRetryingOnceBudgetIsSpent() {
+        Retrier classToTest =
+                new Retrier(RetryPolicy.builder().budgetCapacity(2).failureThreshold(0).build());
+        HttpRequest get = request(HttpMethod.GET, "/indexes/movies/documents/1");
+
+        assertThat(classToTest.retry(get, HOST, 503, 1), is(true));
+        assertThat(classToTest.retry(get, HOST, 503, 1), is(true));
+        assertThat(classToTest.retry(get, HOST, 503, 1), is(false));
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailures() {
+        Retrier classToTest =
+                new Retrier(
+                        RetryPolicy.builder().failureThreshold(2).openDurationMs(60_000).build());
+        HttpRequest get = request(HttpMethod.GET, "/health");
+
+        assertThat(classToTest.allow(HOST, 1), is(true));
+        classToTest.retry(get, HOST, 503, 1);
+        classToTest.retry(get, HOST, new ConnectException("refused"), 2);
+
+        assertThat(classToTest.allow(HOST, 1), is(false));
+        assertThat(classToTest.allow("http://other:7700", 1), is(true));
+    }
+
+    @Test
+    void boundsDelays() {
+        Retrier classToTest =
+                new Retrier(RetryPolicy.builder().baseDelayMs(10).maxDelayMs(100).build());
+
+        long delay = 0;
+        for (int i = 0; i < 20; i++) {
+            delay = classToTest.nextDelayMs(delay);
+            assertThat(delay, is(allOf(greaterThanOrEqualTo(10L), lessThanOrEqualTo(100L))));
+        }
+    }
+}
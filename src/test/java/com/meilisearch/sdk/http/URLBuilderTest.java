@@ -125,4 +125,14 @@ public class URLBuilderTest {
 
         assertThat(classToTest.getURL(), is(equalTo("/routes?parameter=value")));
     }
+
+    @Test
+    void addParameterEncodesValues() {
+        classToTest.addParameter("filter", "genre = 'sci fi' & year > 2000");
+        classToTest.addParameter("names", new String[] {"a,b", "é"});
+
+        String expected =
+                "?filter=genre%20%3D%20'sci%20fi'%20%26%20year%20%3E%202000&names=a%2Cb,%C3%A9";
+        assertThat(classToTest.getParams().toString(), is(equalTo(expected)));
+    }
 }
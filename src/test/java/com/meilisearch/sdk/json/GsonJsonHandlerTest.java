@@ -17,7 +17,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.google.gson.JsonElement;
 import com.meilisearch.sdk.exceptions.JsonEncodingException;
 import com.meilisearch.sdk.model.Key;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.SearchHit;
+import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.model.SearchResultPaginated;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TypedSearchResult;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
@@ -150,6 +162,123 @@ class GsonJsonHandlerTest {
         assertThrows(Exception.class, () -> classToTest.decode(null, List.class, String.class));
     }
 
+    @Test
+    void deserializeStream() {
+        InputStream stream =
+                new ByteArrayInputStream(
+                        "{\"results\":[{\"id\":\"1\",\"title\":\"Foo\"}],\"limit\":20,\"total\":1}"
+                                .getBytes(StandardCharsets.UTF_8));
+
+        Results<Movie> results = classToTest.decode(stream, Results.class, Movie.class);
+
+        assertThat(results.getTotal(), is(equalTo(1)));
+        assertThat(results.getResults()[0].getTitle(), is(equalTo("Foo")));
+    }
+
+    @Test
+    void deserializeStreamAsString() {
+        String content = "{\"title\":\"Ä\"}";
+        InputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(classToTest.decode(stream, String.class), is(equalTo(content)));
+    }
+
+    @Test
+    void deserializeTaskInfo() {
+        TaskInfo taskInfo =
+                classToTest.decode(
+                        "{\"taskUid\":12,\"indexUid\":null,\"status\":\"enqueued\",\"type\":\"documentAdditionOrUpdate\",\"enqueuedAt\":\"2021-08-12T10:00:00Z\",\"unknown\":[1]}",
+                        TaskInfo.class);
+
+        assertThat(taskInfo.getTaskUid(), is(equalTo(12)));
+        assertThat(taskInfo.getIndexUid(), is(nullValue()));
+        assertThat(taskInfo.getStatus(), is(equalTo(TaskStatus.ENQUEUED)));
+        assertThat(taskInfo.getType(), is(equalTo("documentAdditionOrUpdate")));
+        assertThat(
+                taskInfo.getEnqueuedAt(),
+                is(equalTo(Date.from(Instant.parse("2021-08-12T10:00:00Z")))));
+    }
+
+    @Test
+    void deserializeSearchResult() {
+        SearchResult result =
+                classToTest.decode(
+                        "{\"hits\":[{\"id\":\"1\",\"title\":\"Foo\"}],\"facetStats\":{\"year\":{\"min\":1,\"max\":2}},\"processingTimeMs\":3,\"query\":\"foo\",\"offset\":0,\"limit\":20,\"estimatedTotalHits\":1}",
+                        SearchResult.class);
+
+        assertThat(result.getHits().get(0).get("title"), is(equalTo("Foo")));
+        assertThat(result.getFacetStats().get("year").getMax(), is(equalTo(2.0)));
+        assertThat(result.getFacetDistribution(), is(nullValue()));
+        assertThat(result.getProcessingTimeMs(), is(equalTo(3)));
+        assertThat(result.getQuery(), is(equalTo("foo")));
+        assertThat(result.getLimit(), is(equalTo(20)));
+        assertThat(result.getEstimatedTotalHits(), is(equalTo(1)));
+    }
+
+    @Test
+    void deserializeSearchResultPaginated() {
+        SearchResultPaginated result =
+                classToTest.decode(
+                        "{\"hits\":[{\"id\":\"1\"}],\"query\":\"foo\",\"processingTimeMs\":3,\"hitsPerPage\":20,\"page\":2,\"totalPages\":4,\"totalHits\":61}",
+                        SearchResultPaginated.class);
+
+        assertThat(result.getHits().get(0).get("id"), is(equalTo("1")));
+        assertThat(result.getQuery(), is(equalTo("foo")));
+        assertThat(result.getProcessingTimeMs(), is(equalTo(3)));
+        assertThat(result.getPage(), is(equalTo(2)));
+        assertThat(result.getTotalHits(), is(equalTo(61)));
+    }
+
+    @Test
+    void deserializeSettings() {
+        Settings settings =
+                classToTest.decode(
+                        "{\"synonyms\":{\"wolverine\":[\"logan\"]},\"rankingRules\":[\"words\"],\"distinctAttribute\":null,\"typoTolerance\":{\"enabled\":false},\"searchCutoffMs\":150,\"unknown\":{}}",
+                        Settings.class);
+
+        assertThat(settings.getSynonyms().get("wolverine"), is(arrayContaining("logan")));
+        assertThat(settings.getRankingRules(), is(arrayContaining("words")));
+        assertThat(settings.getDistinctAttribute(), is(nullValue()));
+        assertThat(settings.getTypoTolerance().isEnabled(), is(equalTo(false)));
+        assertThat(settings.getSearchCutoffMs(), is(equalTo(150)));
+        assertThat(settings.getStopWords(), is(nullValue()));
+        assertThat(
+                classToTest.encode(settings),
+                is(
+                        equalTo(
+                                "{\"synonyms\":{\"wolverine\":[\"logan\"]},\"rankingRules\":[\"words\"],\"typoTolerance\":{\"enabled\":false},\"searchCutoffMs\":150}")));
+    }
+
+    @Test
+    void deserializeResults() {
+        Results<Key> results =
+                classToTest.decode(
+                        "{\"results\":[{\"uid\":\"1\",\"actions\":[\"search\"]}],\"offset\":0,\"limit\":20,\"total\":1}",
+                        Results.class,
+                        Key.class);
+        Key[] keys = results.getResults();
+
+        assertThat(keys, is(arrayWithSize(1)));
+        assertThat(keys[0].getUid(), is(equalTo("1")));
+        assertThat(keys[0].getActions(), is(arrayContaining("search")));
+        assertThat(results.getLimit(), is(equalTo(20)));
+        assertThat(results.getTotal(), is(equalTo(1)));
+    }
+
+    @Test
+    void serializeOmitsNullFields() {
+        TaskInfo taskInfo =
+                classToTest.decode(
+                        "{\"taskUid\":12,\"indexUid\":\"movies\",\"status\":\"enqueued\"}",
+                        TaskInfo.class);
+        Task task = classToTest.decode("{\"uid\":3,\"duration\":null}", Task.class);
+
+        assertThat(
+                classToTest.encode(taskInfo),
+                is(equalTo("{\"status\":\"enqueued\",\"taskUid\":12,\"indexUid\":\"movies\"}")));
+        assertThat(classToTest.encode(task), is(equalTo("{\"uid\":3,\"indexUid\":\"\"}")));
+    }
+
     @Test
     @SuppressWarnings({"RedundantArrayCreation", "ConfusingArgumentToVarargsMethod"})
     void deserializeWithParametersEmpty() throws Exception {
@@ -284,4 +413,21 @@ class GsonJsonHandlerTest {
         private Key key;
         private Boolean enabled;
     }
+
+    @Test
+    void deserializeTypedSearchResult() {
+        TypedSearchResult<Movie> result =
+                classToTest.decode(
+                        "{\"hits\":[{\"id\":\"1\",\"title\":\"Foo\",\"_formatted\":{\"id\":\"1\",\"title\":\"<em>Foo</em>\"},\"_rankingScore\":0.5,\"_matchesPosition\":{\"title\":[{\"start\":0,\"length\":3}]}}],\"query\":\"foo\",\"limit\":20,\"estimatedTotalHits\":1}",
+                        TypedSearchResult.class,
+                        Movie.class);
+        SearchHit<Movie> hit = result.getHits().get(0);
+
+        assertThat(hit.getDocument().getTitle(), is(equalTo("Foo")));
+        assertThat(hit.getDocument().getFormatted(), is(nullValue()));
+        assertThat(hit.getFormatted().getTitle(), is(equalTo("<em>Foo</em>")));
+        assertThat(hit.getRankingScore(), is(equalTo(0.5)));
+        assertThat(hit.getMatchesPosition().get("title").get(0).getLength(), is(equalTo(3)));
+        assertThat(result.getEstimatedTotalHits(), is(equalTo(1)));
+    }
 }
@@ -2,9 +2,12 @@ package com.meilisearch.sdk.json;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,7 +15,22 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import com.meilisearch.sdk.model.Key;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.SearchHit;
+import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TypedSearchResult;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -48,6 +66,27 @@ class JacksonJsonHandlerTest {
         assertThrows(Exception.class, () -> classToTest.decode(null, List.class, String.class));
     }
 
+    @Test
+    void deserializeStream() {
+        InputStream stream =
+                new ByteArrayInputStream(
+                        "{\"results\":[{\"id\":\"1\",\"title\":\"Foo\"}],\"limit\":20,\"total\":1}"
+                                .getBytes(StandardCharsets.UTF_8));
+
+        Results<Movie> results = classToTest.decode(stream, Results.class, Movie.class);
+
+        assertThat(results.getTotal(), is(equalTo(1)));
+        assertThat(results.getResults()[0].getTitle(), is(equalTo("Foo")));
+    }
+
+    @Test
+    void deserializeStreamAsString() {
+        String content = "{\"title\":\"Ä\"}";
+        InputStream stream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(classToTest.decode(stream, String.class), is(equalTo(content)));
+    }
+
     @Test
     @SuppressWarnings({"RedundantArrayCreation", "ConfusingArgumentToVarargsMethod"})
     void deserializeWithParametersEmpty() throws Exception {
@@ -65,4 +104,97 @@ class JacksonJsonHandlerTest {
         assertThat(decode, notNullValue());
         assertThat(decode, aMapWithSize(3));
     }
+
+    @Test
+    void deserializeTask() {
+        Task task =
+                new JacksonJsonHandler()
+                        .decode(
+                                "{\"uid\":12,\"indexUid\":\"movies\",\"status\":\"failed\",\"type\":\"settingsUpdate\",\"error\":{\"code\":\"invalid_settings\"},\"enqueuedAt\":\"2021-08-12T10:00:00Z\",\"startedAt\":null,\"unknown\":[1]}",
+                                Task.class);
+
+        assertThat(task.getUid(), is(equalTo(12)));
+        assertThat(task.getIndexUid(), is(equalTo("movies")));
+        assertThat(task.getStatus(), is(equalTo(TaskStatus.FAILED)));
+        assertThat(task.getError().getCode(), is(equalTo("invalid_settings")));
+        assertThat(
+                task.getEnqueuedAt(),
+                is(equalTo(Date.from(Instant.parse("2021-08-12T10:00:00Z")))));
+        assertThat(task.getStartedAt(), is(nullValue()));
+    }
+
+    @Test
+    void deserializeSearchResult() {
+        SearchResult result =
+                new JacksonJsonHandler()
+                        .decode(
+                                "{\"hits\":[{\"id\":\"1\",\"title\":\"Foo\"}],\"facetStats\":{\"year\":{\"min\":1,\"max\":2}},\"processingTimeMs\":3,\"query\":\"foo\",\"offset\":0,\"limit\":20,\"estimatedTotalHits\":null}",
+                                SearchResult.class);
+
+        assertThat(result.getHits().get(0).get("title"), is(equalTo("Foo")));
+        assertThat(result.getFacetStats().get("year").getMax(), is(equalTo(2.0)));
+        assertThat(result.getProcessingTimeMs(), is(equalTo(3)));
+        assertThat(result.getLimit(), is(equalTo(20)));
+        assertThat(result.getEstimatedTotalHits(), is(equalTo(0)));
+    }
+
+    @Test
+    void deserializeSettings() {
+        Settings settings =
+                new JacksonJsonHandler()
+                        .decode(
+                                "{\"synonyms\":{\"wolverine\":[\"logan\"]},\"rankingRules\":[\"words\"],\"distinctAttribute\":null,\"typoTolerance\":{\"enabled\":false},\"searchCutoffMs\":150,\"unknown\":{}}",
+                                Settings.class);
+
+        assertThat(settings.getSynonyms().get("wolverine"), is(arrayContaining("logan")));
+        assertThat(settings.getRankingRules(), is(arrayContaining("words")));
+        assertThat(settings.getDistinctAttribute(), is(nullValue()));
+        assertThat(settings.getTypoTolerance().isEnabled(), is(equalTo(false)));
+        assertThat(settings.getSearchCutoffMs(), is(equalTo(150)));
+        assertThat(settings.getStopWords(), is(nullValue()));
+    }
+
+    @Test
+    void deserializeResultsOfKeys() {
+        Results<Key> results =
+                new JacksonJsonHandler()
+                        .decode(
+                                "{\"results\":[{\"uid\":\"1\",\"actions\":[\"search\"],\"expiresAt\":null,\"createdAt\":\"2021-08-12T10:00:00Z\"}],\"offset\":0,\"limit\":20,\"total\":1}",
+                                Results.class,
+                                Key.class);
+        Key[] keys = results.getResults();
+
+        assertThat(keys, is(arrayWithSize(1)));
+        assertThat(keys[0].getUid(), is(equalTo("1")));
+        assertThat(keys[0].getActions(), is(arrayContaining("search")));
+        assertThat(keys[0].getExpiresAt(), is(nullValue()));
+        assertThat(
+                keys[0].getCreatedAt(),
+                is(equalTo(Date.from(Instant.parse("2021-08-12T10:00:00Z")))));
+        assertThat(results.getTotal(), is(equalTo(1)));
+    }
+
+    @Test
+    void deserializeNonObjectAsTaskInfoFails() {
+        assertThrows(
+                JsonDecodingException.class,
+                () -> new JacksonJsonHandler().decode("[1]", TaskInfo.class));
+    }
+
+    @Test
+    void deserializeTypedSearchResult() {
+        TypedSearchResult<Movie> result =
+                new JacksonJsonHandler().decode(
+                        "{\"hits\":[{\"id\":\"1\",\"title\":\"Foo\",\"_formatted\":{\"id\":\"1\",\"title\":\"<em>Foo</em>\"},\"_rankingScore\":0.5,\"_matchesPosition\":{\"title\":[{\"start\":0,\"length\":3}]}}],\"query\":\"foo\",\"limit\":20,\"estimatedTotalHits\":1}",
+                        TypedSearchResult.class,
+                        Movie.class);
+        SearchHit<Movie> hit = result.getHits().get(0);
+
+        assertThat(hit.getDocument().getTitle(), is(equalTo("Foo")));
+        assertThat(hit.getDocument().getFormatted(), is(nullValue()));
+        assertThat(hit.getFormatted().getTitle(), is(equalTo("<em>Foo</em>")));
+        assertThat(hit.getRankingScore(), is(equalTo(0.5)));
+        assertThat(hit.getMatchesPosition().get("title").get(0).getLength(), is(equalTo(3)));
+        assertThat(result.getEstimatedTotalHits(), is(equalTo(1)));
+    }
 }
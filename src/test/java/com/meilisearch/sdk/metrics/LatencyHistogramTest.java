@@ -0,0 +1,55 @@
+package com.meilisearch.sdk.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void reportsPercentilesWithinRelativeError() {
+        LatencyHistogram classToTest = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            classToTest.record(value * 1_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = classToTest.snapshot();
+
+        assertThat(snapshot.getCount(), is(equalTo(10_000L)));
+        assertThat(snapshot.getMax(), is(equalTo(10_000_000L)));
+        assertThat(snapshot.getMean(), is(equalTo(5_000_500.0)));
+        assertThat(
+                snapshot.getValueAtPercentile(50),
+                is(allOf(greaterThanOrEqualTo(5_000_000L), lessThanOrEqualTo(5_312_500L))));
+        assertThat(
+                snapshot.getValueAtPercentile(99),
+                is(allOf(greaterThanOrEqualTo(9_900_000L), lessThanOrEqualTo(10_000_000L))));
+        assertThat(snapshot.getValueAtPercentile(100), is(equalTo(10_000_000L)));
+    }
+
+    @Test
+    void bucketsCoverEveryValue() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1_000_003, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucket(value);
+
+            assertThat(LatencyHistogram.highestValue(bucket), is(greaterThanOrEqualTo(value)));
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.highestValue(bucket - 1) < value, is(true));
+            }
+        }
+    }
+
+    @Test
+    void emptySnapshotReportsZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThat(snapshot.getCount(), is(equalTo(0L)));
+        assertThat(snapshot.getValueAtPercentile(99), is(equalTo(0L)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.meilisearch.sdk.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import org.junit.jupiter.api.Test;
+
+class RouteTest {
+
+    @Test
+    void replacesIdentifiersInPath() {
+        Route search = Route.of(HttpMethod.POST, "/indexes/movies/search");
+        Route document = Route.of(HttpMethod.GET, "/indexes/movies/documents/42?fields=id");
+        Route fetch = Route.of(HttpMethod.POST, "/indexes/movies/documents/fetch");
+        Route task = Route.of(HttpMethod.GET, "/tasks/12");
+
+        assertThat(search.getOperation(), is(equalTo("POST /indexes/{indexUid}/search")));
+        assertThat(search.getIndexUid(), is(equalTo("movies")));
+        assertThat(
+                document.getOperation(),
+                is(equalTo("GET /indexes/{indexUid}/documents/{documentId}")));
+        assertThat(fetch.getOperation(), is(equalTo("POST /indexes/{indexUid}/documents/fetch")));
+        assertThat(task.getOperation(), is(equalTo("GET /tasks/{taskUid}")));
+        assertThat(task.getIndexUid(), is(nullValue()));
+    }
+}
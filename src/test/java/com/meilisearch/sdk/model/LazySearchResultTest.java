@@ -0,0 +1,73 @@
+package com.meilisearch.sdk.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class LazySearchResultTest {
+    private static final String RESPONSE =
+            "{\"hits\": [\n"
+                    + "  {\"id\": 1, \"title\": \"Carol\", \"price\": 12.5, \"stock\": 3.0,"
+                    + " \"tags\": [\"a\", \"]\"],"
+                    + " \"_formatted\": {\"title\": \"<em>Carol</em>\"}},\n"
+                    + "  {\"id\": -2, \"title\": \"Caf\u00e9 \\\"L\\u00e0\\\"\\n\","
+                    + " \"price\": null,"
+                    + " \"available\": true}\n"
+                    + "],"
+                    + " \"query\": \"car\", \"processingTimeMs\": 4, \"limit\": 20, \"offset\": 0,"
+                    + " \"estimatedTotalHits\": 2, \"facetDistribution\": {\"genre\": {\"x\": 1}}}";
+
+    private final LazySearchResult result =
+            new LazySearchResult(RESPONSE.getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void indexesEnvelopeAndHits() {
+        assertThat(result.getHitCount(), is(equalTo(2)));
+        assertThat(result.getHits().size(), is(equalTo(2)));
+        assertThat(result.getQuery(), is(equalTo("car")));
+        assertThat(result.getProcessingTimeMs(), is(equalTo(4L)));
+        assertThat(result.getLimit(), is(equalTo(20)));
+        assertThat(result.getEstimatedTotalHits(), is(equalTo(2)));
+        assertThat(result.getTotalPages(), is(equalTo(0)));
+        assertThat(result.getRaw("facetDistribution"), is(equalTo("{\"genre\": {\"x\": 1}}")));
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getHit(2));
+    }
+
+    @Test
+    void readsFieldsOfHits() {
+        HitView first = result.getHit(0);
+        assertThat(first.getLong("id"), is(equalTo(1L)));
+        assertThat(first.getString("title"), is(equalTo("Carol")));
+        assertThat(first.getDouble("price"), is(equalTo(12.5)));
+        assertThat(first.getLong("stock"), is(equalTo(3L)));
+        assertThat(first.getRaw("tags"), is(equalTo("[\"a\", \"]\"]")));
+        assertThat(first.getObject("_formatted").getString("title"), is(equalTo("<em>Carol</em>")));
+
+        HitView second = result.getHits().get(1);
+        assertThat(second.getLong("id"), is(equalTo(-2L)));
+        assertThat(second.getString("title"), is(equalTo("Caf\u00e9 \"L\u00e0\"\n")));
+        assertThat(second.isNull("price"), is(true));
+        assertThat(second.has("price"), is(true));
+        assertThat(second.getDouble("price", -1), is(equalTo(-1.0)));
+        assertThat(second.getBoolean("available", false), is(true));
+        assertThat(second.getString("missing"), is(nullValue()));
+        assertThat(second.getObject("_formatted"), is(nullValue()));
+    }
+
+    @Test
+    void rejectsMismatchedTypes() {
+        HitView first = result.getHit(0);
+        assertThrows(JsonDecodingException.class, () -> first.getLong("title"));
+        assertThrows(JsonDecodingException.class, () -> first.getLong("price"));
+        assertThrows(JsonDecodingException.class, () -> first.getDouble("missing"));
+        assertThrows(
+                JsonDecodingException.class,
+                () -> new LazySearchResult("[]".getBytes(StandardCharsets.UTF_8)));
+    }
+}